@@ -0,0 +1,76 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.olaaref.weather.aop.logger.advice.after.LogAfter;
+import com.olaaref.weather.aop.logger.advice.around.LogAround;
+import com.olaaref.weather.aop.logger.advice.before.LogBefore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link LogAround}, {@link LogBefore} and {@link LogAfter} on a trivial method compared with
+ * the same method called without advice.
+ * <p>
+ * With {@code loggerLevel=OFF} the advice should stay close to the plain Spring AOP proxy cost and allocate
+ * nothing; with {@code loggerLevel=DEBUG} every message is rendered and handed to a no-op appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvisedCallBenchmark {
+
+    @Param({"OFF", "DEBUG"})
+    private String loggerLevel;
+
+    private Calculator advised;
+
+    private Calculator plain;
+
+    private int operand;
+
+    @Setup(Level.Trial)
+    public void setUp(AopLoggerState aopLoggerState) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.getLogger(Calculator.class)
+                .setLevel(ch.qos.logback.classic.Level.toLevel(loggerLevel));
+
+        advised = aopLoggerState.getBean(Calculator.class);
+        plain = new Calculator();
+    }
+
+    @Benchmark
+    public int unadvised() {
+        return plain.incrementAround(operand++);
+    }
+
+    @Benchmark
+    public int logAround() {
+        return advised.incrementAround(operand++);
+    }
+
+    @Benchmark
+    public int logBefore() {
+        return advised.incrementBefore(operand++);
+    }
+
+    @Benchmark
+    public int logAfter() {
+        return advised.incrementAfter(operand++);
+    }
+}
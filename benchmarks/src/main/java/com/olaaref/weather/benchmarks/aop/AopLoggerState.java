@@ -0,0 +1,58 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.config.AopLoggersConfiguration;
+import com.olaaref.weather.aop.logger.properties.ReflectionToStringProperties;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Spring context holding the aop-logger beans, shared by the benchmarks of a trial.
+ * <p>
+ * {@link SampleLocation} is registered as a reflection base class, so it is rendered the way entities are
+ * rendered by the weather service.
+ */
+@State(Scope.Benchmark)
+public class AopLoggerState {
+
+    private AnnotationConfigApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                ReflectionToStringProperties.PREFIX + ".base-classes", SampleLocation.class.getName()
+        )));
+        context.register(BenchmarkConfig.class);
+        context.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableAspectJAutoProxy
+    @Import(AopLoggersConfiguration.class)
+    static class BenchmarkConfig {
+        @Bean
+        public Calculator calculator() {
+            return new Calculator();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.advice.after.LogAfter;
+import com.olaaref.weather.aop.logger.advice.around.LogAround;
+import com.olaaref.weather.aop.logger.advice.before.LogBefore;
+
+/**
+ * Trivial target of the advised call benchmarks, so the measured time is the cost of the advice.
+ */
+public class Calculator {
+
+    @LogAround
+    public int incrementAround(int value) {
+        return value + 1;
+    }
+
+    @LogBefore
+    public int incrementBefore(int value) {
+        return value + 1;
+    }
+
+    @LogAfter
+    public int incrementAfter(int value) {
+        return value + 1;
+    }
+}
@@ -0,0 +1,80 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.annotation.DoNotLog;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.registrar.JoinPointStringSupplierRegistrar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link JoinPointStringSupplierRegistrar}: registering a join point and rendering its {@code method}
+ * and {@code parameters} variables, with a plain parameter, a parameter hidden by {@link DoNotLog}, and a parameter
+ * whose fields are filtered by {@code @DoNotLog(parameters = ...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinPointStringSupplierRegistrarBenchmark {
+
+    @Param({"PLAIN", "DO_NOT_LOG", "DO_NOT_LOG_FIELDS"})
+    private String parameterMode;
+
+    private JoinPointStringSupplierRegistrar registrar;
+
+    private StubJoinPoint joinPoint;
+
+    @Setup(Level.Trial)
+    public void setUp(AopLoggerState aopLoggerState) throws NoSuchMethodException {
+        registrar = aopLoggerState.getBean(JoinPointStringSupplierRegistrar.class);
+
+        String methodName = switch (parameterMode) {
+            case "PLAIN" -> "update";
+            case "DO_NOT_LOG" -> "updateHidden";
+            case "DO_NOT_LOG_FIELDS" -> "updateFiltered";
+            default -> throw new IllegalArgumentException(parameterMode);
+        };
+        Method method = LocationUpdater.class.getMethod(methodName, String.class, SampleLocation.class);
+        joinPoint = new StubJoinPoint(new LocationUpdater(), method, "NYC_USA", SampleLocation.newYork());
+    }
+
+    @Benchmark
+    public void registerAndRender(Blackhole blackhole) {
+        StringSupplierLookup lookup = new StringSupplierLookup();
+        registrar.register(lookup, joinPoint);
+        blackhole.consume(lookup.lookup(LookupVariable.METHOD));
+        blackhole.consume(lookup.lookup(LookupVariable.PARAMETERS));
+    }
+
+    public static class LocationUpdater {
+
+        public SampleLocation update(String code, SampleLocation location) {
+            return location;
+        }
+
+        public SampleLocation updateHidden(String code, @DoNotLog SampleLocation location) {
+            return location;
+        }
+
+        public SampleLocation updateFiltered(String code, @DoNotLog(parameters = {"cityName"}) SampleLocation location) {
+            return location;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.template.interpolation.converter.ReflectionToStringConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ReflectionToStringConverter} on an entity-like object, including the excluded
+ * {@code password} field and the null, empty and zero value checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionToStringConverterBenchmark {
+
+    private ReflectionToStringConverter converter;
+
+    private final SampleLocation location = SampleLocation.newYork();
+
+    @Setup(Level.Trial)
+    public void setUp(AopLoggerState aopLoggerState) {
+        converter = aopLoggerState.getBean(ReflectionToStringConverter.class);
+    }
+
+    @Benchmark
+    public boolean supports() {
+        return converter.supports(location);
+    }
+
+    @Benchmark
+    public String render() {
+        return converter.toString(location);
+    }
+}
@@ -0,0 +1,70 @@
+package com.olaaref.weather.benchmarks.aop;
+
+/**
+ * Mirrors the fields of the weather service's {@code Location} entity, plus a field excluded from logs by default.
+ */
+public class SampleLocation {
+
+    private final String code;
+
+    private final String cityName;
+
+    private final String regionName;
+
+    private final String countryName;
+
+    private final String countryCode;
+
+    private final boolean enabled;
+
+    private final boolean trashed;
+
+    private final String password;
+
+    public SampleLocation(String code, String cityName, String regionName, String countryName, String countryCode) {
+        this.code = code;
+        this.cityName = cityName;
+        this.regionName = regionName;
+        this.countryName = countryName;
+        this.countryCode = countryCode;
+        this.enabled = true;
+        this.trashed = false;
+        this.password = "secret";
+    }
+
+    public static SampleLocation newYork() {
+        return new SampleLocation("NYC_USA", "New York City", "New York", "United States of America", "US");
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getCityName() {
+        return cityName;
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    public String getCountryName() {
+        return countryName;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isTrashed() {
+        return trashed;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+}
@@ -0,0 +1,58 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
+import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringSubstitutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StringSubstitutor#substitute} with the default entering template, for built-in variables
+ * resolved by slot and for custom keys registered as suppliers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringSubstitutorBenchmark {
+
+    private static final String BUILT_IN_TEMPLATE = "Entering [{method}] with parameters [{parameters}]";
+
+    private static final String CUSTOM_TEMPLATE = "Entering [{operation}] for client [{client}]";
+
+    private static final ValueRenderer<String> IDENTITY = (source, renderLimits) -> source;
+
+    private final StringSubstitutor stringSubstitutor = new StringSubstitutor();
+
+    private final String method = "LocationDto getLocation(String)";
+
+    private final String parameters = "NYC_USA";
+
+    @Benchmark
+    public String builtInVariables() {
+        StringSupplierLookup lookup = new StringSupplierLookup();
+        lookup.addSource(LookupVariable.METHOD, method, IDENTITY);
+        lookup.addSource(LookupVariable.PARAMETERS, parameters, IDENTITY);
+        return stringSubstitutor.substitute(BUILT_IN_TEMPLATE, lookup);
+    }
+
+    @Benchmark
+    public String customVariables() {
+        StringSupplierLookup lookup = new StringSupplierLookup();
+        lookup.addStringSupplier("operation", () -> method);
+        lookup.addStringSupplier("client", () -> parameters);
+        return stringSubstitutor.substitute(CUSTOM_TEMPLATE, lookup);
+    }
+}
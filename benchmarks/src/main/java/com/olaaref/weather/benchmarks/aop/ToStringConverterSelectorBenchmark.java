@@ -0,0 +1,69 @@
+package com.olaaref.weather.benchmarks.aop;
+
+import com.olaaref.weather.aop.logger.template.interpolation.converter.ToStringConverter;
+import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@code DefaultToStringConverterSelector} takes to pick a converter, and how long the selected
+ * converter takes to render the value with the default render limits, for the value types seen in the weather
+ * service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToStringConverterSelectorBenchmark {
+
+    @Param({"STRING", "POJO", "LIST", "PAGE", "OPTIONAL", "ARRAY"})
+    private String valueType;
+
+    private ToStringConverterSelector selector;
+
+    private Object value;
+
+    @Setup(Level.Trial)
+    public void setUp(AopLoggerState aopLoggerState) {
+        selector = aopLoggerState.getBean(ToStringConverterSelector.class);
+
+        List<SampleLocation> locations = List.of(SampleLocation.newYork(), SampleLocation.newYork(), SampleLocation.newYork());
+        value = switch (valueType) {
+            case "STRING" -> "NYC_USA";
+            case "POJO" -> SampleLocation.newYork();
+            case "LIST" -> locations;
+            case "PAGE" -> new PageImpl<>(locations, PageRequest.of(0, 20), 3);
+            case "OPTIONAL" -> Optional.of(SampleLocation.newYork());
+            case "ARRAY" -> locations.toArray();
+            default -> throw new IllegalArgumentException(valueType);
+        };
+    }
+
+    @Benchmark
+    public ToStringConverter select() {
+        return selector.findConverterOrDefault(value);
+    }
+
+    @Benchmark
+    public String selectAndRender() {
+        return selector.findConverterOrDefault(value).toString(value);
+    }
+}
@@ -37,4 +37,21 @@ public @interface LogAfter {
      * @return Whether to print exception and its backtrace
      */
     boolean printStackTrace() default true;
+
+    /**
+     * @return Maximum number of elements rendered per collection or array, -1 uses the configured value,
+     * 0 disables the limit
+     */
+    int maxElements() default -1;
+
+    /**
+     * @return Maximum nesting of rendered collections, -1 uses the configured value, 0 disables the limit
+     */
+    int maxDepth() default -1;
+
+    /**
+     * @return Maximum number of characters of a rendered parameter list or return value,
+     * -1 uses the configured value, 0 disables the limit
+     */
+    int maxCharacters() default -1;
 }
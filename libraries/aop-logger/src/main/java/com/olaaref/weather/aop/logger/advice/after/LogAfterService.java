@@ -89,6 +89,8 @@ public class LogAfterService {
         }
 
         StringSupplierLookup stringLookup = new StringSupplierLookup();
+        stringLookup.setRenderLimits(aopLoggersProperties.getRendering().toRenderLimits()
+                .override(logAfterAnnotation.maxElements(), logAfterAnnotation.maxDepth(), logAfterAnnotation.maxCharacters()));
 
         logMessage(joinPoint, level, logAfterAnnotation, logger, stringLookup, returnValue, exception, isAfterThrowing);
         logElapsed(startTime);
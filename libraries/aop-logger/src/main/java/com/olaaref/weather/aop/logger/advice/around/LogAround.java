@@ -1,6 +1,7 @@
 package com.olaaref.weather.aop.logger.advice.around;
 
 import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.enums.SamplingMode;
 
 import java.lang.annotation.*;
 import java.time.temporal.ChronoUnit;
@@ -73,4 +74,37 @@ public @interface LogAround {
      * @return Elapsed time unit
      */
     ChronoUnit elapsedTimeUnit() default ChronoUnit.MILLIS;
+
+    /**
+     * @return Sampling mode for entering, exited normally and elapsed messages.
+     * Slow calls and exceptions are always logged
+     */
+    SamplingMode sampling() default SamplingMode.DEFAULT;
+
+    /**
+     * @return Log one in every N calls when sampling mode is RATE, 0 uses the configured rate
+     */
+    int sampleRate() default 0;
+
+    /**
+     * @return Calls logged per second when sampling mode is TOKEN_BUCKET, 0 uses the configured value
+     */
+    double permitsPerSecond() default 0;
+
+    /**
+     * @return Maximum number of elements rendered per collection or array, -1 uses the configured value,
+     * 0 disables the limit
+     */
+    int maxElements() default -1;
+
+    /**
+     * @return Maximum nesting of rendered collections, -1 uses the configured value, 0 disables the limit
+     */
+    int maxDepth() default -1;
+
+    /**
+     * @return Maximum number of characters of a rendered parameter list or return value,
+     * -1 uses the configured value, 0 disables the limit
+     */
+    int maxCharacters() default -1;
 }
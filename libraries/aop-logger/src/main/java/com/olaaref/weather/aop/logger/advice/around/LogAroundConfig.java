@@ -1,6 +1,10 @@
 package com.olaaref.weather.aop.logger.advice.around;
 
+import com.olaaref.weather.aop.logger.async.AsyncLogDispatcher;
+import com.olaaref.weather.aop.logger.level.LogLevelChangeMonitor;
 import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import com.olaaref.weather.aop.logger.sampling.LogSamplerRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,4 +19,24 @@ public class LogAroundConfig {
     public LogAroundService logAroundService(AopLoggersProperties aopLoggersProperties) {
         return new LogAroundService(aopLoggersProperties);
     }
+
+    @Bean
+    public LogSamplerRegistry logSamplerRegistry(AopLoggersProperties aopLoggersProperties) {
+        return new LogSamplerRegistry(aopLoggersProperties);
+    }
+
+    @Bean
+    public LogAroundPlanCache logAroundPlanCache(
+            AopLoggersProperties aopLoggersProperties,
+            LogSamplerRegistry logSamplerRegistry,
+            LogLevelChangeMonitor logLevelChangeMonitor
+    ) {
+        return new LogAroundPlanCache(aopLoggersProperties, logSamplerRegistry, logLevelChangeMonitor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = AopLoggersProperties.PREFIX, name = "async.enabled", havingValue = "true")
+    public AsyncLogDispatcher asyncLogDispatcher(AopLoggersProperties aopLoggersProperties) {
+        return new AsyncLogDispatcher(aopLoggersProperties);
+    }
 }
@@ -0,0 +1,221 @@
+package com.olaaref.weather.aop.logger.advice.around;
+
+import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.level.LogLevelChangeMonitor;
+import com.olaaref.weather.aop.logger.sampling.LogSampler;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+import com.olaaref.weather.aop.logger.util.LoggerUtil;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+/**
+ * Everything {@link LogAroundService} needs to know about an advised method, resolved once per method.
+ * <p>
+ * A plan combines the {@link LogAround} annotation with the defaults from
+ * {@link com.olaaref.weather.aop.logger.properties.AopLoggersProperties}: the logger, the effective levels and
+ * message templates, the elapsed time limit, the render limits, the sampler and whether the method is annotated with
+ * {@link com.olaaref.weather.aop.logger.annotation.DoNotLog}.
+ * <p>
+ * It also caches whether each level is enabled on the logger. The cached checks are tagged with the
+ * {@link LogLevelChangeMonitor} generation they were computed at and are recomputed when the levels change,
+ * so {@link #isLoggingPossible()} is a volatile read and a comparison on the hot path.
+ *
+ * @see LogAroundPlanCache
+ */
+public class LogAroundPlan {
+
+    private final LogAround logAround;
+
+    private final Logger logger;
+
+    private final boolean ignored;
+
+    private final Level level;
+
+    private final Level exitedAbnormallyLevel;
+
+    private final Level elapsedWarningLevel;
+
+    private final String enteringMessage;
+
+    private final String exitedMessage;
+
+    private final String exitedAbnormallyMessage;
+
+    private final String elapsedMessage;
+
+    private final String elapsedWarningMessage;
+
+    private final Duration elapsedTimeLimit;
+
+    private final long elapsedTimeLimitNanos;
+
+    private final RenderLimits renderLimits;
+
+    private final LogSampler sampler;
+
+    private final LogLevelChangeMonitor logLevelChangeMonitor;
+
+    private volatile EnabledLevels enabledLevels;
+
+    LogAroundPlan(
+            LogAround logAround,
+            Logger logger,
+            boolean ignored,
+            Level level,
+            Level exitedAbnormallyLevel,
+            Level elapsedWarningLevel,
+            String enteringMessage,
+            String exitedMessage,
+            String exitedAbnormallyMessage,
+            String elapsedMessage,
+            String elapsedWarningMessage,
+            Duration elapsedTimeLimit,
+            RenderLimits renderLimits,
+            LogSampler sampler,
+            LogLevelChangeMonitor logLevelChangeMonitor
+    ) {
+        this.logAround = logAround;
+        this.logger = logger;
+        this.ignored = ignored;
+        this.level = level;
+        this.exitedAbnormallyLevel = exitedAbnormallyLevel;
+        this.elapsedWarningLevel = elapsedWarningLevel;
+        this.enteringMessage = enteringMessage;
+        this.exitedMessage = exitedMessage;
+        this.exitedAbnormallyMessage = exitedAbnormallyMessage;
+        this.elapsedMessage = elapsedMessage;
+        this.elapsedWarningMessage = elapsedWarningMessage;
+        this.elapsedTimeLimit = elapsedTimeLimit;
+        this.elapsedTimeLimitNanos = elapsedTimeLimit.toNanos();
+        this.renderLimits = renderLimits;
+        this.sampler = sampler;
+        this.logLevelChangeMonitor = logLevelChangeMonitor;
+    }
+
+    /**
+     * @return true if any message could be logged for this method at the current logger levels
+     */
+    public boolean isLoggingPossible() {
+        return getEnabledLevels().any();
+    }
+
+    /**
+     * @return true if the level of entering, exited and elapsed messages is enabled
+     */
+    public boolean isLevelEnabled() {
+        return getEnabledLevels().level();
+    }
+
+    /**
+     * @return true if the level of the exited abnormally message is enabled
+     */
+    public boolean isExitedAbnormallyLevelEnabled() {
+        return getEnabledLevels().exitedAbnormallyLevel();
+    }
+
+    /**
+     * @return true if an elapsed time limit is set and the level of the elapsed warning message is enabled
+     */
+    public boolean isElapsedWarningLevelEnabled() {
+        return getEnabledLevels().elapsedWarningLevel();
+    }
+
+    /**
+     * @param elapsedNanos The elapsed time of a call in nanoseconds
+     * @return true if an elapsed time limit is set and the call exceeded it
+     */
+    public boolean isElapsedTimeLimitExceeded(long elapsedNanos) {
+        return elapsedTimeLimitNanos > 0 && elapsedNanos > elapsedTimeLimitNanos;
+    }
+
+    public LogAround getLogAround() {
+        return logAround;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public boolean isIgnored() {
+        return ignored;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public Level getExitedAbnormallyLevel() {
+        return exitedAbnormallyLevel;
+    }
+
+    public Level getElapsedWarningLevel() {
+        return elapsedWarningLevel;
+    }
+
+    public String getEnteringMessage() {
+        return enteringMessage;
+    }
+
+    public String getExitedMessage() {
+        return exitedMessage;
+    }
+
+    public String getExitedAbnormallyMessage() {
+        return exitedAbnormallyMessage;
+    }
+
+    public String getElapsedMessage() {
+        return elapsedMessage;
+    }
+
+    public String getElapsedWarningMessage() {
+        return elapsedWarningMessage;
+    }
+
+    public Duration getElapsedTimeLimit() {
+        return elapsedTimeLimit;
+    }
+
+    public RenderLimits getRenderLimits() {
+        return renderLimits;
+    }
+
+    public LogSampler getSampler() {
+        return sampler;
+    }
+
+    private EnabledLevels getEnabledLevels() {
+        long generation = logLevelChangeMonitor.getGeneration();
+        EnabledLevels current = enabledLevels;
+        if (current == null || current.generation() != generation) {
+            current = computeEnabledLevels(generation);
+            enabledLevels = current;
+        }
+        return current;
+    }
+
+    private EnabledLevels computeEnabledLevels(long generation) {
+        if (ignored) {
+            return new EnabledLevels(generation, false, false, false);
+        }
+        return new EnabledLevels(
+                generation,
+                LoggerUtil.isEnabled(logger, level),
+                LoggerUtil.isEnabled(logger, exitedAbnormallyLevel),
+                elapsedTimeLimitNanos > 0 && LoggerUtil.isEnabled(logger, elapsedWarningLevel)
+        );
+    }
+
+    private record EnabledLevels(
+            long generation,
+            boolean level,
+            boolean exitedAbnormallyLevel,
+            boolean elapsedWarningLevel
+    ) {
+        boolean any() {
+            return level || exitedAbnormallyLevel || elapsedWarningLevel;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.olaaref.weather.aop.logger.advice.around;
+
+import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.level.LogLevelChangeMonitor;
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import com.olaaref.weather.aop.logger.sampling.LogSamplerRegistry;
+import com.olaaref.weather.aop.logger.util.LoggerUtil;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and caches one {@link LogAroundPlan} per advised method.
+ * <p>
+ * The cache is keyed by {@link Method}. If a method is advised through both a method-level and a class-level
+ * {@link LogAround} annotation, the plan of the first annotation seen is cached and the plan of the other one
+ * is rebuilt on each call.
+ */
+public class LogAroundPlanCache {
+
+    private final AopLoggersProperties aopLoggersProperties;
+
+    private final LogSamplerRegistry logSamplerRegistry;
+
+    private final LogLevelChangeMonitor logLevelChangeMonitor;
+
+    private final Map<Method, LogAroundPlan> plans = new ConcurrentHashMap<>();
+
+    public LogAroundPlanCache(
+            AopLoggersProperties aopLoggersProperties,
+            LogSamplerRegistry logSamplerRegistry,
+            LogLevelChangeMonitor logLevelChangeMonitor
+    ) {
+        this.aopLoggersProperties = aopLoggersProperties;
+        this.logSamplerRegistry = logSamplerRegistry;
+        this.logLevelChangeMonitor = logLevelChangeMonitor;
+    }
+
+    /**
+     * Returns the plan of the advised method, creating it on first use.
+     *
+     * @param joinPoint The join point representing the advised method
+     * @param logAround The LogAround annotation the method is advised with
+     * @return The plan of the method for the given annotation
+     */
+    public LogAroundPlan getPlan(JoinPoint joinPoint, LogAround logAround) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LogAroundPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, key -> createPlan(joinPoint, key, logAround));
+        }
+        if (plan.getLogAround() != logAround && !plan.getLogAround().equals(logAround)) {
+            return createPlan(joinPoint, method, logAround);
+        }
+        return plan;
+    }
+
+    private LogAroundPlan createPlan(JoinPoint joinPoint, Method method, LogAround logAround) {
+        return new LogAroundPlan(
+                logAround,
+                LoggerUtil.getLogger(logAround.declaringClass(), joinPoint),
+                LoggerUtil.isMethodIgnored(joinPoint),
+                getLoggingLevel(logAround.level(), aopLoggersProperties.getEnteringLevel()),
+                getLoggingLevel(logAround.exitedAbnormallyLevel(), aopLoggersProperties.getEnteringLevel()),
+                getLoggingLevel(logAround.elapsedWarningLevel(), aopLoggersProperties.getElapsedWarningLevel()),
+                getMessageTemplate(logAround.enteringMessage(), aopLoggersProperties.getEnteringMessage()),
+                getMessageTemplate(logAround.exitedMessage(), aopLoggersProperties.getExitedMessage()),
+                getMessageTemplate(logAround.exitedAbnormallyMessage(), aopLoggersProperties.getExitedAbnormallyMessage()),
+                getMessageTemplate(logAround.elapsedMessage(), aopLoggersProperties.getElapsedMessage()),
+                getMessageTemplate(logAround.elapsedWarningMessage(), aopLoggersProperties.getElapsedWarningMessage()),
+                logAround.elapsedTimeLimit() > 0
+                        ? Duration.of(logAround.elapsedTimeLimit(), logAround.elapsedTimeUnit())
+                        : Duration.ZERO,
+                aopLoggersProperties.getRendering().toRenderLimits()
+                        .override(logAround.maxElements(), logAround.maxDepth(), logAround.maxCharacters()),
+                logSamplerRegistry.getSampler(method, logAround),
+                logLevelChangeMonitor
+        );
+    }
+
+    private String getMessageTemplate(String annotationTemplate, String propertiesTemplate) {
+        return annotationTemplate.isEmpty() ? propertiesTemplate : annotationTemplate;
+    }
+
+    private Level getLoggingLevel(Level annotationLevel, Level propertiesLevel) {
+        return annotationLevel == Level.DEFAULT ? propertiesLevel : annotationLevel;
+    }
+}
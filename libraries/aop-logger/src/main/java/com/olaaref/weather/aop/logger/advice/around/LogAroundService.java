@@ -1,10 +1,17 @@
 package com.olaaref.weather.aop.logger.advice.around;
 
+import com.olaaref.weather.aop.logger.async.AsyncLogDispatcher;
+import com.olaaref.weather.aop.logger.async.LogEvent;
 import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.enums.ParameterSnapshotPolicy;
+import com.olaaref.weather.aop.logger.metrics.LogAroundMetrics;
 import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
 import com.olaaref.weather.aop.logger.template.interpolation.dto.ReturnValueInfo;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookupPool;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.ElapsedStringSupplierRegistrar;
+import com.olaaref.weather.aop.logger.template.interpolation.registrar.ElapsedTimeLimitStringSupplierRegistrar;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.ExceptionStringSupplierRegistrar;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.JoinPointStringSupplierRegistrar;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.ReturnValueStringSupplierRegistrar;
@@ -26,14 +33,30 @@ import static com.olaaref.weather.aop.logger.util.LoggerUtil.isExceptionIgnored;
  *   <li>After successful method execution (exited)</li>
  *   <li>After method execution with exception (exited abnormally)</li>
  *   <li>Elapsed time for method execution</li>
+ *   <li>Elapsed time limit exceeded (elapsed warning)</li>
  * </ul>
  * <p>
+ * Entering, exited and elapsed messages can be sampled per method (one in N calls, or a token bucket)
+ * through {@link com.olaaref.weather.aop.logger.sampling.LogSamplerRegistry}, so the annotation can stay on hot
+ * paths. Slow calls and calls that throw an exception are always logged, regardless of sampling.
+ * <p>
  * The service integrates with various string supplier registrars to populate context information
  * in log messages, such as method details, arguments, return values, exceptions, and execution time.
  * <p>
  * Unlike {@code LogBeforeService} and {@code LogAfterService}, this service uses a {@link ProceedingJoinPoint}
  * to control the execution flow of the intercepted method, allowing for comprehensive logging
  * throughout the entire method execution lifecycle.
+ * <p>
+ * When {@code weather.aop.logger.async.enabled} is set, messages are not rendered on the calling thread.
+ * Instead, each message is handed to the {@link AsyncLogDispatcher} as a {@link LogEvent} and rendered
+ * on the dispatcher thread.
+ * <p>
+ * The annotation and the property defaults are resolved once per method into a {@link LogAroundPlan}. When the
+ * plan shows that nothing can be logged at the current logger levels, the call goes straight to
+ * {@link ProceedingJoinPoint#proceed()} without creating a string lookup.
+ * <p>
+ * When Micrometer is available, the elapsed time of every call is also recorded through {@link LogAroundMetrics},
+ * independently of the configured log levels.
  *
  * @see LogAround
  * @see com.olaaref.weather.aop.logger.util.LoggerUtil
@@ -56,6 +79,18 @@ public class LogAroundService {
     @Autowired
     private ElapsedStringSupplierRegistrar elapsedStringSupplierRegistrar;
 
+    @Autowired
+    private ElapsedTimeLimitStringSupplierRegistrar elapsedTimeLimitStringSupplierRegistrar;
+
+    @Autowired
+    private LogAroundPlanCache logAroundPlanCache;
+
+    @Autowired(required = false)
+    private AsyncLogDispatcher asyncLogDispatcher;
+
+    @Autowired(required = false)
+    private LogAroundMetrics logAroundMetrics;
+
     private final AopLoggersProperties aopLoggersProperties;
 
     /**
@@ -72,10 +107,13 @@ public class LogAroundService {
      * <p>
      * This method implements the complete around advice lifecycle:
      * <ol>
-     *   <li>Logs the entering message before method execution</li>
+     *   <li>Proceeds directly if nothing can be logged at the current logger levels</li>
+     *   <li>Decides whether the call is sampled</li>
+     *   <li>Logs the entering message before method execution, if sampled</li>
      *   <li>Executes the intercepted method</li>
-     *   <li>Logs the exited message after successful method execution</li>
-     *   <li>Logs the elapsed time for method execution</li>
+     *   <li>Logs the exited message after successful method execution, if sampled</li>
+     *   <li>Logs the elapsed time for method execution, if sampled</li>
+     *   <li>Logs the elapsed warning message if the elapsed time limit is exceeded</li>
      *   <li>Logs the exited abnormally message if an exception occurs</li>
      *   <li>Re-throws any exceptions to maintain the original method behavior</li>
      * </ol>
@@ -87,29 +125,83 @@ public class LogAroundService {
      */
     public Object logAround(ProceedingJoinPoint joinPoint, LogAround logAround)  throws Throwable {
 
-        Logger logger = LoggerUtil.getLogger(logAround.declaringClass(), joinPoint);
-        StringSupplierLookup stringLookup = new StringSupplierLookup();
+        LogAroundPlan plan = logAroundPlanCache.getPlan(joinPoint, logAround);
+        if(!plan.isLoggingPossible()) {
+            return proceedWithoutLogging(joinPoint);
+        }
+
+        StringSupplierLookup stringLookup = StringSupplierLookupPool.acquire();
+        stringLookup.setRenderLimits(plan.getRenderLimits());
+        try {
+            return logAround(joinPoint, plan, stringLookup);
+        } finally {
+            StringSupplierLookupPool.release(stringLookup);
+        }
+    }
+
+    /**
+     * Runs the logging lifecycle around the intercepted method, using a lookup acquired from
+     * {@link StringSupplierLookupPool} for the whole call.
+     *
+     * @param joinPoint The ProceedingJoinPoint representing the intercepted method
+     * @param plan The resolved logging configuration of the intercepted method
+     * @param stringLookup The string lookup for variable interpolation
+     * @return The value returned by the intercepted method
+     * @throws Throwable Any exception thrown by the intercepted method
+     */
+    private Object logAround(ProceedingJoinPoint joinPoint, LogAroundPlan plan, StringSupplierLookup stringLookup) throws Throwable {
+        boolean sampled = plan.getSampler().sample();
 
-        logEnteringMessage(joinPoint, logAround, logger, stringLookup);
+        if(sampled) logEnteringMessage(joinPoint, plan, stringLookup);
         long proceedStartTime = System.nanoTime();
 
         try {
             Object returnValue = joinPoint.proceed();
             long proceedEndTime = System.nanoTime() - proceedStartTime;
 
-            logExitedMessage(joinPoint, logAround, logger, stringLookup, returnValue);
-            logElapsedTime(logAround, logger, stringLookup, proceedEndTime, joinPoint);
+            recordMetrics(joinPoint, proceedEndTime, null);
+            if(sampled) {
+                logExitedMessage(joinPoint, plan, stringLookup, returnValue);
+                logElapsedTime(plan, stringLookup, proceedEndTime);
+            }
+            logElapsedWarning(plan, stringLookup, proceedEndTime, joinPoint);
 
             return returnValue;
         } catch (Throwable exception) {
             long proceedEndTime = System.nanoTime() - proceedStartTime;
 
-            logExitedAbnoramllyMessage(logAround, logger, stringLookup, exception, joinPoint);
-            logElapsedTime(logAround, logger, stringLookup, proceedEndTime, joinPoint);
+            recordMetrics(joinPoint, proceedEndTime, exception);
+            logExitedAbnoramllyMessage(plan, stringLookup, exception, joinPoint);
+            if(sampled) logElapsedTime(plan, stringLookup, proceedEndTime);
+            logElapsedWarning(plan, stringLookup, proceedEndTime, joinPoint);
 
             throw exception;
         }
+    }
 
+    /**
+     * Proceeds with the intercepted method when no message can be logged at the current logger levels.
+     * <p>
+     * No string lookup is created and no template is touched; the call is only timed when metrics are enabled.
+     *
+     * @param joinPoint The ProceedingJoinPoint representing the intercepted method
+     * @return The value returned by the intercepted method
+     * @throws Throwable Any exception thrown by the intercepted method
+     */
+    private Object proceedWithoutLogging(ProceedingJoinPoint joinPoint) throws Throwable {
+        if(logAroundMetrics == null) {
+            return joinPoint.proceed();
+        }
+
+        long proceedStartTime = System.nanoTime();
+        try {
+            Object returnValue = joinPoint.proceed();
+            recordMetrics(joinPoint, System.nanoTime() - proceedStartTime, null);
+            return returnValue;
+        } catch (Throwable exception) {
+            recordMetrics(joinPoint, System.nanoTime() - proceedStartTime, exception);
+            throw exception;
+        }
     }
 
     /**
@@ -117,32 +209,23 @@ public class LogAroundService {
      * <p>
      * This method is called before the intercepted method is executed. It registers
      * the necessary string suppliers for the join point and generates the entering message
-     * using the appropriate template. If the method is configured to be ignored or if
-     * logging is disabled for the determined level, no logging will occur.
+     * using the appropriate template. If logging is disabled for the determined level,
+     * no logging will occur.
      *
      * @param joinPoint The ProceedingJoinPoint representing the intercepted method
-     * @param logAround The LogAround annotation containing logging configuration
-     * @param logger The logger to use for logging
+     * @param plan The resolved logging configuration of the intercepted method
      * @param stringLookup The string lookup for variable interpolation
      */
     private void logEnteringMessage(
             ProceedingJoinPoint joinPoint,
-            LogAround logAround,
-            Logger logger,
+            LogAroundPlan plan,
             StringSupplierLookup stringLookup
     ) {
-        if(LoggerUtil.isMethodIgnored(joinPoint)) return;
-
-        Level loggingLevel = getLoggingLevel(logAround.level());
-        if(isLoggingLevelDisabled(logger, loggingLevel)) return;
+        if(!plan.isLevelEnabled()) return;
 
         joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
-        String enteringMessage = stringSubstitutor.substitute(
-                getMessageTemplate(logAround.enteringMessage(), aopLoggersProperties.getEnteringMessage()),
-                stringLookup
-        );
 
-        LoggerUtil.log(logger, loggingLevel, enteringMessage);
+        emit(plan.getLogger(), plan.getLevel(), plan.getEnteringMessage(), stringLookup, null);
     }
 
     /**
@@ -150,34 +233,25 @@ public class LogAroundService {
      * <p>
      * This method is called after the intercepted method has executed successfully.
      * It registers the necessary string suppliers for the return value and generates
-     * the exited message using the appropriate template. If the method is configured
-     * to be ignored or if logging is disabled for the determined level, no logging will occur.
+     * the exited message using the appropriate template. If logging is disabled for
+     * the determined level, no logging will occur.
      *
      * @param joinPoint The ProceedingJoinPoint representing the intercepted method
-     * @param logAround The LogAround annotation containing logging configuration
-     * @param logger The logger to use for logging
+     * @param plan The resolved logging configuration of the intercepted method
      * @param stringLookup The string lookup for variable interpolation
      * @param returnValue The value returned by the intercepted method
      */
     private void logExitedMessage(
             ProceedingJoinPoint joinPoint,
-            LogAround logAround,
-            Logger logger,
+            LogAroundPlan plan,
             StringSupplierLookup stringLookup,
             Object returnValue
     ) {
-        if(LoggerUtil.isMethodIgnored(joinPoint)) return;
-
-        Level loggingLevel = getLoggingLevel(logAround.level());
-        if(isLoggingLevelDisabled(logger, loggingLevel)) return;
+        if(!plan.isLevelEnabled()) return;
 
         returnValueStringSupplierRegistrar.register(stringLookup, new ReturnValueInfo(joinPoint, returnValue));
-        String exitedMessage = stringSubstitutor.substitute(
-                getMessageTemplate(logAround.exitedMessage(), aopLoggersProperties.getExitedMessage()),
-                stringLookup
-        );
 
-        LoggerUtil.log(logger, loggingLevel, exitedMessage);
+        emit(plan.getLogger(), plan.getLevel(), plan.getExitedMessage(), stringLookup, null);
     }
 
     /**
@@ -185,43 +259,37 @@ public class LogAroundService {
      * <p>
      * This method is called when the intercepted method has thrown an exception.
      * It registers the necessary string suppliers for the exception and generates
-     * the exited abnormally message using the appropriate template. If the method is
-     * configured to be ignored, if logging is disabled for the determined level, or if
-     * the exception is configured to be ignored, no logging will occur.
+     * the exited abnormally message using the appropriate template. If logging is
+     * disabled for the determined level, or if the exception is configured to be
+     * ignored, no logging will occur.
      * <p>
      * If the printStackTrace flag is set in the annotation, the exception stack trace
      * will be included in the log message.
      *
-     * @param logAround The LogAround annotation containing logging configuration
-     * @param logger The logger to use for logging
+     * @param plan The resolved logging configuration of the intercepted method
      * @param stringLookup The string lookup for variable interpolation
      * @param exception The exception thrown by the intercepted method
      * @param joinPoint The ProceedingJoinPoint representing the intercepted method
      */
     private void logExitedAbnoramllyMessage(
-            LogAround logAround,
-            Logger logger,
+            LogAroundPlan plan,
             StringSupplierLookup stringLookup,
             Throwable exception,
             ProceedingJoinPoint joinPoint
     ) {
-        if(LoggerUtil.isMethodIgnored(joinPoint)) return;
-
-        Level loggingLevel = getLoggingLevel(logAround.exitedAbnormallyLevel());
-        if(isLoggingLevelDisabled(logger, loggingLevel)
-                || isExceptionIgnored(exception, logAround.ignoreExceptions(), aopLoggersProperties)) return;
+        if(!plan.isExitedAbnormallyLevelEnabled()
+                || isExceptionIgnored(exception, plan.getLogAround().ignoreExceptions(), aopLoggersProperties)) return;
 
+        joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
         exceptionStringSupplierRegistrar.register(stringLookup, exception);
-        String exitedAbnormallyMessage = stringSubstitutor.substitute(
-                getMessageTemplate(logAround.exitedAbnormallyMessage(), aopLoggersProperties.getExitedAbnormallyMessage()),
-                stringLookup
-        );
 
-        if(logAround.printStackTrace()) {
-            LoggerUtil.logException(logger, loggingLevel, exitedAbnormallyMessage, exception);
-        } else {
-            LoggerUtil.log(logger, loggingLevel, exitedAbnormallyMessage);
-        }
+        emit(
+                plan.getLogger(),
+                plan.getExitedAbnormallyLevel(),
+                plan.getExitedAbnormallyMessage(),
+                stringLookup,
+                plan.getLogAround().printStackTrace() ? exception : null
+        );
     }
 
     /**
@@ -229,71 +297,112 @@ public class LogAroundService {
      * <p>
      * This method is called after the intercepted method has executed (either successfully
      * or with an exception). It registers the necessary string suppliers for the elapsed time
-     * and generates the elapsed time message using the appropriate template. If the method is
-     * configured to be ignored or if logging is disabled for the determined level, no logging
-     * will occur.
+     * and generates the elapsed time message using the appropriate template. If logging is
+     * disabled for the determined level, no logging will occur.
      *
-     * @param logAround The LogAround annotation containing logging configuration
-     * @param logger The logger to use for logging
+     * @param plan The resolved logging configuration of the intercepted method
      * @param stringLookup The string lookup for variable interpolation
      * @param endTime The elapsed time in nanoseconds
-     * @param joinPoint The ProceedingJoinPoint representing the intercepted method
      */
     private void logElapsedTime(
-            LogAround logAround,
-            Logger logger,
+            LogAroundPlan plan,
             StringSupplierLookup stringLookup,
-            long endTime,
-            ProceedingJoinPoint joinPoint) {
-        if(LoggerUtil.isMethodIgnored(joinPoint)) return;
-
-        Level loggingLevel = getLoggingLevel(logAround.level());
-        if(isLoggingLevelDisabled(logger, loggingLevel)) return;
+            long endTime) {
+        if(!plan.isLevelEnabled()) return;
 
         elapsedStringSupplierRegistrar.register(stringLookup, endTime);
-        String elapsedTimeMessage = stringSubstitutor.substitute(
-                getMessageTemplate(logAround.elapsedMessage(), aopLoggersProperties.getElapsedMessage()),
-                stringLookup
-        );
 
-        LoggerUtil.log(logger, loggingLevel, elapsedTimeMessage);
+        emit(plan.getLogger(), plan.getLevel(), plan.getElapsedMessage(), stringLookup, null);
     }
 
     /**
-     * Determines the message template to use based on annotation and properties.
+     * Logs the elapsed warning message when the method took longer than its elapsed time limit.
      * <p>
-     * If the annotation provides a non-empty template, it will be used. Otherwise,
-     * the default template from properties will be used.
+     * The limit is taken from {@link LogAround#elapsedTimeLimit()} and {@link LogAround#elapsedTimeUnit()};
+     * a limit of zero disables the warning. Unlike the other messages, the warning is never sampled out, and
+     * it registers the join point suppliers itself so {@code {method}} resolves even if the entering message
+     * was skipped.
      *
-     * @param annotationTemplate The template specified in the annotation
-     * @param propertiesTemplate The default template from properties
-     * @return The message template to use
+     * @param plan The resolved logging configuration of the intercepted method
+     * @param stringLookup The string lookup for variable interpolation
+     * @param elapsedNanos The elapsed time in nanoseconds
+     * @param joinPoint The ProceedingJoinPoint representing the intercepted method
      */
-    private String getMessageTemplate(String annotationTemplate, String propertiesTemplate) {
-        return annotationTemplate.isEmpty() ? propertiesTemplate : annotationTemplate;
+    private void logElapsedWarning(
+            LogAroundPlan plan,
+            StringSupplierLookup stringLookup,
+            long elapsedNanos,
+            ProceedingJoinPoint joinPoint) {
+        if(!plan.isElapsedTimeLimitExceeded(elapsedNanos) || !plan.isElapsedWarningLevelEnabled()) return;
+
+        joinPointStringSupplierRegistrar.register(stringLookup, joinPoint);
+        elapsedStringSupplierRegistrar.register(stringLookup, elapsedNanos);
+        elapsedTimeLimitStringSupplierRegistrar.register(stringLookup, plan.getElapsedTimeLimit());
+
+        emit(plan.getLogger(), plan.getElapsedWarningLevel(), plan.getElapsedWarningMessage(), stringLookup, null);
+    }
+
+    /**
+     * Records the elapsed time of the intercepted method as a Micrometer timer, if metrics are enabled.
+     *
+     * @param joinPoint The ProceedingJoinPoint representing the intercepted method
+     * @param elapsedNanos The elapsed time in nanoseconds
+     * @param exception The exception thrown by the intercepted method, or null if it returned normally
+     */
+    private void recordMetrics(ProceedingJoinPoint joinPoint, long elapsedNanos, Throwable exception) {
+        if(logAroundMetrics == null) return;
+        logAroundMetrics.record(joinPoint, elapsedNanos, exception);
     }
 
     /**
-     * Checks if logging is disabled for the specified level.
+     * Renders and logs a message, either on the calling thread or through the {@link AsyncLogDispatcher}.
+     * <p>
+     * When the async dispatcher is available, the template is not rendered here; the template and a copy of the
+     * string lookup are wrapped in a {@link LogEvent} and rendered later on the dispatcher thread. The lookup itself
+     * is pooled and keeps being used by the calling thread, so it is never handed over.
      *
-     * @param logger The logger to check
-     * @param annotationLevel The logging level to check
-     * @return true if logging is disabled, false otherwise
+     * @param logger The logger to use for logging
+     * @param loggingLevel The level to log the message at
+     * @param template The message template
+     * @param stringLookup The string lookup for variable interpolation
+     * @param exception The exception to log with its backtrace, or null to log the message only
      */
-    private boolean isLoggingLevelDisabled(Logger logger, Level annotationLevel) {
-        return !LoggerUtil.isEnabled(logger, annotationLevel);
+    private void emit(
+            Logger logger,
+            Level loggingLevel,
+            String template,
+            StringSupplierLookup stringLookup,
+            Throwable exception
+    ) {
+        if(asyncLogDispatcher != null) {
+            snapshotValues(stringLookup);
+            asyncLogDispatcher.dispatch(new LogEvent(logger, loggingLevel, template, stringLookup.copy(), exception));
+            return;
+        }
+
+        String message = stringSubstitutor.substitute(template, stringLookup);
+        if(exception != null) {
+            LoggerUtil.logException(logger, loggingLevel, message, exception);
+        } else {
+            LoggerUtil.log(logger, loggingLevel, message);
+        }
     }
 
     /**
-     * Determines the appropriate logging level based on annotation.
+     * Captures the method parameters and the return value as strings on the calling thread when the
+     * {@link ParameterSnapshotPolicy#STRING} policy is configured, before the lookup is handed to the dispatcher.
      * <p>
-     * If the annotation specifies a non-default level, it will be used. Otherwise,
-     * the default entering level from properties will be used.
+     * Without this snapshot, the dispatcher thread renders the objects themselves, after the intercepted method or
+     * its caller may have modified them, and possibly outside the session their lazily loaded state belongs to.
+     * Variables that are not registered yet are skipped.
      *
-     * @param annotationLevel The level specified in the annotation
-     * @return The logging level to use
+     * @param stringLookup The string lookup holding the parameters and return value sources
      */
-    private Level getLoggingLevel(Level annotationLevel) {
-        return annotationLevel == Level.DEFAULT ? aopLoggersProperties.getEnteringLevel() : annotationLevel;
+    private void snapshotValues(StringSupplierLookup stringLookup) {
+        if(aopLoggersProperties.getAsync().getParameterSnapshotPolicy() != ParameterSnapshotPolicy.STRING) return;
+
+        // The rendered values are memoized and carried over by the copy handed to the dispatcher
+        stringLookup.lookup(LookupVariable.PARAMETERS);
+        stringLookup.lookup(LookupVariable.RETURN_VALUE);
     }
 }
@@ -22,4 +22,21 @@ public @interface LogBefore {
      * @return Entering message template
      */
     String enteringMessageTemplate() default "";
+
+    /**
+     * @return Maximum number of elements rendered per collection or array, -1 uses the configured value,
+     * 0 disables the limit
+     */
+    int maxElements() default -1;
+
+    /**
+     * @return Maximum nesting of rendered collections, -1 uses the configured value, 0 disables the limit
+     */
+    int maxDepth() default -1;
+
+    /**
+     * @return Maximum number of characters of a rendered parameter list or return value,
+     * -1 uses the configured value, 0 disables the limit
+     */
+    int maxCharacters() default -1;
 }
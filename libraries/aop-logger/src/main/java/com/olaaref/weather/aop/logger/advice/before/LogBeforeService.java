@@ -77,6 +77,8 @@ public class LogBeforeService {
         }
 
         StringSupplierLookup stringLookup = new StringSupplierLookup();
+        stringLookup.setRenderLimits(aopLoggersProperties.getRendering().toRenderLimits()
+                .override(annotation.maxElements(), annotation.maxDepth(), annotation.maxCharacters()));
 
         logMessage(joinPoint, loggingLevel, annotation.enteringMessageTemplate(), logger, stringLookup);
         logElapsed(startTime);
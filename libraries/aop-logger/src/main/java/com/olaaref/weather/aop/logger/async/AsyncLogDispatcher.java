@@ -0,0 +1,204 @@
+package com.olaaref.weather.aop.logger.async;
+
+import com.olaaref.weather.aop.logger.enums.OverflowPolicy;
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringSubstitutor;
+import com.olaaref.weather.aop.logger.util.LoggerUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders and emits {@link LogEvent}s on a single background thread.
+ * <p>
+ * Advised methods publish events into a bounded ring buffer ({@link ArrayBlockingQueue}) from any
+ * number of request threads, and the dispatcher thread drains it in batches, resolves each message
+ * template and writes the result to the event's logger. The latency of the advised call therefore
+ * no longer depends on how verbose the log templates are or how large the logged objects are.
+ * <p>
+ * When the buffer is full the configured {@link OverflowPolicy} applies:
+ * <ul>
+ *   <li>{@link OverflowPolicy#DROP} - the event is discarded and {@link #getDroppedEvents()} is incremented.
+ *       The dispatcher periodically reports the number of dropped events as a warning.</li>
+ *   <li>{@link OverflowPolicy#BLOCK} - the calling thread waits until a slot becomes available.</li>
+ * </ul>
+ * <p>
+ * On shutdown the dispatcher stops accepting new work and renders whatever is still buffered
+ * before returning, so no events are lost on a graceful stop. Dispatches are counted while they
+ * are in flight, so the final drain also waits for the callers that saw the dispatcher running
+ * but had not yet added their event to the buffer; events dispatched after the stop are rendered
+ * on the calling thread.
+ *
+ * @see LogEvent
+ * @see AopLoggersProperties.Async
+ */
+public class AsyncLogDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLogDispatcher.class);
+
+    private static final String THREAD_NAME = "aop-logger-dispatcher";
+
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    @Autowired
+    private StringSubstitutor stringSubstitutor;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final BlockingQueue<LogEvent> buffer;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private final AtomicInteger activeDispatches = new AtomicInteger();
+
+    private long reportedDroppedEvents;
+
+    private volatile boolean running;
+
+    private Thread dispatcherThread;
+
+    /**
+     * Constructs a new AsyncLogDispatcher with the specified properties.
+     *
+     * @param aopLoggersProperties The properties containing the buffer size and overflow policy
+     */
+    public AsyncLogDispatcher(AopLoggersProperties aopLoggersProperties) {
+        AopLoggersProperties.Async async = aopLoggersProperties.getAsync();
+        this.overflowPolicy = async.getOverflowPolicy();
+        this.buffer = new ArrayBlockingQueue<>(async.getBufferSize());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcherThread = new Thread(this::drainLoop, THREAD_NAME);
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcherThread.join();
+        while (true) {
+            // Read before draining: once no dispatch is in flight, every event that saw the dispatcher running is buffered
+            boolean quiescent = activeDispatches.get() == 0;
+            drainRemaining();
+            if (quiescent) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Hands a log event over to the dispatcher thread according to the configured {@link OverflowPolicy}.
+     * <p>
+     * If the dispatcher has already been stopped, the event is rendered on the calling thread.
+     *
+     * @param event The log event to render and emit
+     */
+    public void dispatch(LogEvent event) {
+        // Counted before reading the flag, so stop() either sees this dispatch in flight or this dispatch sees the stop
+        activeDispatches.incrementAndGet();
+        if (!running) {
+            activeDispatches.decrementAndGet();
+            render(event);
+            return;
+        }
+
+        try {
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                try {
+                    buffer.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedEvents.incrementAndGet();
+                }
+            } else if (!buffer.offer(event)) {
+                droppedEvents.incrementAndGet();
+            }
+        } finally {
+            activeDispatches.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return The total number of events discarded because the buffer was full
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return The number of events currently waiting to be rendered
+     */
+    public int getPendingEvents() {
+        return buffer.size();
+    }
+
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (running) {
+            try {
+                LogEvent event = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) continue;
+                batch.add(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+            renderAll(batch);
+            reportDroppedEvents();
+        }
+    }
+
+    private void drainRemaining() {
+        List<LogEvent> batch = new ArrayList<>(buffer.size());
+        buffer.drainTo(batch);
+        renderAll(batch);
+        reportDroppedEvents();
+    }
+
+    private void renderAll(List<LogEvent> batch) {
+        for (LogEvent event : batch) {
+            try {
+                render(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to render log event for logger [{}]", event.logger().getName(), e);
+            }
+        }
+        batch.clear();
+    }
+
+    private void render(LogEvent event) {
+        String message = stringSubstitutor.substitute(event.template(), event.lookup());
+        if (event.exception() != null) {
+            LoggerUtil.logException(event.logger(), event.level(), message, event.exception());
+        } else {
+            LoggerUtil.log(event.logger(), event.level(), message);
+        }
+    }
+
+    private void reportDroppedEvents() {
+        long dropped = droppedEvents.get();
+        if (dropped != reportedDroppedEvents) {
+            LOGGER.warn("Dropped [{}] log events because the buffer of size [{}] was full",
+                    dropped - reportedDroppedEvents, buffer.remainingCapacity() + buffer.size());
+            reportedDroppedEvents = dropped;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.olaaref.weather.aop.logger.async;
+
+import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringLookup;
+import org.slf4j.Logger;
+
+/**
+ * A log message that has not been rendered yet.
+ * <p>
+ * The message template is resolved against the {@link StringLookup} only when the event is
+ * processed by the {@link AsyncLogDispatcher}, so the cost of converting parameters and return
+ * values to strings is paid on the dispatcher thread instead of the calling thread.
+ * <p>
+ * The event is not a snapshot: unless the
+ * {@link com.olaaref.weather.aop.logger.enums.ParameterSnapshotPolicy#STRING STRING} policy rendered them on the
+ * calling thread, the lookup holds live references to the parameters and the return value of the call.
+ *
+ * @param logger    The logger the rendered message is emitted to
+ * @param level     The level the rendered message is emitted at
+ * @param template  The message template to render
+ * @param lookup    The lookup used to resolve the template variables
+ * @param exception The exception to log with the message, or {@code null} to log the message only
+ */
+public record LogEvent(Logger logger, Level level, String template, StringLookup lookup, Throwable exception) {
+}
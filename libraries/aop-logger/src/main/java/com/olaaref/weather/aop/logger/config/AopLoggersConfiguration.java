@@ -3,6 +3,8 @@ package com.olaaref.weather.aop.logger.config;
 import com.olaaref.weather.aop.logger.advice.after.LogAfterConfig;
 import com.olaaref.weather.aop.logger.advice.around.LogAroundConfig;
 import com.olaaref.weather.aop.logger.advice.before.LogBeforeConfig;
+import com.olaaref.weather.aop.logger.level.LogLevelChangeConfig;
+import com.olaaref.weather.aop.logger.metrics.LogAroundMetricsConfig;
 import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
 import com.olaaref.weather.aop.logger.template.interpolation.config.StringSubstitutorConfig;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -11,9 +13,11 @@ import org.springframework.context.annotation.Import;
 @EnableConfigurationProperties({AopLoggersProperties.class})
 @Import({
         StringSubstitutorConfig.class,
+        LogLevelChangeConfig.class,
         LogBeforeConfig.class,
         LogAfterConfig.class,
-        LogAroundConfig.class
+        LogAroundConfig.class,
+        LogAroundMetricsConfig.class
 })
 public class AopLoggersConfiguration {
 }
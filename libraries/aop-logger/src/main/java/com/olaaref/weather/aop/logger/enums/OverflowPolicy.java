@@ -0,0 +1,8 @@
+package com.olaaref.weather.aop.logger.enums;
+
+public enum OverflowPolicy {
+    /** Discard the new event and increment the dropped events counter */
+    DROP,
+    /** Block the calling thread until the dispatcher frees a slot */
+    BLOCK
+}
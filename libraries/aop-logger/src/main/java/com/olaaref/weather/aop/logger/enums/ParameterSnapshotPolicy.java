@@ -0,0 +1,19 @@
+package com.olaaref.weather.aop.logger.enums;
+
+/**
+ * How the parameters and the return value of an advised call are captured before a log event is handed to the
+ * asynchronous dispatcher.
+ */
+public enum ParameterSnapshotPolicy {
+    /**
+     * Keep references to the parameter values and the return value and render them on the dispatcher thread; later
+     * mutations are reflected and lazily loaded state may no longer be accessible. Only safe for calls whose
+     * parameters and return values are immutable and fully loaded
+     */
+    REFERENCE,
+    /**
+     * Render the parameter values and the return value on the calling thread so later mutations are not reflected;
+     * the default
+     */
+    STRING
+}
@@ -0,0 +1,12 @@
+package com.olaaref.weather.aop.logger.enums;
+
+public enum SamplingMode {
+    /** Use the mode configured in {@code weather.aop.logger.sampling.mode} */
+    DEFAULT,
+    /** Log every call */
+    NONE,
+    /** Log one in every N calls */
+    RATE,
+    /** Log up to a fixed number of calls per second, per method */
+    TOKEN_BUCKET
+}
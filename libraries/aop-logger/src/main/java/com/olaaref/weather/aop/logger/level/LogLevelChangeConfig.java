@@ -0,0 +1,28 @@
+package com.olaaref.weather.aop.logger.level;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link LogLevelChangeMonitor} and, when Logback is present in the classpath,
+ * the {@link LogbackLevelChangeListener} that feeds it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LogLevelChangeConfig {
+
+    @Bean
+    public LogLevelChangeMonitor logLevelChangeMonitor() {
+        return new LogLevelChangeMonitor();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "ch.qos.logback.classic.LoggerContext")
+    static class LogbackLevelChangeConfig {
+
+        @Bean
+        public LogbackLevelChangeListener logbackLevelChangeListener(LogLevelChangeMonitor logLevelChangeMonitor) {
+            return new LogbackLevelChangeListener(logLevelChangeMonitor);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.olaaref.weather.aop.logger.level;
+
+/**
+ * Tracks changes of the logger levels as a monotonically increasing generation number.
+ * <p>
+ * Components that cache the result of level checks, like {@code LogAroundPlan}, store the generation
+ * they were computed at and recompute when it no longer matches {@link #getGeneration()}. Reading the
+ * generation is a single volatile read, so the check itself adds no measurable cost to an advised call.
+ * <p>
+ * The generation is advanced by a logging-system specific listener, see {@link LogbackLevelChangeListener}.
+ * Without such a listener, cached level checks are never refreshed, so {@link #levelsChanged()} should be
+ * called by whatever changes the levels.
+ */
+public class LogLevelChangeMonitor {
+
+    private volatile long generation;
+
+    /**
+     * @return The current generation of the logger levels
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Signals that one or more logger levels have changed, invalidating every cached level check.
+     */
+    public synchronized void levelsChanged() {
+        generation++;
+    }
+}
@@ -0,0 +1,69 @@
+package com.olaaref.weather.aop.logger.level;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logback {@link LoggerContextListener} that advances the {@link LogLevelChangeMonitor} generation whenever
+ * a logger level changes, e.g. through the {@code /actuator/loggers} endpoint, or the logger context is
+ * reconfigured.
+ * <p>
+ * If Logback is on the classpath but is not the SLF4J binding in use, the listener does nothing.
+ */
+public class LogbackLevelChangeListener implements LoggerContextListener {
+
+    private final LogLevelChangeMonitor logLevelChangeMonitor;
+
+    private LoggerContext loggerContext;
+
+    public LogbackLevelChangeListener(LogLevelChangeMonitor logLevelChangeMonitor) {
+        this.logLevelChangeMonitor = logLevelChangeMonitor;
+    }
+
+    @PostConstruct
+    void register() {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof LoggerContext context) {
+            loggerContext = context;
+            loggerContext.addListener(this);
+        }
+    }
+
+    @PreDestroy
+    void unregister() {
+        if (loggerContext != null) {
+            loggerContext.removeListener(this);
+        }
+    }
+
+    @Override
+    public boolean isResetResistant() {
+        return true;
+    }
+
+    @Override
+    public void onStart(LoggerContext context) {
+        logLevelChangeMonitor.levelsChanged();
+    }
+
+    @Override
+    public void onReset(LoggerContext context) {
+        logLevelChangeMonitor.levelsChanged();
+    }
+
+    @Override
+    public void onStop(LoggerContext context) {
+        logLevelChangeMonitor.levelsChanged();
+    }
+
+    @Override
+    public void onLevelChange(Logger logger, Level level) {
+        logLevelChangeMonitor.levelsChanged();
+    }
+}
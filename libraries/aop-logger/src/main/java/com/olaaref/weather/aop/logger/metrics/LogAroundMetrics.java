@@ -0,0 +1,104 @@
+package com.olaaref.weather.aop.logger.metrics;
+
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a Micrometer {@link Timer} for every method advised by {@code @LogAround}.
+ * <p>
+ * Each timer is tagged with:
+ * <ul>
+ *   <li><strong>class</strong> - The simple name of the declaring class</li>
+ *   <li><strong>method</strong> - The method name</li>
+ *   <li><strong>outcome</strong> - {@code SUCCESS} or {@code ERROR}</li>
+ *   <li><strong>exception</strong> - The simple name of the thrown exception, or {@code none}</li>
+ * </ul>
+ * <p>
+ * Timers are built once per method and outcome and then cached, so recording a call only costs a
+ * map lookup and the timer update. When percentile histograms are enabled the timers are exported as
+ * histogram buckets, e.g. on {@code /actuator/prometheus}; client-side percentiles, which cannot be
+ * aggregated across instances, are only published when configured.
+ * <p>
+ * The {@link MeterRegistry} is resolved lazily on the first recorded call, because the registry is
+ * usually created by an auto-configuration that runs after the AOP loggers are configured. It is
+ * resolved only once: when no registry is available then, calls are not recorded at all.
+ *
+ * @see AopLoggersProperties.Metrics
+ */
+public class LogAroundMetrics {
+
+    private static final String SUCCESS_OUTCOME = "SUCCESS";
+
+    private static final String ERROR_OUTCOME = "ERROR";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final AopLoggersProperties.Metrics metricsProperties;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private MeterRegistry meterRegistry;
+
+    private volatile boolean meterRegistryResolved;
+
+    public LogAroundMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider, AopLoggersProperties aopLoggersProperties) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.metricsProperties = aopLoggersProperties.getMetrics();
+    }
+
+    /**
+     * Records the elapsed time of an advised method call.
+     *
+     * @param joinPoint The join point representing the advised method
+     * @param elapsedNanos The elapsed time in nanoseconds
+     * @param exception The exception thrown by the method, or null if it returned normally
+     */
+    public void record(JoinPoint joinPoint, long elapsedNanos, Throwable exception) {
+        MeterRegistry registry = getMeterRegistry();
+        if(registry == null) return;
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<? extends Throwable> exceptionType = exception == null ? null : exception.getClass();
+
+        timers.computeIfAbsent(new TimerKey(method, exceptionType), key -> buildTimer(registry, key))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private MeterRegistry getMeterRegistry() {
+        // Written before the volatile flag, so a thread seeing the flag also sees the registry, or its absence
+        if(!meterRegistryResolved) {
+            meterRegistry = meterRegistryProvider.getIfAvailable();
+            meterRegistryResolved = true;
+        }
+        return meterRegistry;
+    }
+
+    private Timer buildTimer(MeterRegistry registry, TimerKey key) {
+        Timer.Builder builder = Timer.builder(metricsProperties.getName())
+                .description("Execution time of methods advised by @LogAround")
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("outcome", key.exceptionType() == null ? SUCCESS_OUTCOME : ERROR_OUTCOME)
+                .tag("exception", key.exceptionType() == null ? NO_EXCEPTION : key.exceptionType().getSimpleName())
+                .publishPercentileHistogram(metricsProperties.isPercentileHistogram());
+        double[] percentiles = metricsProperties.getPercentiles();
+        if(percentiles != null && percentiles.length > 0) {
+            builder.publishPercentiles(percentiles);
+        }
+        return builder.register(registry);
+    }
+
+    private record TimerKey(Method method, Class<? extends Throwable> exceptionType) {
+    }
+}
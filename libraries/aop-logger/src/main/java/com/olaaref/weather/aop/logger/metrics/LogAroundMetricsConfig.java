@@ -0,0 +1,31 @@
+package com.olaaref.weather.aop.logger.metrics;
+
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class is used to conditionally register {@link LogAroundMetrics} only when Micrometer
+ * is present in the classpath and {@code weather.aop.logger.metrics.enabled} is not set to false.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(
+        prefix = AopLoggersProperties.PREFIX,
+        name = "metrics.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class LogAroundMetricsConfig {
+
+    @Bean
+    public LogAroundMetrics logAroundMetrics(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            AopLoggersProperties aopLoggersProperties
+    ) {
+        return new LogAroundMetrics(meterRegistryProvider, aopLoggersProperties);
+    }
+}
@@ -1,6 +1,13 @@
 package com.olaaref.weather.aop.logger.properties;
 
 import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.enums.OverflowPolicy;
+import com.olaaref.weather.aop.logger.enums.ParameterSnapshotPolicy;
+import com.olaaref.weather.aop.logger.enums.SamplingMode;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -69,4 +76,122 @@ public class AopLoggersProperties {
     @NotBlank
     private String elapsedWarningMessage = "[{method}] reached elapsed time limit [{elapsed-time-limit}]";
 
+    /**
+     * RENDERING PROPERTIES
+     */
+
+    /** Limits applied while rendering parameters and return values, annotations may override them */
+    @Valid
+    private Rendering rendering = new Rendering();
+
+    /**
+     * SAMPLING PROPERTIES
+     */
+
+    /** Sampling of normal {@code @LogAround} calls, slow calls and exceptions are always logged */
+    @Valid
+    private Sampling sampling = new Sampling();
+
+    /**
+     * ASYNC RENDERING PROPERTIES
+     */
+
+    /** Asynchronous rendering of {@code @LogAround} messages */
+    @Valid
+    private Async async = new Async();
+
+    /**
+     * METRICS PROPERTIES
+     */
+
+    /** Micrometer timers recorded around {@code @LogAround} methods */
+    @Valid
+    private Metrics metrics = new Metrics();
+
+    @Getter
+    @Setter
+    public static class Rendering {
+
+        /** Maximum number of elements rendered per collection, array, page or slice, 0 disables the limit */
+        @Min(0)
+        private int maxElements = 100;
+
+        /** Maximum nesting of rendered collections, 0 disables the limit */
+        @Min(0)
+        private int maxDepth = 5;
+
+        /** Maximum number of characters of a rendered parameter list or return value, 0 disables the limit */
+        @Min(0)
+        private int maxCharacters = 8192;
+
+        public RenderLimits toRenderLimits() {
+            return new RenderLimits(maxElements, maxDepth, maxCharacters);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Sampling {
+
+        /** Default sampling mode for methods that do not set one in the annotation */
+        @NotNull
+        private SamplingMode mode = SamplingMode.NONE;
+
+        /** Log one in every N calls when mode is RATE */
+        @Min(1)
+        private int rate = 1;
+
+        /** Calls logged per second and method when mode is TOKEN_BUCKET */
+        @Positive
+        private double permitsPerSecond = 1;
+
+        /** Calls that may be logged in a burst when mode is TOKEN_BUCKET */
+        @Min(1)
+        private int burst = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        /** Whether to render and emit {@code @LogAround} messages on a background thread */
+        private boolean enabled = false;
+
+        /** Maximum number of pending log events held by the dispatcher */
+        @Min(1)
+        private int bufferSize = 8192;
+
+        /** What to do with a new log event when the buffer is full */
+        @NotNull
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * How method parameters and return values are captured before the event is handed to the dispatcher;
+         * REFERENCE defers rendering to the dispatcher thread and must be opted into explicitly
+         */
+        @NotNull
+        private ParameterSnapshotPolicy parameterSnapshotPolicy = ParameterSnapshotPolicy.STRING;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /** Whether to record a timer for every {@code @LogAround} method when a MeterRegistry is available */
+        private boolean enabled = true;
+
+        /** Name of the timer recorded for advised methods */
+        @NotBlank
+        private String name = "aop.logger.method";
+
+        /** Whether to publish a percentile histogram suitable for aggregable percentiles in Prometheus */
+        private boolean percentileHistogram = true;
+
+        /**
+         * Client-side percentiles to publish, e.g. 0.5, 0.95, 0.99; none by default, since they cannot be aggregated
+         * across instances and the percentile histogram already covers them
+         */
+        private double[] percentiles = new double[0];
+    }
+
 }
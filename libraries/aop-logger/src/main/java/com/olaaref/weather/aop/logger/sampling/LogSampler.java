@@ -0,0 +1,20 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+/**
+ * Decides whether a normal (fast, successful) call of an advised method is logged.
+ * <p>
+ * Implementations must be thread-safe, as a single sampler is shared by all threads
+ * calling the same method.
+ *
+ * @see LogSamplerRegistry
+ */
+public interface LogSampler {
+
+    /** Sampler that logs every call */
+    LogSampler ALWAYS = () -> true;
+
+    /**
+     * @return true if the current call should be logged, false otherwise
+     */
+    boolean sample();
+}
@@ -0,0 +1,52 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+import com.olaaref.weather.aop.logger.advice.around.LogAround;
+import com.olaaref.weather.aop.logger.enums.SamplingMode;
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link LogSampler} per advised method.
+ * <p>
+ * The sampler of a method is created on its first call from the {@link LogAround} annotation, falling back
+ * to {@code weather.aop.logger.sampling} properties for every attribute left at its default value.
+ *
+ * @see LogSampler
+ * @see AopLoggersProperties.Sampling
+ */
+public class LogSamplerRegistry {
+
+    private final AopLoggersProperties.Sampling samplingProperties;
+
+    private final Map<Method, LogSampler> samplers = new ConcurrentHashMap<>();
+
+    public LogSamplerRegistry(AopLoggersProperties aopLoggersProperties) {
+        this.samplingProperties = aopLoggersProperties.getSampling();
+    }
+
+    /**
+     * Returns the sampler of the given method, creating it on first use.
+     *
+     * @param method The advised method
+     * @param logAround The LogAround annotation of the advised method
+     * @return The sampler of the method
+     */
+    public LogSampler getSampler(Method method, LogAround logAround) {
+        return samplers.computeIfAbsent(method, key -> createSampler(logAround));
+    }
+
+    private LogSampler createSampler(LogAround logAround) {
+        SamplingMode mode = logAround.sampling() == SamplingMode.DEFAULT ? samplingProperties.getMode() : logAround.sampling();
+        return switch (mode) {
+            case RATE -> new RateLogSampler(
+                    logAround.sampleRate() > 0 ? logAround.sampleRate() : samplingProperties.getRate());
+            case TOKEN_BUCKET -> new TokenBucketLogSampler(
+                    logAround.permitsPerSecond() > 0 ? logAround.permitsPerSecond() : samplingProperties.getPermitsPerSecond(),
+                    samplingProperties.getBurst());
+            default -> LogSampler.ALWAYS;
+        };
+    }
+}
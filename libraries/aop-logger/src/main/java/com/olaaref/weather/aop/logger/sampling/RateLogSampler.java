@@ -0,0 +1,23 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LogSampler} that logs one in every {@code rate} calls, starting with the first one.
+ */
+public class RateLogSampler implements LogSampler {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private final int rate;
+
+    public RateLogSampler(int rate) {
+        if (rate < 1) throw new IllegalArgumentException("Sample rate must be at least 1, but was " + rate);
+        this.rate = rate;
+    }
+
+    @Override
+    public boolean sample() {
+        return counter.getAndIncrement() % rate == 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link LogSampler} that logs up to {@code permitsPerSecond} calls per second with bursts of up to
+ * {@code burst} calls.
+ * <p>
+ * The bucket is implemented as a generic cell rate algorithm: instead of storing a token count and a
+ * refill timestamp, it stores the theoretical arrival time of the next permit in a single {@link AtomicLong}
+ * and updates it with a compare-and-set. Sampling is therefore lock-free and needs no background refill.
+ */
+public class TokenBucketLogSampler implements LogSampler {
+
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    public TokenBucketLogSampler(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be positive, but was " + permitsPerSecond);
+        }
+        if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1, but was " + burst);
+
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    @Override
+    public boolean sample() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long arrival = current == Long.MIN_VALUE ? now : Math.max(current, now);
+            if (arrival - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.olaaref.weather.aop.logger.template.interpolation.appender;
+
+import com.olaaref.weather.aop.logger.template.interpolation.converter.ToStringConverter;
+
+/**
+ * Character sink shared by the {@link ToStringConverter}s while one value is rendered, enforcing
+ * {@link RenderLimits} as the value is written instead of after the full string has been built.
+ *
+ * <p>Once {@link RenderLimits#maxCharacters()} is reached, the text is cut, {@value #TRUNCATED_SUFFIX} is
+ * appended and every further append is ignored, so converters can stop iterating as soon as
+ * {@link #isFull()} returns true. Converters of collections also check {@link #isElementLimitReached(int)}
+ * and track nesting with {@link #enter()} and {@link #exit()}.</p>
+ *
+ * <p>Example of a list of 250 elements rendered with {@code maxElements = 3}:</p>
+ * <pre>
+ * [1, 2, 3, ...(247 more)]
+ * </pre>
+ *
+ * <p>An instance is used by a single thread for a single value.</p>
+ *
+ * @see RenderLimits
+ * @see ToStringConverter#appendTo(Object, BoundedAppender)
+ */
+public class BoundedAppender {
+
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+
+    private static final String DEPTH_LIMIT_REACHED = "[...]";
+
+    private static final int MAX_INITIAL_CAPACITY = 256;
+
+    private final StringBuilder builder;
+
+    private final RenderLimits limits;
+
+    private int depth;
+
+    private boolean full;
+
+    public BoundedAppender(RenderLimits limits) {
+        this.limits = limits;
+        this.builder = new StringBuilder(limits.maxCharacters() > 0
+                ? Math.min(limits.maxCharacters(), MAX_INITIAL_CAPACITY)
+                : MAX_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Appends a value, cutting it if it exceeds the remaining characters.
+     *
+     * @param value the text to append, null is appended as "null"
+     * @return this appender
+     */
+    public BoundedAppender append(CharSequence value) {
+        if (full) return this;
+        CharSequence text = value != null ? value : "null";
+
+        int remaining = remainingCharacters();
+        if (remaining < 0 || text.length() <= remaining) {
+            builder.append(text);
+        } else {
+            builder.append(text, 0, remaining).append(TRUNCATED_SUFFIX);
+            full = true;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a single character, unless the character limit is reached.
+     *
+     * @param character the character to append
+     * @return this appender
+     */
+    public BoundedAppender append(char character) {
+        if (full) return this;
+
+        if (remainingCharacters() == 0) {
+            builder.append(TRUNCATED_SUFFIX);
+            full = true;
+        } else {
+            builder.append(character);
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether the character limit has been reached; nothing more will be appended.
+     *
+     * @return true if the rendered text has been truncated
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Returns whether a collection that already rendered the given number of elements must stop.
+     *
+     * @param renderedElements the number of elements rendered so far
+     * @return true if no further element may be rendered
+     */
+    public boolean isElementLimitReached(int renderedElements) {
+        return limits.maxElements() > 0 && renderedElements >= limits.maxElements();
+    }
+
+    /**
+     * Appends the suffix of a collection whose remaining elements are not rendered.
+     *
+     * @param remainingElements the number of elements not rendered, or a negative value if it is unknown
+     */
+    public void appendMoreElements(long remainingElements) {
+        append(remainingElements >= 0 ? "...(" + remainingElements + " more)" : "...(more)");
+    }
+
+    /**
+     * Enters a nested collection.
+     *
+     * <p>If the maximum depth is reached, {@code [...]} is appended instead and false is returned; in that case the
+     * caller must not render the collection nor call {@link #exit()}.</p>
+     *
+     * @return true if the collection may be rendered
+     */
+    public boolean enter() {
+        if (limits.maxDepth() > 0 && depth >= limits.maxDepth()) {
+            append(DEPTH_LIMIT_REACHED);
+            return false;
+        }
+        depth++;
+        return true;
+    }
+
+    /**
+     * Leaves a nested collection entered with {@link #enter()}.
+     */
+    public void exit() {
+        depth--;
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+
+    private int remainingCharacters() {
+        return limits.maxCharacters() > 0 ? limits.maxCharacters() - builder.length() : -1;
+    }
+}
@@ -0,0 +1,38 @@
+package com.olaaref.weather.aop.logger.template.interpolation.appender;
+
+/**
+ * Limits applied while rendering a value into a {@link BoundedAppender}.
+ *
+ * <p>A limit of zero or less disables that limit.</p>
+ *
+ * @param maxElements maximum number of elements rendered per collection, array, page or slice
+ * @param maxDepth maximum nesting of collections rendered, deeper ones are rendered as {@code [...]}
+ * @param maxCharacters maximum number of characters of one rendered variable
+ */
+public record RenderLimits(int maxElements, int maxDepth, int maxCharacters) {
+
+    /** No limit at all, the behavior of the converters' {@code toString} methods */
+    public static final RenderLimits UNLIMITED = new RenderLimits(0, 0, 0);
+
+    /**
+     * Returns these limits with the values set on an annotation applied on top.
+     *
+     * <p>An annotation value of {@code -1} keeps the current limit, {@code 0} disables it and any
+     * positive value replaces it.</p>
+     *
+     * @param maxElements the annotation's maximum number of elements
+     * @param maxDepth the annotation's maximum depth
+     * @param maxCharacters the annotation's maximum number of characters
+     * @return the resulting limits
+     */
+    public RenderLimits override(int maxElements, int maxDepth, int maxCharacters) {
+        if (maxElements < 0 && maxDepth < 0 && maxCharacters < 0) {
+            return this;
+        }
+        return new RenderLimits(
+                maxElements < 0 ? this.maxElements : maxElements,
+                maxDepth < 0 ? this.maxDepth : maxDepth,
+                maxCharacters < 0 ? this.maxCharacters : maxCharacters
+        );
+    }
+}
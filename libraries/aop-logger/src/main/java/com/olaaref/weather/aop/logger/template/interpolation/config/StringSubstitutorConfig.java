@@ -77,4 +77,9 @@ public class StringSubstitutorConfig {
     public ElapsedStringSupplierRegistrar elapsedStringSupplierRegistrar(){
         return new ElapsedStringSupplierRegistrar();
     }
+
+    @Bean
+    public ElapsedTimeLimitStringSupplierRegistrar elapsedTimeLimitStringSupplierRegistrar(){
+        return new ElapsedTimeLimitStringSupplierRegistrar();
+    }
 }
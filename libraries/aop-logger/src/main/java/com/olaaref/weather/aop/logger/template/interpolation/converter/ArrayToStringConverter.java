@@ -1,25 +1,32 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.lang.reflect.Array;
 
 /**
- * {@link ToStringConverter} implementation for array types, using {@link ObjectToStringConverter} to return
- * a String representation of each element. This strategy converts arrays to a comma-separated list of elements
- * enclosed within square brackets "[]".
+ * {@link ToStringConverter} implementation for array types, using the converter selected by
+ * {@link ToStringConverterSelector} to return a String representation of each element. This strategy converts
+ * arrays to a comma-separated list of elements enclosed within square brackets "[]".
  *
  * <p>This strategy handles all array types (primitive and object arrays) and properly manages null elements
- * by representing them as the string "null". For non-null elements, it delegates to {@link ObjectToStringConverter}
- * to generate appropriate string representations.</p>
+ * by representing them as the string "null". Nested arrays and collections are rendered by their own converter,
+ * so the {@link RenderLimits} of the {@link BoundedAppender} apply to them as well.</p>
  *
  * @see ToStringConverter
- * @see ObjectToStringConverter
+ * @see BoundedAppender
  */
 public class ArrayToStringConverter implements ToStringConverter {
 
     @Autowired
-    private ObjectToStringConverter objectToStringStrategy;
+    private ObjectProvider<ToStringConverterSelector> toStringConverterSelectorProvider;
+
+    // Resolved on first use, the selector itself depends on every converter
+    private ToStringConverterSelector toStringConverterSelector;
 
     /**
      * Determines if the given object type is an array.
@@ -37,49 +44,69 @@ public class ArrayToStringConverter implements ToStringConverter {
 
 
     /**
-     * Converts the given array object to its string representation.
-     *
-     * <p>This method uses java.lang.reflect.Array to handle all array types including primitive arrays.
-     * <p>It iterates through the array elements, appending each element's string
-     * representation to a StringBuilder. Elements are separated by commas and the entire list
-     * is enclosed in square brackets. For empty arrays, it returns "[]".</p>
+     * Converts the given array object to its string representation, without any limit.
      *
      * @param object the array object to convert to string
      * @return the string representation of the array
      */
     @Override
     public String toString(Object object) {
-        final int length = Array.getLength(object);
-        
-        if (length == 0) {
-            return "[]";
-        }
-        
-        StringBuilder builder = new StringBuilder("[");
-        
-        for (int i = 0; i < length; i++) {
-            Object element = Array.get(object, i);
-            builder.append(appendString(element));
-            
-            if (i < length - 1) {
-                builder.append(", ");
+        BoundedAppender appender = new BoundedAppender(RenderLimits.UNLIMITED);
+        appendTo(object, appender);
+        return appender.toString();
+    }
+
+    /**
+     * Appends the given array object to the appender.
+     *
+     * <p>This method uses java.lang.reflect.Array to handle all array types including primitive arrays.
+     * <p>It iterates through the array elements, appending each element's string
+     * representation. Elements are separated by commas and the entire list
+     * is enclosed in square brackets. For empty arrays, it appends "[]".</p>
+     *
+     * <p>Iteration stops as soon as the appender is full or the maximum number of elements is rendered.</p>
+     *
+     * @param object the array object to append
+     * @param appender the appender enforcing the render limits
+     */
+    @Override
+    public void appendTo(Object object, BoundedAppender appender) {
+        if (!appender.enter()) return;
+
+        try {
+            final int length = Array.getLength(object);
+
+            appender.append('[');
+            for (int i = 0; i < length && !appender.isFull(); i++) {
+                if (i > 0) {
+                    appender.append(", ");
+                }
+                if (appender.isElementLimitReached(i)) {
+                    appender.appendMoreElements(length - i);
+                    break;
+                }
+                appendElement(Array.get(object, i), appender);
             }
+            appender.append(']');
+        } finally {
+            appender.exit();
         }
-        
-        builder.append(']');
-        return builder.toString();
     }
 
     /**
-     * Converts an element to its string representation, handling null values.
-     *
-     * <p>If the element is null, returns the string "null". Otherwise, delegates to
-     * {@link ObjectToStringConverter} to generate the string representation of the element.</p>
+     * Appends an element using the converter selected for it; a null element is appended as "null".
      *
-     * @param element the array element to convert to string
-     * @return the string representation of the element, or "null" if the element is null
+     * @param element the array element to append
+     * @param appender the appender enforcing the render limits
      */
-    private String appendString(Object element) {
-        return element == null ? "null" : objectToStringStrategy.toString(element);
+    private void appendElement(Object element, BoundedAppender appender) {
+        getToStringConverterSelector().findConverterOrDefault(element).appendTo(element, appender);
+    }
+
+    private ToStringConverterSelector getToStringConverterSelector() {
+        if (toStringConverterSelector == null) {
+            toStringConverterSelector = toStringConverterSelectorProvider.getObject();
+        }
+        return toStringConverterSelector;
     }
 }
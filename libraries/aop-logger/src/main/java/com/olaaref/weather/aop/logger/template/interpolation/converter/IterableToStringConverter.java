@@ -1,22 +1,37 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Collection;
+import java.util.Iterator;
+
 /**
- * {@link ToStringConverter} implementation for {@link Iterable} types, using
- * {@link ObjectToStringConverter} to return a String representation of each element. This strategy converts
+ * {@link ToStringConverter} implementation for {@link Iterable} types, using the converter selected by
+ * {@link ToStringConverterSelector} to return a String representation of each element. This strategy converts
  * iterables to a comma-separated list of elements enclosed within square brackets "[]".
  *
  * <p>This strategy handles all Iterable implementations (List, Set, Queue, etc.) and properly manages null elements
- * by representing them as the string "null". For non-null elements, it delegates to {@link ObjectToStringConverter}
- * to generate appropriate string representations.</p>
+ * by representing them as the string "null". Nested collections are rendered by their own converter, so the
+ * {@link RenderLimits} of the {@link BoundedAppender} apply to them as well.</p>
+ *
+ * <p>Example output with {@code maxElements = 3}:</p>
+ * <pre>
+ * [1, 2, 3, ...(247 more)]
+ * </pre>
  *
  * @see ToStringConverter
- * @see ObjectToStringConverter
+ * @see BoundedAppender
  */
 public class IterableToStringConverter implements ToStringConverter {
     @Autowired
-    private ObjectToStringConverter objectToStringStrategy;
+    private ObjectProvider<ToStringConverterSelector> toStringConverterSelectorProvider;
+
+    // Resolved on first use, the selector itself depends on every converter
+    private ToStringConverterSelector toStringConverterSelector;
 
     /**
      * Determines if the given object type is an Iterable.
@@ -33,45 +48,75 @@ public class IterableToStringConverter implements ToStringConverter {
     }
 
     /**
-     * Converts the given Iterable object to its string representation.
-     *
-     * <p>This method casts the input object to an Iterable<?>.</p>
-     * <p>This method iterates through the Iterable elements using an Iterator, appending each element's string
-     * representation to a StringBuilder. Elements are separated by commas and the entire list
-     *  is enclosed in square brackets. For empty Iterables, it returns "[]".</p>
-     *
-     * <p>The implementation handles the first element separately to avoid adding a comma after the last element.</p>
+     * Converts the given Iterable object to its string representation, without any limit.
      *
      * @param object the Iterable object to convert to string
      * @return the string representation of the Iterable
      */
     @Override
     public String toString(Object object) {
-        Iterable<?> iterable = (Iterable<?>) object;
-        if(iterable.iterator().hasNext()) return "[]";
+        BoundedAppender appender = new BoundedAppender(RenderLimits.UNLIMITED);
+        appendTo(object, appender);
+        return appender.toString();
+    }
+
+    /**
+     * Appends the given Iterable object to the appender.
+     *
+     * <p>This method iterates through the Iterable elements using a single Iterator, appending each element's string
+     * representation. Elements are separated by commas and the entire list is enclosed in square brackets.
+     * For empty Iterables, it appends "[]".</p>
+     *
+     * <p>Iteration stops as soon as the appender is full or the maximum number of elements is rendered; in the
+     * latter case the number of remaining elements is appended if the Iterable is a {@link Collection}.</p>
+     *
+     * @param object the Iterable object to append
+     * @param appender the appender enforcing the render limits
+     */
+    @Override
+    public void appendTo(Object object, BoundedAppender appender) {
+        if (!appender.enter()) return;
 
-        StringBuilder builder = new StringBuilder("[");
-        builder.append(appendString(iterable.iterator().next()));
+        try {
+            Iterator<?> iterator = ((Iterable<?>) object).iterator();
+            int renderedElements = 0;
 
-        while (iterable.iterator().hasNext()){
-            builder.append(", ");
-            builder.append(appendString(iterable.iterator().next()));
+            appender.append('[');
+            while (iterator.hasNext() && !appender.isFull()) {
+                if (renderedElements > 0) {
+                    appender.append(", ");
+                }
+                if (appender.isElementLimitReached(renderedElements)) {
+                    appender.appendMoreElements(getRemainingElements(object, renderedElements));
+                    break;
+                }
+                appendElement(iterator.next(), appender);
+                renderedElements++;
+            }
+            appender.append(']');
+        } finally {
+            appender.exit();
         }
-
-        builder.append("]");
-        return builder.toString();
     }
 
     /**
-     * Converts an element to its string representation, handling null values.
-     *
-     * <p>If the element is null, returns the string "null". Otherwise, delegates to
-     * {@link ObjectToStringConverter} to generate the string representation of the element.</p>
+     * Appends an element using the converter selected for it; a null element is appended as "null".
      *
-     * @param element the Iterable element to convert to string
-     * @return the string representation of the element, or "null" if the element is null
+     * @param element the Iterable element to append
+     * @param appender the appender enforcing the render limits
      */
-    private String appendString(Object element) {
-        return element == null ? "null" : objectToStringStrategy.toString(element);
+    private void appendElement(Object element, BoundedAppender appender) {
+        getToStringConverterSelector().findConverterOrDefault(element).appendTo(element, appender);
+    }
+
+    private long getRemainingElements(Object object, int renderedElements) {
+        return object instanceof Collection<?> collection ? collection.size() - renderedElements : -1;
+    }
+
+    private ToStringConverterSelector getToStringConverterSelector() {
+        if (toStringConverterSelector == null) {
+            toStringConverterSelector = toStringConverterSelectorProvider.getObject();
+        }
+        return toStringConverterSelector;
     }
 }
@@ -1,5 +1,8 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Optional;
@@ -24,6 +27,9 @@ public class OptionalToStringConverter implements ToStringConverter {
     @Autowired
     private ObjectToStringConverter objectToStringStrategy;
 
+    @Autowired
+    private ObjectProvider<ToStringConverterSelector> toStringConverterSelectorProvider;
+
     /**
      * Determines if the given object type is an Optional.
      *
@@ -52,4 +58,17 @@ public class OptionalToStringConverter implements ToStringConverter {
         Optional<?> optionalObject = (Optional<?>) object;
         return optionalObject.isEmpty() ? "null" : objectToStringStrategy.toString(optionalObject.get());
     }
+
+    /**
+     * Appends the contained value using the converter selected for it, so a contained collection is bounded
+     * by the render limits; an empty Optional is appended as "null".
+     *
+     * @param object the Optional object to append
+     * @param appender the appender enforcing the render limits
+     */
+    @Override
+    public void appendTo(Object object, BoundedAppender appender) {
+        Object value = ((Optional<?>) object).orElse(null);
+        toStringConverterSelectorProvider.getObject().findConverterOrDefault(value).appendTo(value, appender);
+    }
 }
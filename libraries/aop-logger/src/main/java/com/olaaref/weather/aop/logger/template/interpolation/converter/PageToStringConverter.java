@@ -1,7 +1,7 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 
@@ -12,9 +12,10 @@ import org.springframework.data.domain.Page;
  * <p>This strategy handles Spring Data's Page interface, which represents a page of data with pagination information.
  * It formats both the pagination metadata (page number, size, sort, etc.) and the actual content of the page.</p>
  *
- * <p>The implementation uses Apache Commons Lang's {@link ToStringBuilder} to create a structured representation
- * of the Page object, including pagination details when available. The page content is formatted using
- * {@link IterableToStringConverter} to maintain consistent collection formatting throughout the application.</p>
+ * <p>The implementation writes a structured representation, in the style of Apache Commons Lang's
+ * {@code ToStringStyle.NO_CLASS_NAME_STYLE}, of the Page object, including pagination details when available.
+ * The page content is formatted using {@link IterableToStringConverter} to maintain consistent collection
+ * formatting throughout the application.</p>
  *
  * <p>Example output:</p>
  * <pre>
@@ -28,7 +29,7 @@ import org.springframework.data.domain.Page;
  * @see ToStringConverter
  * @see IterableToStringConverter
  * @see Page
- * @see ToStringBuilder
+ * @see BoundedAppender
  */
 public class PageToStringConverter implements ToStringConverter {
     @Autowired
@@ -66,22 +67,40 @@ public class PageToStringConverter implements ToStringConverter {
      */
     @Override
     public String toString(Object object) {
+        BoundedAppender appender = new BoundedAppender(RenderLimits.UNLIMITED);
+        appendTo(object, appender);
+        return appender.toString();
+    }
+
+    /**
+     * Appends the given Page object to the appender, in the same format as {@link #toString(Object)}.
+     *
+     * <p>The page content is appended by {@link IterableToStringConverter}, so the maximum number of elements
+     * and characters apply to it.</p>
+     *
+     * @param object the Page object to append
+     * @param appender the appender enforcing the render limits
+     */
+    @Override
+    public void appendTo(Object object, BoundedAppender appender) {
         Page<?> page = (Page<?>) object;
-        ToStringBuilder toStringBuilder = new ToStringBuilder(page, ToStringStyle.NO_CLASS_NAME_STYLE);
 
+        appender.append('[');
         if(page.getPageable().isPaged()){
-            toStringBuilder
-                    .append("page", page.getNumber())
-                    .append("size", page.getSize())
-                    .append("sort", page.getSort())
-                    .append("totalElements", page.getTotalElements())
-                    .append("totalPages", page.getTotalPages());
+            appendField(appender, "page", page.getNumber());
+            appendField(appender, "size", page.getSize());
+            appendField(appender, "sort", page.getSort());
+            appendField(appender, "totalElements", page.getTotalElements());
+            appendField(appender, "totalPages", page.getTotalPages());
         }
 
-        toStringBuilder
-                .append("numberOfElements", page.getNumberOfElements())
-                .append("content", iterableToStringStrategy.toString(page.getContent()));
+        appendField(appender, "numberOfElements", page.getNumberOfElements());
+        appender.append("content=");
+        iterableToStringStrategy.appendTo(page.getContent(), appender);
+        appender.append(']');
+    }
 
-        return toStringBuilder.toString();
+    private void appendField(BoundedAppender appender, String fieldName, Object value) {
+        appender.append(fieldName).append('=').append(String.valueOf(value)).append(',');
     }
 }
@@ -1,7 +1,8 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Slice;
 
 /**
@@ -11,9 +12,10 @@ import org.springframework.data.domain.Slice;
  * <p>This strategy handles Spring Data's Slice interface, which represents a portion or slice of data with pagination information.
  * It formats both the pagination metadata (page number, size, sort, etc.) and the actual content of the slice.</p>
  *
- * <p>The implementation uses Apache Commons Lang's {@link ToStringBuilder} to create a structured representation
- * of the Slice object, including pagination details when available. The slice content is formatted using
- * {@link IterableToStringConverter} to maintain consistent collection formatting throughout the application.</p>
+ * <p>The implementation writes a structured representation, in the style of Apache Commons Lang's
+ * {@code ToStringStyle.NO_CLASS_NAME_STYLE}, of the Slice object, including pagination details when available.
+ * The slice content is formatted using {@link IterableToStringConverter} to maintain consistent collection
+ * formatting throughout the application.</p>
  *
  * <p>Example output:</p>
  * <pre>
@@ -27,10 +29,11 @@ import org.springframework.data.domain.Slice;
  * @see ToStringConverter
  * @see IterableToStringConverter
  * @see Slice
- * @see ToStringBuilder
+ * @see BoundedAppender
  */
 public class SliceToStringConverter implements ToStringConverter {
 
+    @Autowired
     private IterableToStringConverter iterableToStringStrategy;
 
     /**
@@ -68,20 +71,38 @@ public class SliceToStringConverter implements ToStringConverter {
      */
     @Override
     public String toString(Object object) {
+        BoundedAppender appender = new BoundedAppender(RenderLimits.UNLIMITED);
+        appendTo(object, appender);
+        return appender.toString();
+    }
+
+    /**
+     * Appends the given Slice object to the appender, in the same format as {@link #toString(Object)}.
+     *
+     * <p>The slice content is appended by {@link IterableToStringConverter}, so the maximum number of elements
+     * and characters apply to it.</p>
+     *
+     * @param object the Slice object to append
+     * @param appender the appender enforcing the render limits
+     */
+    @Override
+    public void appendTo(Object object, BoundedAppender appender) {
         Slice<?> slice = (Slice<?>) object;
-        ToStringBuilder toStringBuilder = new ToStringBuilder(slice, ToStringStyle.NO_CLASS_NAME_STYLE);
 
+        appender.append('[');
         if(slice.getPageable().isPaged()) {
-            toStringBuilder
-                    .append("page", slice.getPageable().getPageNumber())
-                    .append("size", slice.getPageable().getPageSize())
-                    .append("sort", slice.getPageable().getSort());
+            appendField(appender, "page", slice.getPageable().getPageNumber());
+            appendField(appender, "size", slice.getPageable().getPageSize());
+            appendField(appender, "sort", slice.getPageable().getSort());
         }
 
-        toStringBuilder
-                .append("numberOfElements", slice.getNumberOfElements())
-                .append("content", iterableToStringStrategy.toString(slice.getContent()));
+        appendField(appender, "numberOfElements", slice.getNumberOfElements());
+        appender.append("content=");
+        iterableToStringStrategy.appendTo(slice.getContent(), appender);
+        appender.append(']');
+    }
 
-        return toStringBuilder.toString();
+    private void appendField(BoundedAppender appender, String fieldName, Object value) {
+        appender.append(fieldName).append('=').append(String.valueOf(value)).append(',');
     }
 }
@@ -1,5 +1,6 @@
 package com.olaaref.weather.aop.logger.template.interpolation.converter;
 
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.StringSupplierRegistrar;
 
 /**
@@ -17,6 +18,9 @@ import com.olaaref.weather.aop.logger.template.interpolation.registrar.StringSup
  *   <li>{@link SliceToStringConverter} - Handles Spring Data Slice objects</li>
  * </ul>
  *
+ * <p>The registrars render values through {@link #appendTo(Object, BoundedAppender)}, so converters of
+ * collections can stop as soon as the configured limits are reached.</p>
+ *
  */
 public interface ToStringConverter {
 
@@ -36,4 +40,17 @@ public interface ToStringConverter {
      * @return the string representation of the object
      */
     String toString(Object object);
+
+    /**
+     * Appends the string representation of the given object to a {@link BoundedAppender}.
+     *
+     * <p>The default implementation appends {@link #toString(Object)}, which the appender cuts at the maximum
+     * number of characters. Converters of collections override it to stop rendering at the limits.</p>
+     *
+     * @param object the object to append
+     * @param appender the appender enforcing the render limits
+     */
+    default void appendTo(Object object, BoundedAppender appender) {
+        appender.append(toString(object));
+    }
 }
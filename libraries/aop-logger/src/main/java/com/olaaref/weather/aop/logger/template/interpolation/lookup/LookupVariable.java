@@ -0,0 +1,58 @@
+package com.olaaref.weather.aop.logger.template.interpolation.lookup;
+
+import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringSubstitutor;
+
+/**
+ * The fixed set of variables provided by the built-in registrars.
+ *
+ * <p>Each variable owns a slot in {@link StringSupplierLookup}, so {@link StringSubstitutor} can resolve
+ * a variable once, when the template is compiled, and then read its value by index instead of hashing the key
+ * on every call. Keys that are not listed here are still supported through
+ * {@link StringSupplierLookup#addStringSupplier(String, java.util.function.Supplier)}.</p>
+ *
+ * @see StringSupplierLookup
+ * @see StringSubstitutor
+ */
+public enum LookupVariable {
+    METHOD("method"),
+    PARAMETERS("parameters"),
+    RETURN_VALUE("return-value"),
+    EXCEPTION("exception"),
+    ELAPSED("elapsed"),
+    ELAPSED_TIME_LIMIT("elapsed-time-limit");
+
+    private static final LookupVariable[] VARIABLES = values();
+
+    /** Number of slots needed to hold every variable */
+    public static final int COUNT = VARIABLES.length;
+
+    private final String key;
+
+    LookupVariable(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Returns the key used for this variable in message templates, without the curly braces.
+     *
+     * @return the template key of this variable
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Finds the variable registered under the given template key.
+     *
+     * @param key the template key, without the curly braces
+     * @return the matching variable, or null if the key is not one of the built-in variables
+     */
+    public static LookupVariable fromKey(String key) {
+        for (LookupVariable variable : VARIABLES) {
+            if (variable.key.equals(key)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+}
@@ -6,8 +6,8 @@ import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringS
  * Interface for looking up string values by key. This interface is primarily used by
  * {@link StringSubstitutor} to resolve variable values during string interpolation.
  *
- * <p>The default implementation {@link StringSupplierLookup} uses a map of {@link java.util.function.Supplier}
- * instances to provide dynamic string values.
+ * <p>The default implementation {@link StringSupplierLookup} renders each value from a registered source
+ * when it is first looked up.
  *
  */
 public interface StringLookup {
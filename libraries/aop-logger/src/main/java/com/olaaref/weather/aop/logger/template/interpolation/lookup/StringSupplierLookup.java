@@ -1,60 +1,127 @@
 package com.olaaref.weather.aop.logger.template.interpolation.lookup;
 
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
 import com.olaaref.weather.aop.logger.template.interpolation.registrar.StringSupplierRegistrar;
 import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringSubstitutor;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
  * Default implementation of {@link StringLookup} used by {@link StringSubstitutor} to resolve string values by key.
- * This class maintains a map of string suppliers that can dynamically generate values when needed.
+ * This class holds the sources of the variables of one advised call and renders them when needed.
  *
  * <p>The StringSupplierLookup serves as a central registry for variable values in the string interpolation system.
- * It stores {@link Supplier <String>} instances rather than static string values, allowing for dynamic value
- * resolution at the time of lookup rather than at registration time.</p>
+ * The built-in {@link LookupVariable}s are stored in fixed array slots: each slot holds a source object and the
+ * renderer that turns it into a string. The value is rendered on the first lookup and memoized, so a variable used
+ * by several messages of the same call (e.g. {@code {method}} in the entering and exited messages) is rendered once.
+ * Registering the same source with the same renderer again keeps the memoized value.</p>
+ *
+ * <p>Renderers receive the {@link RenderLimits} of the lookup, which the advice sets from the annotation and the
+ * {@code weather.aop.logger.rendering} properties, so collections are rendered up to those limits only.</p>
+ *
+ * <p>Any other key can be registered with {@link #addStringSupplier(String, Supplier)}; those suppliers are kept in
+ * a map that is only created when such a key is used.</p>
  *
  * <p>This class is primarily used in conjunction with various {@link StringSupplierRegistrar} implementations
- * that populate it with suppliers for different types of information (method parameters, return values, exceptions, etc.).</p>
+ * that populate it with sources for different types of information (method parameters, return values, exceptions, etc.).</p>
  *
- * <p><strong>Thread Safety:</strong> This implementation is thread-safe. It uses ConcurrentHashMap internally
- * to ensure that concurrent modifications to the map are handled safely without requiring external
- * synchronization.</p>
+ * <p><strong>Thread Safety:</strong> This implementation is not thread-safe. An instance is confined to the thread
+ * of the advised call; use {@link #copy()} to hand the current values over to another thread.</p>
  *
  * @see StringLookup
+ * @see LookupVariable
  * @see StringSubstitutor
  * @see StringSupplierRegistrar
+ * @see StringSupplierLookupPool
  */
 public class StringSupplierLookup implements StringLookup {
 
-    /**
-     * Internal map that stores string suppliers keyed by variable names.
-     * Each supplier is responsible for generating the string value when requested.
-     * Using ConcurrentHashMap to ensure thread safety for concurrent operations.
-     */
-    private final Map<String, Supplier<String>> supplierMap = new ConcurrentHashMap<>();
+    private static final ValueRenderer<Supplier<String>> SUPPLIER_RENDERER = (supplier, renderLimits) -> supplier.get();
+
+    /** Source object of each variable slot, indexed by {@link LookupVariable#ordinal()} */
+    private final Object[] sources = new Object[LookupVariable.COUNT];
+
+    /** Renderer of each variable slot, applied to the source on the first lookup */
+    private final ValueRenderer<Object>[] renderers = newRenderers();
+
+    /** Memoized rendered value of each variable slot */
+    private final String[] values = new String[LookupVariable.COUNT];
+
+    /** Suppliers registered for keys that are not built-in variables, created on first use */
+    private Map<String, Supplier<String>> supplierMap;
+
+    /** Limits passed to the renderers */
+    private RenderLimits renderLimits = RenderLimits.UNLIMITED;
 
     /**
-     * Looks up a string value for the given key by retrieving and invoking the corresponding supplier.
+     * Looks up a string value for the given key.
      *
-     * <p>If the key exists in the map, the associated supplier is invoked to generate the current value.
-     * If the key does not exist, null is returned.</p>
+     * <p>Built-in variables are resolved through their slot, other keys through the supplier registered
+     * with {@link #addStringSupplier(String, Supplier)}. If the key is unknown, null is returned.</p>
      *
      * @param key the key to look up
-     * @return the string value produced by the supplier associated with the key, or null if the key is not found
+     * @return the string value associated with the key, or null if the key is not found
      */
     @Override
     public String lookup(String key) {
-        Supplier<String> supplier = supplierMap.get(key);
+        LookupVariable variable = LookupVariable.fromKey(key);
+        if (variable != null) {
+            return lookup(variable);
+        }
+
+        Supplier<String> supplier = supplierMap != null ? supplierMap.get(key) : null;
         return supplier != null ? supplier.get() : null;
     }
 
+    /**
+     * Looks up the value of a built-in variable, rendering and memoizing it on the first call.
+     *
+     * @param variable the variable to look up
+     * @return the rendered value, or null if no source is registered for the variable
+     */
+    public String lookup(LookupVariable variable) {
+        int slot = variable.ordinal();
+        String value = values[slot];
+        if (value == null && renderers[slot] != null) {
+            value = renderers[slot].render(sources[slot], renderLimits);
+            values[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Registers the <b>SOURCE</b> of a built-in variable and the renderer that converts it to a string.
+     *
+     * <p>The renderer is only applied when the variable is looked up. If the same source and renderer are already
+     * registered, the memoized value is kept; otherwise it is discarded.</p>
+     *
+     * <p>Renderers should be shared instances (e.g. a method reference kept in a field) so registering
+     * a variable does not allocate.</p>
+     *
+     * @param variable the variable to register
+     * @param source the object the value is rendered from
+     * @param renderer the function that renders the source, applied at most once until the source changes
+     * @param <T> the type of the source
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void addSource(LookupVariable variable, T source, ValueRenderer<? super T> renderer) {
+        int slot = variable.ordinal();
+        if (sources[slot] == source && renderers[slot] == renderer) {
+            return;
+        }
+        sources[slot] = source;
+        renderers[slot] = (ValueRenderer<Object>) renderer;
+        values[slot] = null;
+    }
+
     /**
      * Registers a <b>STRING SUPPLIER</b> for the specified key.
      *
-     * <p>This method associates a supplier with a key in the internal map. The supplier will be invoked
-     * each time the key is looked up, allowing for dynamic value generation.</p>
+     * <p>The supplier will be invoked each time the key is looked up, allowing for dynamic value generation.
+     * For a built-in variable, the supplier replaces its source and its value is memoized like any other source.</p>
      *
      * <p>If a supplier is already registered for the given key, it will be replaced by the new supplier.</p>
      *
@@ -62,7 +129,73 @@ public class StringSupplierLookup implements StringLookup {
      * @param stringSupplier the supplier that will generate the string value when the key is looked up
      */
     public void addStringSupplier(String key, Supplier<String> stringSupplier) {
+        LookupVariable variable = LookupVariable.fromKey(key);
+        if (variable != null) {
+            addSource(variable, stringSupplier, SUPPLIER_RENDERER);
+            return;
+        }
+
+        if (supplierMap == null) {
+            supplierMap = new HashMap<>();
+        }
         supplierMap.put(key, stringSupplier);
     }
 
+    /**
+     * Returns the limits passed to the renderers, {@link RenderLimits#UNLIMITED} unless set.
+     *
+     * @return the render limits of this lookup
+     */
+    public RenderLimits getRenderLimits() {
+        return renderLimits;
+    }
+
+    /**
+     * Sets the limits passed to the renderers of values that are not rendered yet.
+     *
+     * @param renderLimits the render limits to use
+     */
+    public void setRenderLimits(RenderLimits renderLimits) {
+        this.renderLimits = renderLimits;
+    }
+
+    /**
+     * Creates a detached copy holding the same sources, renderers and memoized values.
+     *
+     * <p>The copy can be read by another thread while this instance keeps being used, or reused through
+     * {@link StringSupplierLookupPool}, by the calling thread.</p>
+     *
+     * @return a new lookup with the current state of this one
+     */
+    public StringSupplierLookup copy() {
+        StringSupplierLookup copy = new StringSupplierLookup();
+        copy.renderLimits = renderLimits;
+        System.arraycopy(sources, 0, copy.sources, 0, sources.length);
+        System.arraycopy(renderers, 0, copy.renderers, 0, renderers.length);
+        System.arraycopy(values, 0, copy.values, 0, values.length);
+        if (supplierMap != null) {
+            copy.supplierMap = new HashMap<>(supplierMap);
+        }
+        return copy;
+    }
+
+    /**
+     * Removes every registered source, renderer, memoized value, supplier and render limit, so the instance
+     * can be reused.
+     */
+    public void clear() {
+        renderLimits = RenderLimits.UNLIMITED;
+        Arrays.fill(sources, null);
+        Arrays.fill(renderers, null);
+        Arrays.fill(values, null);
+        if (supplierMap != null) {
+            supplierMap.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueRenderer<Object>[] newRenderers() {
+        return (ValueRenderer<Object>[]) new ValueRenderer[LookupVariable.COUNT];
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.olaaref.weather.aop.logger.template.interpolation.lookup;
+
+/**
+ * Per-thread pool of {@link StringSupplierLookup} instances, used by the around advice to avoid allocating
+ * a lookup for every advised call.
+ *
+ * <p>Each platform thread keeps a small stack of lookups, so nested advised calls on the same thread each get
+ * their own instance. Virtual threads are usually short-lived and would only fill their thread locals,
+ * so they always get a new lookup.</p>
+ *
+ * <p>Every lookup returned by {@link #acquire()} must be handed back with {@link #release(StringSupplierLookup)}
+ * in a {@code finally} block, and must not be used afterwards. A lookup that is read by another thread must be
+ * passed as a {@link StringSupplierLookup#copy()}.</p>
+ */
+public final class StringSupplierLookupPool {
+
+    /** Deepest nesting of advised calls served from the pool; deeper calls get a new lookup */
+    private static final int MAX_DEPTH = 16;
+
+    private static final ThreadLocal<Stack> STACKS = ThreadLocal.withInitial(Stack::new);
+
+    private StringSupplierLookupPool() {
+    }
+
+    /**
+     * Returns an empty lookup for the current call.
+     *
+     * @return a cleared lookup owned by the caller until it is released
+     */
+    public static StringSupplierLookup acquire() {
+        if (Thread.currentThread().isVirtual()) {
+            return new StringSupplierLookup();
+        }
+        return STACKS.get().push();
+    }
+
+    /**
+     * Clears the lookup and returns it to the pool of the current thread.
+     *
+     * @param lookup the lookup obtained from {@link #acquire()}
+     */
+    public static void release(StringSupplierLookup lookup) {
+        if (Thread.currentThread().isVirtual()) {
+            return;
+        }
+        STACKS.get().pop(lookup);
+    }
+
+    private static final class Stack {
+        private final StringSupplierLookup[] lookups = new StringSupplierLookup[MAX_DEPTH];
+        private int depth;
+
+        StringSupplierLookup push() {
+            if (depth >= MAX_DEPTH) {
+                depth++;
+                return new StringSupplierLookup();
+            }
+            StringSupplierLookup lookup = lookups[depth];
+            if (lookup == null) {
+                lookup = new StringSupplierLookup();
+                lookups[depth] = lookup;
+            }
+            depth++;
+            return lookup;
+        }
+
+        void pop(StringSupplierLookup lookup) {
+            depth--;
+            if (depth < MAX_DEPTH && lookups[depth] == lookup) {
+                lookup.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.olaaref.weather.aop.logger.template.interpolation.lookup;
+
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
+
+/**
+ * Renders the source registered for a {@link LookupVariable} in a {@link StringSupplierLookup}.
+ *
+ * @param <T> the type of the source
+ * @see StringSupplierLookup#addSource(LookupVariable, Object, ValueRenderer)
+ */
+@FunctionalInterface
+public interface ValueRenderer<T> {
+
+    /**
+     * Renders the source to a string.
+     *
+     * @param source the registered source
+     * @param renderLimits the limits of the lookup the source is registered to
+     * @return the rendered value
+     */
+    String render(T source, RenderLimits renderLimits);
+}
@@ -15,8 +15,12 @@
  *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.lookup.StringLookup} - 
  *       Interface for looking up string values by key during variable resolution</li>
  *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup} - 
- *       Default implementation of StringLookup that uses a map of Supplier<String> instances to 
- *       provide dynamic string values</li>
+ *       Default implementation of StringLookup that keeps one slot per built-in variable and memoizes
+ *       the rendered values</li>
+ *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable} - 
+ *       The built-in variables, resolved to slot indexes when a template is compiled</li>
+ *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookupPool} - 
+ *       Per-thread pool of StringSupplierLookup instances used by the around advice</li>
  * </ul>
  * 
  * <h3>Value Registration</h3>
@@ -31,6 +35,8 @@
  *       Registers suppliers for exception details</li>
  *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.registrar.ElapsedStringSupplierRegistrar} - 
  *       Registers suppliers for method execution time information</li>
+ *   <li>{@link com.olaaref.weather.aop.logger.template.interpolation.registrar.ElapsedTimeLimitStringSupplierRegistrar} - 
+ *       Registers suppliers for the elapsed time limit of a method</li>
  * </ul>
  * 
  * <h3>Object to String Conversion</h3>
@@ -1,9 +1,10 @@
 package com.olaaref.weather.aop.logger.template.interpolation.registrar;
 
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
 
 import java.time.Duration;
-import java.util.function.Supplier;
 
 /**
  * This class is responsible for converting elapsed time in nanoseconds to a human-readable duration format and register it to {@link StringSupplierLookup} instance.
@@ -34,14 +35,14 @@ import java.util.function.Supplier;
  * @see Duration
  */
 public class ElapsedStringSupplierRegistrar implements StringSupplierRegistrar<Long>{
-    private static final String ELAPSED_KEY = "elapsed";
+    private static final ValueRenderer<Long> ELAPSED_RENDERER = (source, renderLimits) -> getElapsedDuration(source);
 
     @Override
     public void register(StringSupplierLookup stringSupplierLookup, Long source) {
-        stringSupplierLookup.addStringSupplier(ELAPSED_KEY, () -> getElapsedDuration(source));
+        stringSupplierLookup.addSource(LookupVariable.ELAPSED, source, ELAPSED_RENDERER);
     }
 
-    private String getElapsedDuration(Long source) {
+    private static String getElapsedDuration(Long source) {
         return Duration.ofNanos(source).toString();
     }
 }
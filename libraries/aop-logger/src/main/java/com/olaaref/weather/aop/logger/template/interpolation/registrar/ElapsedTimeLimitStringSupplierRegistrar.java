@@ -0,0 +1,36 @@
+package com.olaaref.weather.aop.logger.template.interpolation.registrar;
+
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
+
+import java.time.Duration;
+
+/**
+ * This class is responsible for converting the elapsed time limit of a method to a human-readable duration format and register it to {@link StringSupplierLookup} instance.
+ *
+ * <p>This registrar is a component of the message interpolation system for AOP logging.
+ * When registered, it provides access to the following variable that can be used in log message templates:</p>
+ *
+ * <ul>
+ *   <li><strong>${elapsed-time-limit}</strong> - The configured elapsed time limit formatted as a {@link Duration} string.
+ *       <br>Example: "PT0.5S" for a limit of 500 milliseconds</li>
+ * </ul>
+ *
+ * <p>Usage example in a log message template:</p>
+ * <pre>
+ * "[{method}] took {elapsed}, more than the limit of {elapsed-time-limit}"
+ * </pre>
+ *
+ * @see StringSupplierRegistrar
+ * @see StringSupplierLookup
+ * @see ElapsedStringSupplierRegistrar
+ */
+public class ElapsedTimeLimitStringSupplierRegistrar implements StringSupplierRegistrar<Duration> {
+    private static final ValueRenderer<Duration> ELAPSED_TIME_LIMIT_RENDERER = (source, renderLimits) -> source.toString();
+
+    @Override
+    public void register(StringSupplierLookup stringSupplierLookup, Duration source) {
+        stringSupplierLookup.addSource(LookupVariable.ELAPSED_TIME_LIMIT, source, ELAPSED_TIME_LIMIT_RENDERER);
+    }
+}
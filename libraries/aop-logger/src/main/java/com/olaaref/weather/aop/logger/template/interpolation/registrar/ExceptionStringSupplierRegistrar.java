@@ -1,6 +1,8 @@
 package com.olaaref.weather.aop.logger.template.interpolation.registrar;
 
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
 
 /**
  * Registers the extracted {@link Exception} details like exception type and exception message to {@link StringSupplierLookup} instance.
@@ -29,14 +31,14 @@ import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSuppli
  * @see Throwable
  */
 public class ExceptionStringSupplierRegistrar implements StringSupplierRegistrar<Throwable> {
-    private static final String EXCEPTION_KEY = "exception";
+    private static final ValueRenderer<Throwable> EXCEPTION_RENDERER = (source, renderLimits) -> getExceptionDetails(source);
 
     @Override
     public void register(StringSupplierLookup stringSupplierLookup, Throwable source) {
-        stringSupplierLookup.addStringSupplier(EXCEPTION_KEY, () -> getExceptionDetails(source));
+        stringSupplierLookup.addSource(LookupVariable.EXCEPTION, source, EXCEPTION_RENDERER);
     }
 
-    private String getExceptionDetails(Throwable exception) {
+    private static String getExceptionDetails(Throwable exception) {
         return "type=" + exception.getClass().getSimpleName() + ", message=" + exception.getMessage();
     }
 }
@@ -7,8 +7,12 @@ import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.olaaref.weather.aop.logger.annotation.DoNotLog;
 import com.olaaref.weather.aop.logger.properties.ReflectionToStringProperties;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
 import com.olaaref.weather.aop.logger.template.interpolation.converter.ToStringConverter;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
 import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
 import org.apache.commons.lang3.ArrayUtils;
 import org.aspectj.lang.JoinPoint;
@@ -47,10 +51,6 @@ import java.util.Set;
  */
 public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar<JoinPoint> {
 
-    private static final String METHOD_KEY = "method";
-
-    private static final String PARAMETERS_KEY = "parameters";
-
     private static final String NO_PARAMETERS_STRING = "none";
 
     private static final String REDACTED_PARAMETERS = "*********";
@@ -61,13 +61,17 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
     @Autowired
     private ToStringConverterSelector toStringConverterSelector;
 
+    private final ValueRenderer<JoinPoint> methodRenderer = (joinPoint, renderLimits) -> methodStringRepresentation(joinPoint);
+
+    private final ValueRenderer<JoinPoint> parametersRenderer = this::methodParametersStringRepresentation;
+
     @Override
     public void register(StringSupplierLookup stringSupplierLookup, JoinPoint source) {
         Objects.requireNonNull(stringSupplierLookup, "StringSupplierLookup must not be null");
         Objects.requireNonNull(source, "JoinPoint must not be null");
 
-        stringSupplierLookup.addStringSupplier(METHOD_KEY, () -> methodStringRepresentation(getMethodSignature(source).getMethod()));
-        stringSupplierLookup.addStringSupplier(PARAMETERS_KEY, () -> methodParametersStringRepresentation(source));
+        stringSupplierLookup.addSource(LookupVariable.METHOD, source, methodRenderer);
+        stringSupplierLookup.addSource(LookupVariable.PARAMETERS, source, parametersRenderer);
     }
 
     /**
@@ -81,6 +85,16 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
         return (MethodSignature) joinPoint.getSignature();
     }
 
+    /**
+     * Formats the method signature of a join point as a string.
+     *
+     * @param joinPoint the AspectJ join point representing the method execution
+     * @return a string representation of the method signature
+     */
+    private String methodStringRepresentation(final JoinPoint joinPoint) {
+        return methodStringRepresentation(getMethodSignature(joinPoint).getMethod());
+    }
+
     /**
      * Formats a method signature as a string in the format: "ReturnType methodName(ParameterType1, ParameterType2, ...)"
      *
@@ -102,10 +116,14 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
      * Formats the parameter values of a method call as a comma-separated string.
      * If the method has no parameters, returns the string "none".
      *
+     * <p>All parameters share one {@link BoundedAppender}, so the maximum number of characters applies to the
+     * whole list and the remaining parameters are skipped once it is reached.</p>
+     *
      * @param joinPoint the AspectJ join point representing the method execution
+     * @param renderLimits the limits applied while rendering the parameter values
      * @return a string representation of the method parameters
      */
-    private String methodParametersStringRepresentation(final JoinPoint joinPoint) {
+    private String methodParametersStringRepresentation(final JoinPoint joinPoint, final RenderLimits renderLimits) {
         final MethodSignature methodSignature = getMethodSignature(joinPoint);
         final Method method = methodSignature.getMethod();
         final int parameterCount = method.getParameterCount();
@@ -119,19 +137,19 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
             return NO_PARAMETERS_STRING;
         }
 
-        final StringBuilder builder = new StringBuilder();
+        final BoundedAppender appender = new BoundedAppender(renderLimits);
 
-        for (int index = 0; index < parameterCount; index++) {
-            appendParameterValue(method, index, builder, parameterValues);
+        for (int index = 0; index < parameterCount && !appender.isFull(); index++) {
+            appendParameterValue(method, index, appender, parameterValues);
             if (index < parameterCount - 1) {
-                builder.append(", ");
+                appender.append(", ");
             }
         }
 
-        return builder.toString();
+        return appender.toString();
     }
 
-    private void appendParameterValue(Method method, int index, StringBuilder builder, Object[] parameterValues) {
+    private void appendParameterValue(Method method, int index, BoundedAppender appender, Object[] parameterValues) {
         Parameter parameter = method.getParameters()[index];
         if(isParameterPartiallyIgnored(parameter)){
             ObjectMapper objectMapper = new ObjectMapper().configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
@@ -145,16 +163,16 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
             objectMapper.addMixIn(Object.class, PropertyFilterMixIn.class);
 
             try {
-                builder.append(objectMapper.writer(filterProvider).writeValueAsString(parameterValues[index]));
+                appender.append(objectMapper.writer(filterProvider).writeValueAsString(parameterValues[index]));
             } catch (Exception e) {
-                builder.append(REDACTED_PARAMETERS);
+                appender.append(REDACTED_PARAMETERS);
             }
         }
         else if(isParameterIgnored(parameter)) {
-            builder.append(REDACTED_PARAMETERS);
+            appender.append(REDACTED_PARAMETERS);
         }
         else {
-            builder.append(toString(parameterValues[index]));
+            appendTo(parameterValues[index], appender);
         }
     }
 
@@ -177,14 +195,14 @@ public class JoinPointStringSupplierRegistrar implements StringSupplierRegistrar
     }
 
     /**
-     * Converts an object to its string representation using the appropriate {@link ToStringConverter}.
+     * Appends the string representation of an object using the appropriate {@link ToStringConverter}.
      * The strategy is determined by the {@link ToStringConverterSelector} based on the object's type.
      *
-     * @param object the object to convert to a string
-     * @return the string representation of the object
+     * @param object the object to append
+     * @param appender the appender enforcing the render limits
      */
-    private String toString(Object object) {
-        return toStringConverterSelector.findConverterOrDefault(object).toString(object);
+    private void appendTo(Object object, BoundedAppender appender) {
+        toStringConverterSelector.findConverterOrDefault(object).appendTo(object, appender);
     }
 
     /**
@@ -1,8 +1,12 @@
 package com.olaaref.weather.aop.logger.template.interpolation.registrar;
 
 import com.olaaref.weather.aop.logger.template.interpolation.converter.ToStringConverter;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.BoundedAppender;
+import com.olaaref.weather.aop.logger.template.interpolation.appender.RenderLimits;
 import com.olaaref.weather.aop.logger.template.interpolation.dto.ReturnValueInfo;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.ValueRenderer;
 import com.olaaref.weather.aop.logger.template.interpolation.selector.ToStringConverterSelector;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
@@ -48,8 +52,6 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public class ReturnValueStringSupplierRegistrar implements StringSupplierRegistrar<ReturnValueInfo> {
 
-    private static final String RETURN_VALUE_KEY = "return-value";
-
     private static final String NO_RETURN_VALUE_STRING = "none";
 
     private static final String NULL_RETURN_VALUE_STRING = "null";
@@ -57,29 +59,33 @@ public class ReturnValueStringSupplierRegistrar implements StringSupplierRegistr
     @Autowired
     private ToStringConverterSelector toStringConverterSelector;
 
+    private final ValueRenderer<ReturnValueInfo> returnValueRenderer = this::getReturnValueString;
+
     /**
-     * Registers a string supplier for the return value to the provided {@link StringSupplierLookup}.
-     * This method creates a supplier that will generate a string representation of the method's
-     * return value when needed for message interpolation.
+     * Registers the return value as the source of the {@code return-value} variable of the provided
+     * {@link StringSupplierLookup}. The string representation of the method's return value is only
+     * generated when needed for message interpolation.
      *
      * @param stringSupplierLookup the lookup instance to register the supplier with
      * @param source the ReturnValueInfo containing both the join point and return value
      */
     @Override
     public void register(StringSupplierLookup stringSupplierLookup, ReturnValueInfo source) {
-        stringSupplierLookup.addStringSupplier(RETURN_VALUE_KEY, () -> getReturnValueString(source));
+        stringSupplierLookup.addSource(LookupVariable.RETURN_VALUE, source, returnValueRenderer);
     }
 
     /**
      * Determines the string representation of a method's return value.
      * For void methods, returns a predefined string indicating no return value.
      * For non-void methods, converts the return value to a string using the appropriate
-     * {@link ToStringConverter}.
+     * {@link ToStringConverter}, stopping at the given render limits.
      * For null return values, returns a predefined string indicating a null value.
      *
+     * @param source the ReturnValueInfo containing both the join point and return value
+     * @param renderLimits the limits applied while rendering the return value
      * @return a string representation of the return value, "none" for void methods, or "null" for null values
      */
-    private String getReturnValueString(ReturnValueInfo source) {
+    private String getReturnValueString(ReturnValueInfo source, RenderLimits renderLimits) {
         MethodSignature methodSignature = getMethodSignature(source.joinPoint());
         Object returnValue = source.returnValue();
 
@@ -88,7 +94,9 @@ public class ReturnValueStringSupplierRegistrar implements StringSupplierRegistr
         // Check if the return value is null
         if(returnValue == null) return NULL_RETURN_VALUE_STRING;
 
-        return toStringConverterSelector.findConverterOrDefault(returnValue).toString(returnValue);
+        BoundedAppender appender = new BoundedAppender(renderLimits);
+        toStringConverterSelector.findConverterOrDefault(returnValue).appendTo(returnValue, appender);
+        return appender.toString();
     }
 
     private MethodSignature getMethodSignature(JoinPoint joinPoint) {
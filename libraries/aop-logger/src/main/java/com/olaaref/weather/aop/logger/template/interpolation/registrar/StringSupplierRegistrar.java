@@ -32,6 +32,7 @@ import org.aspectj.lang.JoinPoint;
  *   <li>{@link JoinPointStringSupplierRegistrar} - Registers suppliers for AspectJ JoinPoint information</li>
  *   <li>{@link ExceptionStringSupplierRegistrar} - Registers suppliers for exception details</li>
  *   <li>{@link ElapsedStringSupplierRegistrar} - Registers suppliers for elapsed time information</li>
+ *   <li>{@link ElapsedTimeLimitStringSupplierRegistrar} - Registers suppliers for the elapsed time limit</li>
  *   <li>{@link ReturnValueStringSupplierRegistrar} - Registers suppliers for return value of a method</li>
  * </ul>
  *
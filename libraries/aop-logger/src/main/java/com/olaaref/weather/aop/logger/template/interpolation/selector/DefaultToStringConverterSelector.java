@@ -21,7 +21,7 @@ import java.util.List;
  * <ul>
  *   <li>Automatically collects all {@link ToStringConverter} beans during initialization</li>
  *   <li>Filters out the {@link ObjectToStringConverter} from the collection as it serves as the default fallback</li>
- *   <li>Uses parallel stream processing for efficient Converter selection</li>
+ *   <li>Selects the first Converter, in registration order, that supports the object</li>
  *   <li>Provides a consistent fallback mechanism using {@link ObjectToStringConverter}</li>
  * </ul>
  *
@@ -82,13 +82,13 @@ public class DefaultToStringConverterSelector implements ToStringConverterSelect
      * <ol>
      *   <li>If the object is null, return the default {@link ObjectToStringConverter}</li>
      *   <li>If no strategies are available (toStringStrategies is null or empty), return the default strategy</li>
-     *   <li>Use parallel stream processing to find the first strategy that supports the object</li>
+     *   <li>Check the strategies in registration order and return the first one that supports the object</li>
      *   <li>If no strategy supports the object, return the default {@link ObjectToStringConverter}</li>
      * </ol>
      *
-     * <p>This implementation uses parallel stream processing for efficient strategy selection,
-     * which can improve performance when many strategies are registered or when the application
-     * processes a high volume of objects.</p>
+     * <p>The strategies are checked with a plain loop: the selector is called for every rendered value and
+     * collection element, and each {@code supports} check is a cheap type test, so forking a parallel stream
+     * would cost far more than it saves.</p>
      *
      * @param object the object to find a strategy for, may be {@code null}
      * @return a {@link ToStringConverter} that can convert the object to string, never {@code null}
@@ -99,9 +99,11 @@ public class DefaultToStringConverterSelector implements ToStringConverterSelect
             return objectToStringConverter;
         }
 
-        return toStringStrategies.parallelStream()
-                .filter(toStringConverter -> toStringConverter.supports(object))
-                .findFirst()
-                .orElse(objectToStringConverter);
+        for (ToStringConverter toStringConverter : toStringStrategies) {
+            if (toStringConverter.supports(object)) {
+                return toStringConverter;
+            }
+        }
+        return objectToStringConverter;
     }
 }
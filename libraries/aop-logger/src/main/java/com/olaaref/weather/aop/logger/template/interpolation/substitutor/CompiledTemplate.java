@@ -0,0 +1,70 @@
+package com.olaaref.weather.aop.logger.template.interpolation.substitutor;
+
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.LookupVariable;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringLookup;
+import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringSupplierLookup;
+
+/**
+ * A template split once into literal text and variables, so it can be rendered without scanning it again.
+ *
+ * <p>Variables that are {@link LookupVariable}s are resolved to their slot when the template is compiled and read by
+ * index from a {@link StringSupplierLookup}; any other variable is looked up by key.</p>
+ *
+ * @see StringSubstitutor
+ */
+final class CompiledTemplate {
+
+    private static final String EMPTY_STRING = "";
+
+    /** Literal text preceding each variable, plus the trailing text at the last index */
+    private final String[] literals;
+
+    /** Key of each variable, without the curly braces */
+    private final String[] keys;
+
+    /** Built-in variable of each key, or null when the key is not a {@link LookupVariable} */
+    private final LookupVariable[] variables;
+
+    /** Length of all literal text, used to size the result */
+    private final int literalLength;
+
+    CompiledTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+        this.variables = new LookupVariable[keys.length];
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        for (int index = 0; index < keys.length; index++) {
+            variables[index] = LookupVariable.fromKey(keys[index]);
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Renders the template, replacing each variable with its value or an empty string if it is not found.
+     *
+     * @param stringLookup the lookup implementation to find variable values
+     * @return the rendered string
+     */
+    String render(StringLookup stringLookup) {
+        if (keys.length == 0) {
+            return literals[0];
+        }
+
+        StringSupplierLookup supplierLookup = stringLookup instanceof StringSupplierLookup lookup ? lookup : null;
+        StringBuilder resultBuilder = new StringBuilder(literalLength + 32 * keys.length);
+
+        for (int index = 0; index < keys.length; index++) {
+            resultBuilder.append(literals[index]);
+            String value = supplierLookup != null && variables[index] != null
+                    ? supplierLookup.lookup(variables[index])
+                    : stringLookup.lookup(keys[index]);
+            resultBuilder.append(value != null ? value : EMPTY_STRING);
+        }
+
+        return resultBuilder.append(literals[keys.length]).toString();
+    }
+}
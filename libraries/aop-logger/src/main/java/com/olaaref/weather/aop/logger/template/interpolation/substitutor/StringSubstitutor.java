@@ -2,6 +2,11 @@ package com.olaaref.weather.aop.logger.template.interpolation.substitutor;
 
 import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringLookup;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Substitute variables within a template String. This class replaces variables in the
  * format {variableName} with their corresponding values obtained from a StringLookup.
@@ -19,6 +24,8 @@ import com.olaaref.weather.aop.logger.template.interpolation.lookup.StringLookup
  * 3. Looks up the value using a {@link StringLookup} implementation
  * 4. Replaces the variable with its value
  *
+ * <p>Steps 1 and 2 are done once per template; the result is cached as a {@link CompiledTemplate}.</p>
+ *
  */
 public class StringSubstitutor {
 
@@ -28,12 +35,18 @@ public class StringSubstitutor {
     // Character that marks the end of a variable
     private static final char END_CHAR = '}';
 
-    private static final String EMPTY_STRING = "";
+    // Upper bound of cached templates; templates come from annotations and properties, so it is rarely reached
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+
+    // Templates already split into literals and variables, keyed by the template text
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
 
     /**
      * Substitutes all variables in the given template with values from the provided StringLookup.
      * Variables in the template should be in the format {variableName}.
      *
+     * <p>The template is parsed on its first use only; later calls render the cached {@link CompiledTemplate}.</p>
+     *
      * @param template the string containing variables to be substituted
      * @param stringLookup the lookup implementation to find variable values
      * @return the string with all variables substituted with their values
@@ -44,7 +57,25 @@ public class StringSubstitutor {
             return template;
         }
 
-        final StringBuilder resultBuilder = new StringBuilder();
+        return compile(template).render(stringLookup);
+    }
+
+    private CompiledTemplate compile(String template) {
+        CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        if (compiledTemplate != null) {
+            return compiledTemplate;
+        }
+
+        compiledTemplate = parse(template);
+        if (compiledTemplates.size() < MAX_CACHED_TEMPLATES) {
+            compiledTemplates.putIfAbsent(template, compiledTemplate);
+        }
+        return compiledTemplate;
+    }
+
+    private CompiledTemplate parse(String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
         // Initialize cursor to track current position in the template
         int templateCursorIndex = 0;
 
@@ -58,20 +89,18 @@ public class StringSubstitutor {
                 break;
             }
 
-            // Append text before the variable
-            appendToBuilder(resultBuilder, template, templateCursorIndex, startTokenIndex);
-            // Get the variable value
-            String tokenValue = lookupVariableOrEmpty(template, startTokenIndex, endTokenIndex, stringLookup);
-            // Append the variable value to the result at the end
-            appendToBuilder(resultBuilder, tokenValue);
+            // Keep the text before the variable
+            literals.add(template.substring(templateCursorIndex, startTokenIndex));
+            // Keep the variable key
+            keys.add(template.substring(startTokenIndex + 1, endTokenIndex));
 
             // Move cursor past the end token
             templateCursorIndex = endTokenIndex + 1;
         } while (templateCursorIndex < template.length());
 
-        // Append any remaining text
-        appendToBuilder(resultBuilder, template, templateCursorIndex, template.length());
-        return resultBuilder.toString();
+        // Keep any remaining text
+        literals.add(template.substring(Math.min(templateCursorIndex, template.length())));
+        return new CompiledTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
     }
 
     private int getNextEndTokenIndex(String template, int variableStartCursor) {
@@ -91,22 +120,4 @@ public class StringSubstitutor {
         // Return -1 if no start token is found
         return -1;
     }
-
-    private void appendToBuilder(StringBuilder builder, String template, int startCursor, int endCursor) {
-        // Append the substring from startCursor to endCursor
-        builder.append(template, startCursor, endCursor);
-    }
-
-    private void appendToBuilder(StringBuilder builder, String value) {
-        builder.append(value);
-    }
-
-    private String lookupVariableOrEmpty(String template, int variableStartCursor,  int variableEndCursor, StringLookup stringLookup) {
-        // Extract the variable key from the template
-        String key = template.substring(variableStartCursor + 1, variableEndCursor);
-        // Lookup the value for the key using the provided StringLookup
-        String value = stringLookup.lookup(key);
-        // Return the value if found, otherwise return empty string
-        return value != null ? value : EMPTY_STRING;
-    }
 }
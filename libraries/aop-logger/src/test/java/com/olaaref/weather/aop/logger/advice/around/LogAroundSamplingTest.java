@@ -0,0 +1,119 @@
+package com.olaaref.weather.aop.logger.advice.around;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.olaaref.weather.aop.logger.config.AopLoggersAutoConfiguration;
+import com.olaaref.weather.aop.logger.enums.SamplingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogAroundSamplingTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, AopLoggersAutoConfiguration.class))
+            .withBean(SampledService.class);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SampledService.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        logger.setLevel(ch.qos.logback.classic.Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("Test Sampled Out Calls - Normal Messages Skipped")
+    void testSampledOutCalls() {
+        contextRunner.run(context -> {
+            // Arrange
+            SampledService service = context.getBean(SampledService.class);
+
+            // Act
+            service.fast();
+            service.fast();
+            service.fast();
+
+            // Assert
+            assertEquals(1, messagesContaining("Entering [String fast()]").size());
+            assertEquals(1, messagesContaining("[String fast()] exited normally").size());
+        });
+    }
+
+    @Test
+    @DisplayName("Test Slow Call - Elapsed Warning Logged Even When Sampled Out")
+    void testSlowCallAlwaysLogged() {
+        contextRunner.run(context -> {
+            // Arrange
+            SampledService service = context.getBean(SampledService.class);
+            service.slow();
+
+            // Act
+            service.slow();
+
+            // Assert
+            assertEquals(1, messagesContaining("Entering [void slow()]").size());
+            assertEquals(2, messagesContaining("[void slow()] reached elapsed time limit").size());
+        });
+    }
+
+    @Test
+    @DisplayName("Test Failing Call - Exception Logged Even When Sampled Out")
+    void testExceptionAlwaysLogged() {
+        contextRunner.run(context -> {
+            // Arrange
+            SampledService service = context.getBean(SampledService.class);
+            assertThrows(IllegalStateException.class, service::failing);
+
+            // Act
+            assertThrows(IllegalStateException.class, service::failing);
+
+            // Assert
+            assertEquals(1, messagesContaining("Entering [void failing()]").size());
+            assertEquals(2, messagesContaining("[void failing()] exited abnormally").size());
+        });
+    }
+
+    private List<String> messagesContaining(String text) {
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.contains(text))
+                .toList();
+    }
+
+    static class SampledService {
+
+        @LogAround(sampling = SamplingMode.RATE, sampleRate = 1000)
+        public String fast() {
+            return "fast";
+        }
+
+        @LogAround(sampling = SamplingMode.RATE, sampleRate = 1000, elapsedTimeLimit = 1)
+        public void slow() throws InterruptedException {
+            Thread.sleep(20);
+        }
+
+        @LogAround(sampling = SamplingMode.RATE, sampleRate = 1000, printStackTrace = false)
+        public void failing() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
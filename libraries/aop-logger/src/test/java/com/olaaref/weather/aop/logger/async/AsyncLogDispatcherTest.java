@@ -0,0 +1,148 @@
+package com.olaaref.weather.aop.logger.async;
+
+import com.olaaref.weather.aop.logger.enums.Level;
+import com.olaaref.weather.aop.logger.enums.OverflowPolicy;
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import com.olaaref.weather.aop.logger.template.interpolation.substitutor.StringSubstitutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncLogDispatcherTest {
+
+    private final Logger logger = mock(Logger.class);
+    private final CountDownLatch rendering = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncLogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Full Buffer With DROP - Event Discarded And Counted")
+    void testOverflowDrop() throws InterruptedException {
+        // Arrange
+        dispatcher = startDispatcher(1, OverflowPolicy.DROP);
+        dispatcher.dispatch(blockingEvent("first"));
+        assertTrue(rendering.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(event("second"));
+
+        // Act
+        dispatcher.dispatch(event("third"));
+
+        // Assert
+        assertEquals(1, dispatcher.getDroppedEvents());
+        assertEquals(1, dispatcher.getPendingEvents());
+        release.countDown();
+        verify(logger, timeout(5000)).info("second");
+        verify(logger, never()).info("third");
+    }
+
+    @Test
+    @DisplayName("Test Full Buffer With BLOCK - Caller Waits For A Free Slot")
+    void testOverflowBlock() throws InterruptedException {
+        // Arrange
+        dispatcher = startDispatcher(1, OverflowPolicy.BLOCK);
+        dispatcher.dispatch(blockingEvent("first"));
+        assertTrue(rendering.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(event("second"));
+
+        // Act
+        Thread caller = Thread.ofVirtual().start(() -> dispatcher.dispatch(event("third")));
+        boolean blocked = !caller.join(Duration.ofMillis(200));
+        release.countDown();
+
+        // Assert
+        assertTrue(blocked);
+        assertTrue(caller.join(Duration.ofSeconds(5)));
+        verify(logger, timeout(5000)).info("third");
+        assertEquals(0, dispatcher.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("Test Stop - Renders Buffered Events Before Returning")
+    void testStopDrainsBuffer() throws InterruptedException {
+        // Arrange
+        dispatcher = startDispatcher(8, OverflowPolicy.DROP);
+        dispatcher.dispatch(blockingEvent("first"));
+        assertTrue(rendering.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(event("second"));
+        dispatcher.dispatch(event("third"));
+
+        // Act
+        Thread stopper = Thread.ofVirtual().start(() -> {
+            try {
+                dispatcher.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        release.countDown();
+
+        // Assert
+        assertTrue(stopper.join(Duration.ofSeconds(5)));
+        verify(logger).info("first");
+        verify(logger).info("second");
+        verify(logger).info("third");
+        assertEquals(0, dispatcher.getPendingEvents());
+        dispatcher = null;
+    }
+
+    @Test
+    @DisplayName("Test Dispatch After Stop - Rendered On The Calling Thread")
+    void testDispatchAfterStop() throws InterruptedException {
+        // Arrange
+        dispatcher = startDispatcher(8, OverflowPolicy.DROP);
+        dispatcher.stop();
+
+        // Act
+        dispatcher.dispatch(event("late"));
+
+        // Assert
+        verify(logger).info("late");
+        dispatcher = null;
+    }
+
+    private AsyncLogDispatcher startDispatcher(int bufferSize, OverflowPolicy overflowPolicy) {
+        AopLoggersProperties properties = new AopLoggersProperties();
+        properties.getAsync().setBufferSize(bufferSize);
+        properties.getAsync().setOverflowPolicy(overflowPolicy);
+        AsyncLogDispatcher asyncLogDispatcher = new AsyncLogDispatcher(properties);
+        ReflectionTestUtils.setField(asyncLogDispatcher, "stringSubstitutor", new StringSubstitutor());
+        asyncLogDispatcher.start();
+        return asyncLogDispatcher;
+    }
+
+    private LogEvent event(String message) {
+        return new LogEvent(logger, Level.INFO, "{message}", key -> message, null);
+    }
+
+    /**
+     * An event whose rendering holds the dispatcher thread until {@link #release} is counted down.
+     */
+    private LogEvent blockingEvent(String message) {
+        return new LogEvent(logger, Level.INFO, "{message}", key -> {
+            rendering.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return message;
+        }, null);
+    }
+}
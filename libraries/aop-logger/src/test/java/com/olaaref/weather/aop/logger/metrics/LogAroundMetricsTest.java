@@ -0,0 +1,97 @@
+package com.olaaref.weather.aop.logger.metrics;
+
+import com.olaaref.weather.aop.logger.properties.AopLoggersProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LogAroundMetricsTest {
+
+    @Test
+    @DisplayName("Test Record - Timer Tagged With Class, Method, Outcome And Exception")
+    void testRecordTags() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LogAroundMetrics metrics = new LogAroundMetrics(provider(registry), new AopLoggersProperties());
+        JoinPoint joinPoint = joinPoint(SampleService.class.getDeclaredMethod("find"));
+
+        // Act
+        metrics.record(joinPoint, 5_000_000, null);
+        metrics.record(joinPoint, 7_000_000, new IllegalStateException("boom"));
+
+        // Assert
+        Timer success = registry.get("aop.logger.method")
+                .tags("class", "SampleService", "method", "find", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        Timer error = registry.get("aop.logger.method")
+                .tags("class", "SampleService", "method", "find", "outcome", "ERROR", "exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, success.count());
+        assertEquals(5.0, success.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, error.count());
+    }
+
+    @Test
+    @DisplayName("Test Record - Only The Histogram Unless Client-Side Percentiles Are Configured")
+    void testRecordWithoutClientSidePercentiles() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LogAroundMetrics metrics = new LogAroundMetrics(provider(registry), new AopLoggersProperties());
+
+        // Act
+        metrics.record(joinPoint(SampleService.class.getDeclaredMethod("find")), 5_000_000, null);
+
+        // Assert
+        Timer timer = registry.get("aop.logger.method").timer();
+        assertEquals(0, timer.takeSnapshot().percentileValues().length);
+        assertNull(registry.find("aop.logger.method.percentile").gauge());
+    }
+
+    @Test
+    @DisplayName("Test Record Without Registry - Looked Up Once")
+    void testRecordWithoutRegistry() throws Exception {
+        // Arrange
+        ObjectProvider<MeterRegistry> provider = provider(null);
+        LogAroundMetrics metrics = new LogAroundMetrics(provider, new AopLoggersProperties());
+        JoinPoint joinPoint = joinPoint(SampleService.class.getDeclaredMethod("find"));
+
+        // Act
+        metrics.record(joinPoint, 5_000_000, null);
+        metrics.record(joinPoint, 5_000_000, null);
+
+        // Assert
+        verify(provider, times(1)).getIfAvailable();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<MeterRegistry> provider(MeterRegistry registry) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(registry);
+        return provider;
+    }
+
+    private static JoinPoint joinPoint(Method method) {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        JoinPoint joinPoint = mock(JoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        return joinPoint;
+    }
+
+    static class SampleService {
+        String find() {
+            return "found";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLogSamplerTest {
+
+    @Test
+    @DisplayName("Test Sample - One In Every N Calls, Starting With The First")
+    void testSample() {
+        // Arrange
+        RateLogSampler sampler = new RateLogSampler(3);
+
+        // Act
+        List<Boolean> sampled = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            sampled.add(sampler.sample());
+        }
+
+        // Assert
+        assertEquals(List.of(true, false, false, true, false, false, true), sampled);
+    }
+
+    @Test
+    @DisplayName("Test Sample With Rate 1 - Every Call")
+    void testSampleEveryCall() {
+        // Arrange
+        RateLogSampler sampler = new RateLogSampler(1);
+
+        // Act & Assert
+        assertTrue(sampler.sample());
+        assertTrue(sampler.sample());
+    }
+
+    @Test
+    @DisplayName("Test Invalid Rate - Rejected")
+    void testInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLogSampler(0));
+    }
+}
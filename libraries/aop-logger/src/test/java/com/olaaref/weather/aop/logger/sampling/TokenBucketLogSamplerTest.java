@@ -0,0 +1,44 @@
+package com.olaaref.weather.aop.logger.sampling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLogSamplerTest {
+
+    @Test
+    @DisplayName("Test Sample - Burst Allowed, Then Rejected Until A Permit Is Due")
+    void testSampleBurst() {
+        // Arrange
+        TokenBucketLogSampler sampler = new TokenBucketLogSampler(0.001, 3);
+
+        // Act & Assert
+        assertTrue(sampler.sample());
+        assertTrue(sampler.sample());
+        assertTrue(sampler.sample());
+        assertFalse(sampler.sample());
+        assertFalse(sampler.sample());
+    }
+
+    @Test
+    @DisplayName("Test Sample - Permit Available Again After The Emission Interval")
+    void testSampleRefill() throws InterruptedException {
+        // Arrange
+        TokenBucketLogSampler sampler = new TokenBucketLogSampler(20, 1);
+        assertTrue(sampler.sample());
+
+        // Act
+        Thread.sleep(100);
+
+        // Assert
+        assertTrue(sampler.sample());
+    }
+
+    @Test
+    @DisplayName("Test Invalid Settings - Rejected")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLogSampler(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketLogSampler(1, 0));
+    }
+}
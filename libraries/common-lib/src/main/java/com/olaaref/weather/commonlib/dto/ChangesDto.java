@@ -0,0 +1,22 @@
+package com.olaaref.weather.commonlib.dto;
+
+import java.util.List;
+
+/**
+ * A page of the change feed: the current state of every location and realtime weather row written after
+ * {@code since}, and the codes of the locations trashed since then.
+ *
+ * @param since            the sequence the page starts after
+ * @param next             the sequence to pass as {@code since} for the next page
+ * @param hasMore          whether more changes follow {@code next}
+ * @param locations        the changed, untrashed locations
+ * @param realtimeWeather  the changed realtime weather rows
+ * @param trashedLocations the codes of the locations trashed since {@code since}
+ */
+public record ChangesDto(long since,
+                         long next,
+                         boolean hasMore,
+                         List<LocationDto> locations,
+                         List<RealtimeWeatherDto> realtimeWeather,
+                         List<String> trashedLocations) {
+}
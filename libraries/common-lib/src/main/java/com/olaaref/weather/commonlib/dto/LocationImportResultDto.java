@@ -0,0 +1,27 @@
+package com.olaaref.weather.commonlib.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk location import.
+ *
+ * @param received              the number of data rows read from the upload
+ * @param imported              the number of locations inserted
+ * @param rejected              the number of rows not inserted
+ * @param rejectedRows          the first rejected rows with their reasons
+ * @param rejectedRowsTruncated whether more rows were rejected than listed in {@code rejectedRows}
+ */
+public record LocationImportResultDto(long received,
+                                      long imported,
+                                      long rejected,
+                                      List<RejectedRow> rejectedRows,
+                                      boolean rejectedRowsTruncated) {
+
+    /**
+     * @param row    the 1-based number of the data row in the upload, not counting a CSV header
+     * @param code   the location code of the row, when it could be read
+     * @param errors the reasons the row was rejected
+     */
+    public record RejectedRow(long row, String code, List<String> errors) {
+    }
+}
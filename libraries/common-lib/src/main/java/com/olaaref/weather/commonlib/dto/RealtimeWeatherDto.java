@@ -20,5 +20,4 @@ public class RealtimeWeatherDto {
     private String status;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime lastUpdated;
-
 }
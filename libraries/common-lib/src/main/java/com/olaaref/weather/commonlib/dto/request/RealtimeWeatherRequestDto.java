@@ -1,10 +1,13 @@
 package com.olaaref.weather.commonlib.dto.request;
 
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.Range;
 
+import java.time.LocalDateTime;
+
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,4 +29,15 @@ public class RealtimeWeatherRequestDto {
     @Length(min = 3, max = 50, message = "Weather status must not exceed 3-50 characters")
     private String status;
 
+    /**
+     * Copies the updatable fields onto an existing entity, leaving its identity and location untouched.
+     */
+    public void applyTo(RealtimeWeather weather, LocalDateTime lastUpdated) {
+        weather.setTemperature(temperature);
+        weather.setHumidity(humidity);
+        weather.setPrecipitation(precipitation);
+        weather.setWindSpeed(windSpeed);
+        weather.setStatus(status);
+        weather.setLastUpdated(lastUpdated);
+    }
 }
@@ -0,0 +1,6 @@
+package com.olaaref.weather.commonlib.enums;
+
+public enum ChangeEntityType {
+    LOCATION,
+    REALTIME_WEATHER
+}
@@ -7,7 +7,9 @@ import lombok.Getter;
 @Getter
 public enum ErrorCode {
     LOCATION_NOT_FOUND("LOC_SEARCH_001", "Location not found"),
-    INVALID_REQUEST("GEN_REQ_001", "Invalid request");
+    INVALID_REQUEST("GEN_REQ_001", "Invalid request"),
+    TOO_MANY_REQUESTS("GEN_REQ_002", "Too many requests, retry later"),
+    SERVICE_UNAVAILABLE("GEN_SRV_001", "Service temporarily unavailable, retry later");
 
     private final String code;
     private final String message;
@@ -0,0 +1,45 @@
+package com.olaaref.weather.commonlib.model;
+
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * One write to a location or its realtime weather. The auto-incremented primary key is the change sequence,
+ * so reading the changes after a given sequence is a range scan of the primary key index. {@code CHANGED_AT} is
+ * set by the database when the entry is inserted, so change feed readers compare it with the database clock.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(name = "CHANGE_LOG")
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SEQ")
+    private Long seq;
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "ENTITY_TYPE", length = 16, nullable = false)
+    private ChangeEntityType entityType;
+    @Column(name = "ENTITY_CODE", length = 12, nullable = false)
+    private String entityCode;
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "OPERATION", length = 16, nullable = false)
+    private ChangeOperation operation;
+    @Column(name = "CHANGED_AT", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public ChangeLogEntry(ChangeEntityType entityType, String entityCode, ChangeOperation operation) {
+        this(null, entityType, entityCode, operation, null);
+    }
+}
@@ -1,7 +1,10 @@
 package com.olaaref.weather.commonlib.model;
 
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +14,8 @@ import java.time.LocalDateTime;
 @Setter
 @ToString
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "realtime-weather")
 @Table(name = "REALTIME_WEATHER")
 public class RealtimeWeather {
     @Id
@@ -35,10 +40,18 @@ public class RealtimeWeather {
      * @MapsId: This annotation is used to specify that the primary key of the associated entity (Location)
      * should be mapped to the primary key of the owning entity (RealtimeWeather).
      * It ensures that the primary key value of the associated entity is the same as the primary key value of the owning entity.
+     * The association is lazy: the shared primary key is already available as {@link #locationCode}.
      */
     @ToString.Exclude
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "LOCATION_CODE", referencedColumnName = "CODE")
     @MapsId
     private Location location;
+
+    /**
+     * Maps this entity to its DTO, using {@link #locationCode} so the lazy {@link #location} is never loaded.
+     */
+    public RealtimeWeatherDto toRealtimeWeatherDto() {
+        return new RealtimeWeatherDto(locationCode, temperature, humidity, precipitation, windSpeed, status, lastUpdated);
+    }
 }
@@ -0,0 +1,16 @@
+-- Local stand-in for a read replica: replicates the "mysql" service through GTID auto-positioning.
+-- The weather database and user arrive through replication; they are created here as well, outside the
+-- binary log, so the application can connect before the first transaction has been replicated.
+SET SESSION SQL_LOG_BIN = 0;
+CREATE DATABASE IF NOT EXISTS weather_db;
+CREATE USER IF NOT EXISTS 'weatherApp'@'%' IDENTIFIED BY 'password';
+GRANT SELECT ON weather_db.* TO 'weatherApp'@'%';
+SET SESSION SQL_LOG_BIN = 1;
+
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = '',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
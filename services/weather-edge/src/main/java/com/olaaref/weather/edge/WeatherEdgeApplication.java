@@ -0,0 +1,17 @@
+package com.olaaref.weather.edge;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+@ConfigurationPropertiesScan
+public class WeatherEdgeApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(WeatherEdgeApplication.class, args);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.olaaref.weather.edge.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.edge")
+public class EdgeProperties {
+
+    private Snapshot snapshot = new Snapshot();
+
+    private Streaming streaming = new Streaming();
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /**
+         * Whether reads are served from an in-memory snapshot of the locations and realtime weather.
+         * When disabled every read goes to the database.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Delay between the end of one snapshot load and the start of the next.
+         */
+        @NotNull
+        private Duration refreshInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Streaming {
+
+        /**
+         * Number of elements requested at a time from the source of a streaming list endpoint.
+         */
+        @Min(1)
+        private int limitRate = 256;
+    }
+}
@@ -0,0 +1,49 @@
+package com.olaaref.weather.edge.controller;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.edge.config.EdgeProperties;
+import com.olaaref.weather.edge.exception.LocationNotFoundException;
+import com.olaaref.weather.edge.service.EdgeLocationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only variant of the weather service {@code LocationController}.
+ */
+@RestController
+@RequestMapping("/v1/location")
+public class EdgeLocationController {
+
+    private final EdgeLocationService edgeLocationService;
+    private final EdgeProperties edgeProperties;
+
+    public EdgeLocationController(EdgeLocationService edgeLocationService, EdgeProperties edgeProperties) {
+        this.edgeLocationService = edgeLocationService;
+        this.edgeProperties = edgeProperties;
+    }
+
+    /**
+     * Returns all locations, or {@code 204 No Content} when there are none, like the weather service. Locations are
+     * written one by one as a JSON array, or as newline-delimited JSON when {@code application/x-ndjson} is accepted,
+     * and are pulled from the snapshot or the database at the pace the client reads them.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Flux<LocationDto>>> getAllLocations() {
+        return edgeLocationService.hasLocations()
+                .map(hasLocations -> hasLocations
+                        ? ResponseEntity.ok(edgeLocationService.getAllLocations()
+                                .limitRate(edgeProperties.getStreaming().getLimitRate()))
+                        : ResponseEntity.noContent().<Flux<LocationDto>>build());
+    }
+
+    @GetMapping("/{code}")
+    public Mono<LocationDto> getLocationByCode(@PathVariable String code) {
+        return edgeLocationService.getLocationByCode(code)
+                .switchIfEmpty(Mono.error(() -> new LocationNotFoundException("Location with code " + code + " not found")));
+    }
+}
@@ -0,0 +1,40 @@
+package com.olaaref.weather.edge.controller;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.edge.exception.LocationNotFoundException;
+import com.olaaref.weather.edge.service.EdgeRealtimeWeatherService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only variant of the weather service {@code RealtimeWeatherController}.
+ * <p>
+ * The lookup by client IP address is not served here: the IP2Location reader does blocking file I/O and would
+ * stall the event loop.
+ */
+@RestController
+@RequestMapping("/v1/weather")
+public class EdgeRealtimeWeatherController {
+
+    private final EdgeRealtimeWeatherService edgeRealtimeWeatherService;
+
+    public EdgeRealtimeWeatherController(EdgeRealtimeWeatherService edgeRealtimeWeatherService) {
+        this.edgeRealtimeWeatherService = edgeRealtimeWeatherService;
+    }
+
+    /**
+     * Get weather information for a specific location by its code
+     *
+     * @param locationCode The location code in format COUNTRY-REGION-CITY (e.g., US-NY-NY)
+     * @return Weather information for the specified location
+     */
+    @GetMapping("/{locationCode}")
+    public Mono<RealtimeWeatherDto> getWeatherByLocationCode(@PathVariable String locationCode) {
+        return edgeRealtimeWeatherService.getWeatherByLocationCode(locationCode)
+                .switchIfEmpty(Mono.error(() -> new LocationNotFoundException(
+                        "Weather data not found for location code: " + locationCode)));
+    }
+}
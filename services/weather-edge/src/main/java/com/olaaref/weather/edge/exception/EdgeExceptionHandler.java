@@ -0,0 +1,27 @@
+package com.olaaref.weather.edge.exception;
+
+import com.olaaref.weather.commonlib.dto.ErrorDto;
+import com.olaaref.weather.commonlib.enums.ErrorCode;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+@Log4j2
+@RestControllerAdvice
+public class EdgeExceptionHandler {
+
+    @ExceptionHandler(LocationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorDto handleLocationNotFound(LocationNotFoundException ex) {
+        log.debug(ex.getMessage());
+        return new ErrorDto(HttpStatus.NOT_FOUND.value(),
+                ErrorCode.LOCATION_NOT_FOUND.getCode(),
+                ErrorCode.LOCATION_NOT_FOUND.getMessage(),
+                null,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,7 @@
+package com.olaaref.weather.edge.exception;
+
+public class LocationNotFoundException extends RuntimeException {
+    public LocationNotFoundException(String message) {
+        super(message);
+    }
+}
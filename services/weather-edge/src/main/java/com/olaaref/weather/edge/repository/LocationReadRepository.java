@@ -0,0 +1,63 @@
+package com.olaaref.weather.edge.repository;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads untrashed locations of the {@code LOCATIONS} table owned by the weather service.
+ */
+@Repository
+public class LocationReadRepository {
+
+    private static final String SELECT_UNTRASHED = """
+            SELECT CODE, COUNTRY_CODE, COUNTRY_NAME, REGION_NAME, CITY_NAME, LATITUDE, LONGITUDE,
+                   ZIP_CODE, TIME_ZONE, ENABLED, TRASHED
+            FROM LOCATIONS
+            WHERE TRASHED = FALSE""";
+
+    private final DatabaseClient databaseClient;
+
+    public LocationReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<LocationDto> findUntrashed() {
+        return databaseClient.sql(SELECT_UNTRASHED + " ORDER BY CODE")
+                .map(LocationReadRepository::toLocationDto)
+                .all();
+    }
+
+    public Mono<LocationDto> findUntrashedByCode(String code) {
+        return databaseClient.sql(SELECT_UNTRASHED + " AND CODE = :code")
+                .bind("code", code)
+                .map(LocationReadRepository::toLocationDto)
+                .one();
+    }
+
+    public Mono<Boolean> existsUntrashed() {
+        return databaseClient.sql("SELECT 1 FROM LOCATIONS WHERE TRASHED = FALSE LIMIT 1")
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    private static LocationDto toLocationDto(Readable row) {
+        return new LocationDto(
+                row.get("CODE", String.class),
+                row.get("COUNTRY_CODE", String.class),
+                row.get("COUNTRY_NAME", String.class),
+                row.get("REGION_NAME", String.class),
+                row.get("CITY_NAME", String.class),
+                row.get("LATITUDE", Double.class),
+                row.get("LONGITUDE", Double.class),
+                row.get("ZIP_CODE", String.class),
+                row.get("TIME_ZONE", String.class),
+                row.get("ENABLED", Boolean.class),
+                row.get("TRASHED", Boolean.class)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.olaaref.weather.edge.repository;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reads the {@code REALTIME_WEATHER} rows of untrashed locations. The DTO location is the location code,
+ * as in the weather service.
+ */
+@Repository
+public class RealtimeWeatherReadRepository {
+
+    private static final String SELECT_UNTRASHED = """
+            SELECT w.LOCATION_CODE, w.TEMPERATURE, w.HUMIDITY, w.PRECIPITATION, w.WIND_SPEED, w.STATUS, w.LAST_UPDATED
+            FROM REALTIME_WEATHER w
+            JOIN LOCATIONS l ON l.CODE = w.LOCATION_CODE
+            WHERE l.TRASHED = FALSE""";
+
+    private final DatabaseClient databaseClient;
+
+    public RealtimeWeatherReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<RealtimeWeatherDto> findUntrashed() {
+        return databaseClient.sql(SELECT_UNTRASHED)
+                .map(RealtimeWeatherReadRepository::toRealtimeWeatherDto)
+                .all();
+    }
+
+    public Mono<RealtimeWeatherDto> findUntrashedByLocationCode(String locationCode) {
+        return databaseClient.sql(SELECT_UNTRASHED + " AND w.LOCATION_CODE = :locationCode")
+                .bind("locationCode", locationCode)
+                .map(RealtimeWeatherReadRepository::toRealtimeWeatherDto)
+                .one();
+    }
+
+    private static RealtimeWeatherDto toRealtimeWeatherDto(Readable row) {
+        return new RealtimeWeatherDto(
+                row.get("LOCATION_CODE", String.class),
+                row.get("TEMPERATURE", Double.class),
+                row.get("HUMIDITY", Double.class),
+                row.get("PRECIPITATION", Double.class),
+                row.get("WIND_SPEED", Double.class),
+                row.get("STATUS", String.class),
+                row.get("LAST_UPDATED", LocalDateTime.class)
+        );
+    }
+}
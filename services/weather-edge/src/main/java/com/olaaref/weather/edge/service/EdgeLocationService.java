@@ -0,0 +1,48 @@
+package com.olaaref.weather.edge.service;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.edge.repository.LocationReadRepository;
+import com.olaaref.weather.edge.snapshot.WeatherSnapshot;
+import com.olaaref.weather.edge.snapshot.WeatherSnapshotHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Serves locations from the current snapshot, falling back to the database when there is no snapshot yet or the
+ * location was created after the snapshot was loaded.
+ */
+@Service
+public class EdgeLocationService {
+
+    private final WeatherSnapshotHolder snapshotHolder;
+    private final LocationReadRepository locationReadRepository;
+
+    public EdgeLocationService(WeatherSnapshotHolder snapshotHolder, LocationReadRepository locationReadRepository) {
+        this.snapshotHolder = snapshotHolder;
+        this.locationReadRepository = locationReadRepository;
+    }
+
+    public Flux<LocationDto> getAllLocations() {
+        Optional<WeatherSnapshot> snapshot = snapshotHolder.getSnapshot();
+        return snapshot.isPresent()
+                ? Flux.fromIterable(snapshot.get().locations().values())
+                : locationReadRepository.findUntrashed();
+    }
+
+    public Mono<Boolean> hasLocations() {
+        Optional<WeatherSnapshot> snapshot = snapshotHolder.getSnapshot();
+        return snapshot.isPresent()
+                ? Mono.just(!snapshot.get().locations().isEmpty())
+                : locationReadRepository.existsUntrashed();
+    }
+
+    public Mono<LocationDto> getLocationByCode(String code) {
+        LocationDto location = snapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.locations().get(code))
+                .orElse(null);
+        return location != null ? Mono.just(location) : locationReadRepository.findUntrashedByCode(code);
+    }
+}
@@ -0,0 +1,32 @@
+package com.olaaref.weather.edge.service;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.edge.repository.RealtimeWeatherReadRepository;
+import com.olaaref.weather.edge.snapshot.WeatherSnapshotHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves realtime weather from the current snapshot, falling back to the database on a miss.
+ */
+@Service
+public class EdgeRealtimeWeatherService {
+
+    private final WeatherSnapshotHolder snapshotHolder;
+    private final RealtimeWeatherReadRepository realtimeWeatherReadRepository;
+
+    public EdgeRealtimeWeatherService(WeatherSnapshotHolder snapshotHolder,
+                                      RealtimeWeatherReadRepository realtimeWeatherReadRepository) {
+        this.snapshotHolder = snapshotHolder;
+        this.realtimeWeatherReadRepository = realtimeWeatherReadRepository;
+    }
+
+    public Mono<RealtimeWeatherDto> getWeatherByLocationCode(String locationCode) {
+        RealtimeWeatherDto realtimeWeather = snapshotHolder.getSnapshot()
+                .map(snapshot -> snapshot.realtimeWeather().get(locationCode))
+                .orElse(null);
+        return realtimeWeather != null
+                ? Mono.just(realtimeWeather)
+                : realtimeWeatherReadRepository.findUntrashedByLocationCode(locationCode);
+    }
+}
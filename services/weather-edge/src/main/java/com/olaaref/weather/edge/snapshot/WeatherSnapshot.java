@@ -0,0 +1,15 @@
+package com.olaaref.weather.edge.snapshot;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Immutable copy of the untrashed locations, in code order, and of their realtime weather.
+ */
+public record WeatherSnapshot(Map<String, LocationDto> locations,
+                              Map<String, RealtimeWeatherDto> realtimeWeather,
+                              Instant loadedAt) {
+}
@@ -0,0 +1,72 @@
+package com.olaaref.weather.edge.snapshot;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.edge.config.EdgeProperties;
+import com.olaaref.weather.edge.repository.LocationReadRepository;
+import com.olaaref.weather.edge.repository.RealtimeWeatherReadRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current {@link WeatherSnapshot} and replaces it as a whole on every refresh, so readers never see a
+ * partially loaded snapshot and never block.
+ */
+@Log4j2
+@Component
+public class WeatherSnapshotHolder {
+
+    private final LocationReadRepository locationReadRepository;
+    private final RealtimeWeatherReadRepository realtimeWeatherReadRepository;
+    private final EdgeProperties edgeProperties;
+    private final AtomicReference<WeatherSnapshot> snapshot = new AtomicReference<>();
+
+    public WeatherSnapshotHolder(LocationReadRepository locationReadRepository,
+                                 RealtimeWeatherReadRepository realtimeWeatherReadRepository,
+                                 EdgeProperties edgeProperties) {
+        this.locationReadRepository = locationReadRepository;
+        this.realtimeWeatherReadRepository = realtimeWeatherReadRepository;
+        this.edgeProperties = edgeProperties;
+    }
+
+    /**
+     * @return the last loaded snapshot, or empty while snapshots are disabled or the first load has not completed
+     */
+    public Optional<WeatherSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    @Scheduled(fixedDelayString = "${weather.edge.snapshot.refresh-interval:30s}")
+    public Mono<Void> refresh() {
+        if (!edgeProperties.getSnapshot().isEnabled()) {
+            return Mono.empty();
+        }
+        Mono<Map<String, LocationDto>> locations = locationReadRepository.findUntrashed()
+                .collectMap(LocationDto::code, location -> location, LinkedHashMap::new);
+        Mono<Map<String, RealtimeWeatherDto>> realtimeWeather = realtimeWeatherReadRepository.findUntrashed()
+                .collectMap(RealtimeWeatherDto::getLocation);
+
+        return Mono.zip(locations, realtimeWeather)
+                .map(tuple -> new WeatherSnapshot(
+                        Collections.unmodifiableMap(tuple.getT1()),
+                        Collections.unmodifiableMap(tuple.getT2()),
+                        Instant.now()))
+                .doOnNext(loaded -> {
+                    snapshot.set(loaded);
+                    log.debug("Loaded snapshot of {} locations and {} realtime weather entries",
+                            loaded.locations().size(), loaded.realtimeWeather().size());
+                })
+                .doOnError(e -> log.error("Error loading weather snapshot, keeping the previous one: {}", e.getMessage()))
+                .onErrorComplete()
+                .then();
+    }
+}
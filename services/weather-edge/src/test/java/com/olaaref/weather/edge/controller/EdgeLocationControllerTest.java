@@ -0,0 +1,104 @@
+package com.olaaref.weather.edge.controller;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.edge.config.EdgeProperties;
+import com.olaaref.weather.edge.service.EdgeLocationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(EdgeLocationController.class)
+class EdgeLocationControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private EdgeLocationService edgeLocationService;
+
+    @TestConfiguration
+    @EnableConfigurationProperties(EdgeProperties.class)
+    static class Config {
+    }
+
+    @DisplayName("Get all locations - Success")
+    @Test
+    void getAllLocations_Success() {
+        // Given
+        when(edgeLocationService.hasLocations()).thenReturn(Mono.just(true));
+        when(edgeLocationService.getAllLocations()).thenReturn(Flux.just(createTestLocationDto("US-CA-LA"), createTestLocationDto("US-NY-NY")));
+
+        // When/Then
+        webTestClient.get().uri("/v1/location")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].code").isEqualTo("US-CA-LA")
+                .jsonPath("$[1].code").isEqualTo("US-NY-NY");
+    }
+
+    @DisplayName("Get all locations - No Content")
+    @Test
+    void getAllLocations_NoContent() {
+        // Given
+        when(edgeLocationService.hasLocations()).thenReturn(Mono.just(false));
+
+        // When/Then
+        webTestClient.get().uri("/v1/location")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @DisplayName("Stream all locations as NDJSON - Success")
+    @Test
+    void streamAllLocations_Success() {
+        // Given
+        when(edgeLocationService.hasLocations()).thenReturn(Mono.just(true));
+        when(edgeLocationService.getAllLocations()).thenReturn(Flux.just(createTestLocationDto("US-CA-LA"), createTestLocationDto("US-NY-NY")));
+
+        // When/Then
+        webTestClient.get().uri("/v1/location")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(LocationDto.class)
+                .hasSize(2);
+    }
+
+    @DisplayName("Get location by code - Not Found")
+    @Test
+    void getLocationByCode_NotFound() {
+        // Given
+        when(edgeLocationService.getLocationByCode("INVALID")).thenReturn(Mono.empty());
+
+        // When/Then
+        webTestClient.get().uri("/v1/location/{code}", "INVALID")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("LOC_SEARCH_001");
+    }
+
+    private LocationDto createTestLocationDto(String code) {
+        return LocationDto.builder()
+                .code(code)
+                .countryCode("US")
+                .countryName("United States")
+                .cityName("City " + code)
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.olaaref.weather.edge.controller;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.edge.service.EdgeRealtimeWeatherService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(EdgeRealtimeWeatherController.class)
+class EdgeRealtimeWeatherControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private EdgeRealtimeWeatherService edgeRealtimeWeatherService;
+
+    @DisplayName("Get weather by location code - Success")
+    @Test
+    void getWeatherByLocationCode_Success() {
+        // Given
+        RealtimeWeatherDto weather = new RealtimeWeatherDto();
+        weather.setLocation("US-NY-NY");
+        weather.setTemperature(21.5);
+        when(edgeRealtimeWeatherService.getWeatherByLocationCode("US-NY-NY")).thenReturn(Mono.just(weather));
+
+        // When/Then
+        webTestClient.get().uri("/v1/weather/{locationCode}", "US-NY-NY")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.location").isEqualTo("US-NY-NY")
+                .jsonPath("$.temperature").isEqualTo(21.5);
+    }
+
+    @DisplayName("Get weather by location code - Not Found")
+    @Test
+    void getWeatherByLocationCode_NotFound() {
+        // Given
+        when(edgeRealtimeWeatherService.getWeatherByLocationCode("INVALID")).thenReturn(Mono.empty());
+
+        // When/Then
+        webTestClient.get().uri("/v1/weather/{locationCode}", "INVALID")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("LOC_SEARCH_001")
+                .jsonPath("$.timestamp").exists();
+    }
+}
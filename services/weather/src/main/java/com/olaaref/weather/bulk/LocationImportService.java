@@ -0,0 +1,216 @@
+package com.olaaref.weather.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.cache.NegativeLookupCache;
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.LocationImportResultDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
+import com.olaaref.weather.config.LocationImportProperties;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports locations from a CSV or NDJSON upload.
+ * <p>
+ * The upload is read in chunks. The rows of a chunk are validated in parallel against the {@link LocationDto}
+ * constraints and deduplicated on their code against the rest of the upload. Each chunk is then checked against the
+ * database and inserted with JDBC batch statements together with its change log entries in one transaction. A failure therefore leaves
+ * the chunks before it imported. As the inserts bypass Hibernate, the cached query results are evicted after each
+ * chunk, as are the negative lookup cache entries of the imported codes, so a previously cached "not found" lookup
+ * does not hide an imported location.
+ */
+@Log4j2
+@Service
+public class LocationImportService {
+
+    private static final String INSERT_LOCATION = """
+            INSERT INTO LOCATIONS (CODE, COUNTRY_CODE, COUNTRY_NAME, REGION_NAME, CITY_NAME, LATITUDE, LONGITUDE,
+                                   ZIP_CODE, TIME_ZONE, ENABLED, TRASHED)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)""";
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO CHANGE_LOG (ENTITY_TYPE, ENTITY_CODE, OPERATION)
+            VALUES (?, ?, ?)""";
+
+    private static final String SELECT_EXISTING_CODES = "SELECT CODE FROM LOCATIONS WHERE CODE IN (:codes)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final NegativeLookupCache negativeLookupCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final LocationImportProperties properties;
+
+    @Autowired
+    public LocationImportService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                 PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory,
+                                 NegativeLookupCache negativeLookupCache, Validator validator, ObjectMapper objectMapper,
+                                 LocationImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.negativeLookupCache = negativeLookupCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public LocationImportResultDto importLocations(ImportFormat format, InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+        LocationRowParser parser = LocationRowParser.of(format, reader, objectMapper);
+        Summary summary = new Summary(properties.getMaxRejectedRows());
+        Set<String> seenCodes = new HashSet<>();
+
+        List<LocationRow> chunk = new ArrayList<>(properties.getChunkSize());
+        LocationRow row;
+        while ((row = parser.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == properties.getChunkSize()) {
+                importChunk(chunk, seenCodes, summary);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, seenCodes, summary);
+        }
+
+        log.info("Imported {} of {} locations, {} rejected", summary.imported, summary.received, summary.rejected);
+        return summary.toDto();
+    }
+
+    private void importChunk(List<LocationRow> chunk, Set<String> seenCodes, Summary summary) {
+        summary.received += chunk.size();
+        List<List<String>> errors = chunk.parallelStream().map(this::validate).toList();
+
+        List<LocationRow> candidates = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            LocationRow row = chunk.get(i);
+            if (!errors.get(i).isEmpty()) {
+                summary.reject(row, errors.get(i));
+            } else if (!seenCodes.add(row.location().code())) {
+                summary.reject(row, List.of("Duplicate location code in upload"));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<LocationDto> locations = transactionTemplate.execute(status -> insert(candidates, summary));
+        if (locations.isEmpty()) {
+            return;
+        }
+        entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+        negativeLookupCache.forgetCodes(locations.stream().map(LocationDto::code).toList());
+        summary.imported += locations.size();
+    }
+
+    /**
+     * Inserts the candidates whose code is not in the database yet, with their change log entries, and returns
+     * their locations. Runs in the chunk transaction, so the check sees the writes committed before the inserts.
+     */
+    private List<LocationDto> insert(List<LocationRow> candidates, Summary summary) {
+        Set<String> existingCodes = new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_CODES,
+                Map.of("codes", candidates.stream().map(row -> row.location().code()).toList()), String.class));
+        List<LocationDto> locations = new ArrayList<>(candidates.size());
+        for (LocationRow row : candidates) {
+            if (existingCodes.contains(row.location().code())) {
+                summary.reject(row, List.of("Location code already exists"));
+            } else {
+                locations.add(row.location());
+            }
+        }
+        if (locations.isEmpty()) {
+            return locations;
+        }
+
+        int batchSize = properties.getBatchSize();
+        jdbcTemplate.batchUpdate(INSERT_LOCATION, locations, batchSize, (statement, location) -> {
+            statement.setString(1, location.code());
+            statement.setString(2, location.countryCode());
+            statement.setString(3, location.countryName());
+            statement.setString(4, location.regionName());
+            statement.setString(5, location.cityName());
+            statement.setDouble(6, location.latitude());
+            statement.setDouble(7, location.longitude());
+            statement.setString(8, location.zipCode());
+            statement.setString(9, location.timeZone());
+            statement.setBoolean(10, location.enabled());
+        });
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, locations, batchSize, (statement, location) -> {
+            statement.setString(1, ChangeEntityType.LOCATION.name());
+            statement.setString(2, location.code());
+            statement.setString(3, ChangeOperation.UPSERT.name());
+        });
+        return locations;
+    }
+
+    private List<String> validate(LocationRow row) {
+        if (row.parseError() != null) {
+            return List.of(row.parseError());
+        }
+        Set<ConstraintViolation<LocationDto>> violations = validator.validate(row.location());
+        if (violations.isEmpty()) {
+            return List.of();
+        }
+        return violations.stream()
+                .map(violation -> "Field: " + violation.getPropertyPath()
+                        + ", Message: " + violation.getMessage()
+                        + ", Rejected value: " + violation.getInvalidValue())
+                .sorted()
+                .toList();
+    }
+
+    private static final class Summary {
+        private final int maxRejectedRows;
+        private final List<LocationImportResultDto.RejectedRow> rejectedRows = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private Summary(int maxRejectedRows) {
+            this.maxRejectedRows = maxRejectedRows;
+        }
+
+        private void reject(LocationRow row, List<String> errors) {
+            rejected++;
+            if (rejectedRows.size() < maxRejectedRows) {
+                String code = row.location() != null ? row.location().code() : null;
+                rejectedRows.add(new LocationImportResultDto.RejectedRow(row.row(), code, errors));
+            }
+        }
+
+        private LocationImportResultDto toDto() {
+            // Rows found in the database are rejected after the rest of their chunk
+            rejectedRows.sort(Comparator.comparingLong(LocationImportResultDto.RejectedRow::row));
+            return new LocationImportResultDto(received, imported, rejected, List.copyOf(rejectedRows),
+                    rejected > rejectedRows.size());
+        }
+    }
+}
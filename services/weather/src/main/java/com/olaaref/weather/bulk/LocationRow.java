@@ -0,0 +1,17 @@
+package com.olaaref.weather.bulk;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+
+/**
+ * A data row of an upload: the parsed location, or the reason it could not be parsed.
+ */
+record LocationRow(long row, LocationDto location, String parseError) {
+
+    static LocationRow parsed(long row, LocationDto location) {
+        return new LocationRow(row, location, null);
+    }
+
+    static LocationRow malformed(long row, String parseError) {
+        return new LocationRow(row, null, parseError);
+    }
+}
@@ -0,0 +1,155 @@
+package com.olaaref.weather.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.olaaref.weather.commonlib.dto.LocationDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an upload one line at a time, so only the current chunk of rows is held in memory.
+ * <p>
+ * NDJSON lines are {@link LocationDto} objects. CSV starts with a header naming the {@link LocationDto} fields, in
+ * any order; fields may be quoted, but quoted fields cannot span lines.
+ */
+abstract class LocationRowParser {
+
+    private final BufferedReader reader;
+    private long row;
+
+    LocationRowParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static LocationRowParser of(ImportFormat format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return format == ImportFormat.CSV ? new Csv(reader) : new Ndjson(reader, objectMapper);
+    }
+
+    /**
+     * @return the next row, or {@code null} at the end of the upload
+     */
+    LocationRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        row++;
+        return parse(row, line);
+    }
+
+    abstract LocationRow parse(long row, String line);
+
+    private static final class Ndjson extends LocationRowParser {
+        private final ObjectReader objectReader;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectReader = objectMapper.readerFor(LocationDto.class);
+        }
+
+        @Override
+        LocationRow parse(long row, String line) {
+            try {
+                return LocationRow.parsed(row, objectReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return LocationRow.malformed(row, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class Csv extends LocationRowParser {
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim(), i);
+            }
+        }
+
+        @Override
+        LocationRow parse(long row, String line) {
+            List<String> fields = split(line);
+            if (fields == null) {
+                return LocationRow.malformed(row, "Malformed CSV: unterminated quoted field");
+            }
+            try {
+                return LocationRow.parsed(row, new LocationDto(
+                        field(fields, "code"),
+                        field(fields, "countryCode"),
+                        field(fields, "countryName"),
+                        field(fields, "regionName"),
+                        field(fields, "cityName"),
+                        parseDouble(field(fields, "latitude")),
+                        parseDouble(field(fields, "longitude")),
+                        field(fields, "zipCode"),
+                        field(fields, "timeZone"),
+                        !"false".equalsIgnoreCase(field(fields, "enabled")),
+                        false));
+            } catch (NumberFormatException e) {
+                return LocationRow.malformed(row, "Malformed CSV: invalid number " + e.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static double parseDouble(String value) {
+            return value == null ? 0.0 : Double.parseDouble(value);
+        }
+
+        /**
+         * @return the fields of an RFC 4180 line, or {@code null} when a quoted field is not terminated
+         */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
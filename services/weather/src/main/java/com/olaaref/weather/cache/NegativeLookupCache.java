@@ -0,0 +1,125 @@
+package com.olaaref.weather.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.olaaref.weather.config.NegativeCacheProperties;
+import com.olaaref.weather.datasource.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Remembers lookups that found nothing, so that repeated requests for unknown location codes or unresolvable IP
+ * addresses are answered from memory instead of MySQL or the IP2Location file.
+ * <p>
+ * The caches are bounded and entries expire after a short time to live, which also bounds how long another instance
+ * keeps rejecting a code created elsewhere. On this instance, creating a location forgets its code as soon as the
+ * creating transaction commits.
+ * <p>
+ * Once a read replica is configured, a location code is only remembered as missing when the lookup read the primary,
+ * since a lagging replica does not see a location created moments ago; requests pinned to the primary by
+ * {@link com.olaaref.weather.filter.ReadYourWritesFilter} skip the check as well, so a client always finds the
+ * location it has just created.
+ * <p>
+ * Hit rates and sizes are published as {@code cache.*} meters tagged with the {@code weather.negative.*} cache names.
+ */
+@Component
+public class NegativeLookupCache implements MeterBinder {
+
+    private static final Boolean MISSING = Boolean.TRUE;
+
+    private final Cache<String, Boolean> unknownLocationCodes;
+    private final Cache<String, Boolean> codesWithoutWeather;
+    private final Cache<String, Boolean> unresolvableIpAddresses;
+    private final boolean replicated;
+
+    @Autowired
+    public NegativeLookupCache(NegativeCacheProperties properties,
+                               @Value("${weather.datasource.replica.url:}") String replicaUrl) {
+        this.replicated = !replicaUrl.isBlank();
+        this.unknownLocationCodes = build(properties.getLocationCodes());
+        this.codesWithoutWeather = build(properties.getWeatherCodes());
+        this.unresolvableIpAddresses = build(properties.getIpAddresses());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, unknownLocationCodes, "weather.negative.location-codes");
+        CaffeineCacheMetrics.monitor(registry, codesWithoutWeather, "weather.negative.weather-codes");
+        CaffeineCacheMetrics.monitor(registry, unresolvableIpAddresses, "weather.negative.ip-addresses");
+    }
+
+    public boolean isUnknownLocationCode(String code) {
+        return !ReadWriteRoutingDataSource.isPinnedToPrimary() && unknownLocationCodes.getIfPresent(code) != null;
+    }
+
+    public void markUnknownLocationCode(String code) {
+        if (readsPrimary()) {
+            unknownLocationCodes.put(code, MISSING);
+        }
+    }
+
+    public boolean hasNoWeather(String code) {
+        return !ReadWriteRoutingDataSource.isPinnedToPrimary() && codesWithoutWeather.getIfPresent(code) != null;
+    }
+
+    public void markNoWeather(String code) {
+        if (readsPrimary()) {
+            codesWithoutWeather.put(code, MISSING);
+        }
+    }
+
+    public boolean isUnresolvableIpAddress(String ipAddress) {
+        return unresolvableIpAddresses.getIfPresent(ipAddress) != null;
+    }
+
+    public void markUnresolvableIpAddress(String ipAddress) {
+        unresolvableIpAddresses.put(ipAddress, MISSING);
+    }
+
+    public void forgetCode(String code) {
+        forgetCodes(List.of(code));
+    }
+
+    /**
+     * Forgets the given codes once the current transaction commits, or right away outside a transaction. Forgetting
+     * them earlier would let a concurrent lookup, which cannot see the uncommitted rows yet, mark them missing again.
+     */
+    public void forgetCodes(Collection<String> codes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(codes);
+                }
+            });
+        } else {
+            invalidate(codes);
+        }
+    }
+
+    private boolean readsPrimary() {
+        return !replicated || ReadWriteRoutingDataSource.currentRoute() == ReadWriteRoutingDataSource.Route.PRIMARY;
+    }
+
+    private void invalidate(Collection<String> codes) {
+        unknownLocationCodes.invalidateAll(codes);
+        codesWithoutWeather.invalidateAll(codes);
+    }
+
+    private static Cache<String, Boolean> build(NegativeCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+}
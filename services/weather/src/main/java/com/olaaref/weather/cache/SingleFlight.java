@@ -0,0 +1,158 @@
+package com.olaaref.weather.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load on its own thread while callers
+ * arriving before it finishes wait for and share its result, or its exception.
+ * <p>
+ * Nothing is kept once a load completes, so this is not a cache; it only stops a burst of misses for one key from
+ * reaching the backend as many identical queries. A waiting caller that times out runs the load itself. Shared
+ * values must not be mutated by their callers.
+ * <p>
+ * Publishes {@code weather.single-flight.*} meters tagged with the name of the instance, among them the share of
+ * calls served by a load already in flight as {@code weather.single-flight.coalescing-ratio}.
+ *
+ * @param <K> key type, with value-based {@code equals} and {@code hashCode}
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private final String name;
+    private final long timeoutNanos;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param timeout how long a caller waits for a load already in flight before running it itself
+     */
+    public SingleFlight(String name, Duration timeout) {
+        this.name = name;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Returns the result of the load in flight for the key, or runs the given load if there is none.
+     *
+     * @param exceptionType checked exception thrown by the load, rethrown to every caller sharing it
+     */
+    public <E extends Exception> V execute(K key, Class<E> exceptionType, Loader<? extends V, E> loader) throws E {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, loader);
+        }
+        return join(key, existing, exceptionType, loader);
+    }
+
+    private <E extends Exception> V lead(K key, CompletableFuture<V> flight, Loader<? extends V, E> loader) throws E {
+        loads.increment();
+        try {
+            V value = loader.load();
+            flight.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <E extends Exception> V join(K key, CompletableFuture<V> flight, Class<E> exceptionType,
+                                         Loader<? extends V, E> loader) throws E {
+        try {
+            V value = flight.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            joins.increment();
+            return value;
+        } catch (ExecutionException e) {
+            joins.increment();
+            throw propagate(e.getCause(), exceptionType);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            loads.increment();
+            return loader.load();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name + " of " + key, e);
+        }
+    }
+
+    private static <E extends Exception> E propagate(Throwable cause, Class<E> exceptionType) {
+        if (exceptionType.isInstance(cause)) {
+            return exceptionType.cast(cause);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new UndeclaredThrowableException(cause);
+    }
+
+    /**
+     * Share of all calls so far that were served by a load already in flight.
+     */
+    public double coalescingRatio() {
+        long joined = joins.sum();
+        long total = joined + loads.sum();
+        return total == 0 ? 0 : (double) joined / total;
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    public long joinCount() {
+        return joins.sum();
+    }
+
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("weather.single-flight.loads", loads, LongAdder::sum)
+                .description("Loads run, including those run after a wait timed out")
+                .tag("name", name)
+                .register(registry);
+        FunctionCounter.builder("weather.single-flight.joins", joins, LongAdder::sum)
+                .description("Calls served by a load already in flight")
+                .tag("name", name)
+                .register(registry);
+        FunctionCounter.builder("weather.single-flight.timeouts", timeouts, LongAdder::sum)
+                .description("Calls that gave up waiting for a load in flight and ran it themselves")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("weather.single-flight.coalescing-ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of calls served by a load already in flight")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("weather.single-flight.in-flight", inFlight, ConcurrentMap::size)
+                .description("Keys with a load in flight")
+                .tag("name", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@code GET /v1/changes} change feed.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.changes")
+public class ChangeFeedProperties {
+
+    /**
+     * Number of change log entries read when the request has no {@code limit}.
+     */
+    @Min(1)
+    private int defaultLimit = 500;
+
+    /**
+     * Upper bound of the {@code limit} request parameter.
+     */
+    @Min(1)
+    private int maxLimit = 5_000;
+
+    /**
+     * Age, by the database clock, the change log entry after a missing sequence must reach before the feed moves
+     * past the gap. Sequences are allocated when a write inserts its entry but become visible when it commits, so a
+     * gap is either a write still in progress or one that rolled back; must exceed the longest write transaction.
+     * {@code CHANGED_AT} is the time the entry was inserted, not the time it committed: a write whose transaction
+     * stays open longer than this after recording its change is skipped by the feed once it commits.
+     */
+    @NotNull
+    private Duration gapTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,31 @@
+package com.olaaref.weather.config;
+
+import com.olaaref.weather.filter.ClientAddressFilter;
+import com.olaaref.weather.net.ClientAddressResolver;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ClientAddressProperties.class)
+public class ClientAddressConfig {
+
+    @Bean
+    public ClientAddressResolver clientAddressResolver(ClientAddressProperties properties) {
+        return new ClientAddressResolver(properties.getTrustedProxies(), properties.isForwardedHeaderEnabled());
+    }
+
+    /**
+     * Runs first so that the rate limit already keys on the resolved client address.
+     */
+    @Bean
+    public FilterRegistrationBean<ClientAddressFilter> clientAddressFilter(ClientAddressResolver resolver) {
+        FilterRegistrationBean<ClientAddressFilter> registration =
+                new FilterRegistrationBean<>(new ClientAddressFilter(resolver));
+        registration.addUrlPatterns("/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
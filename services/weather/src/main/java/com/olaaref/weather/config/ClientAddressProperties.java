@@ -0,0 +1,32 @@
+package com.olaaref.weather.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How the client address is found behind load balancers and reverse proxies.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.client-address")
+public class ClientAddressProperties {
+
+    /**
+     * Addresses or CIDR blocks of the proxies whose forwarding headers are believed; hops from these are skipped
+     * when looking for the client.
+     */
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "127.0.0.0/8", "::1/128", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "fc00::/7"));
+
+    /**
+     * Whether the standard {@code Forwarded} header takes precedence over {@code X-Forwarded-For} when both are
+     * present.
+     */
+    private boolean forwardedHeaderEnabled = true;
+}
@@ -0,0 +1,33 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Read/write routing between the primary ({@code spring.datasource}) and the read replica
+ * ({@code weather.datasource.replica}).
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * How long after a write the client keeps reading from the primary; should exceed the usual replication lag.
+     */
+    @NotNull
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Name of the cookie carrying the end of the read-your-writes window.
+     */
+    @NotBlank
+    private String cookieName = "WEATHER_PRIMARY_UNTIL";
+}
@@ -0,0 +1,35 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the {@code POST /v1/location/import} bulk import.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.import")
+public class LocationImportProperties {
+
+    /**
+     * Number of rows validated together and inserted in one transaction.
+     */
+    @Min(1)
+    private int chunkSize = 2_000;
+
+    /**
+     * Number of rows per JDBC batch statement.
+     */
+    @Min(1)
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of rejected rows listed in the import summary; further rejections are only counted.
+     */
+    @Min(0)
+    private int maxRejectedRows = 1_000;
+}
@@ -0,0 +1,9 @@
+package com.olaaref.weather.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(NegativeCacheProperties.class)
+public class NegativeCacheConfig {
+}
@@ -0,0 +1,64 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Bounds and lifetimes of the caches remembering lookups that found nothing.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.negative-cache")
+public class NegativeCacheProperties {
+
+    /**
+     * Location codes with no untrashed location.
+     */
+    @Valid
+    private Spec locationCodes = new Spec(100_000, Duration.ofSeconds(30));
+
+    /**
+     * Location codes with no realtime weather.
+     */
+    @Valid
+    private Spec weatherCodes = new Spec(100_000, Duration.ofSeconds(30));
+
+    /**
+     * IP addresses the IP2Location database cannot resolve; the database only changes on redeployment.
+     */
+    @Valid
+    private Spec ipAddresses = new Spec(100_000, Duration.ofMinutes(10));
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * Maximum number of entries, the least recently used being evicted first.
+         */
+        @Min(0)
+        private long maximumSize;
+
+        /**
+         * How long an entry is trusted after the lookup that found nothing.
+         */
+        @NotNull
+        private Duration timeToLive;
+
+        public Spec() {
+        }
+
+        public Spec(long maximumSize, Duration timeToLive) {
+            this.maximumSize = maximumSize;
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-client rate limits of the API.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Number of leading bits of an IPv4 address identifying a client.
+     */
+    @Min(0)
+    @Max(32)
+    private int ipv4PrefixLength = 32;
+
+    /**
+     * Number of leading bits of an IPv6 address identifying a client; a /64 is usually assigned to a single site.
+     */
+    @Min(0)
+    @Max(128)
+    private int ipv6PrefixLength = 64;
+
+    /**
+     * How often the buckets of idle clients are removed.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(60);
+
+    /**
+     * Limits per endpoint, the first rule whose path matches applies; requests matching no rule are not limited.
+     */
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        @NotBlank
+        private String name;
+
+        /**
+         * Path pattern within the application, e.g. {@code /v1/weather/**}.
+         */
+        @NotBlank
+        private String path;
+
+        /**
+         * Sustained requests per second allowed for one client.
+         */
+        @Positive
+        private double requestsPerSecond;
+
+        /**
+         * Requests a client may send at once after being idle.
+         */
+        @Min(1)
+        private int burst = 1;
+    }
+}
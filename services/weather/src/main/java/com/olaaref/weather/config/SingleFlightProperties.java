@@ -0,0 +1,25 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Coalescing of concurrent lookups of the same key.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.single-flight")
+public class SingleFlightProperties {
+
+    /**
+     * How long a request waits for a lookup already in flight before running it itself.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(5);
+}
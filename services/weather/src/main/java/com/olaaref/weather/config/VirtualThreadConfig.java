@@ -0,0 +1,80 @@
+package com.olaaref.weather.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.filter.ConcurrencyLimitFilter;
+import com.olaaref.weather.monitor.PinnedVirtualThreadsEndpoint;
+import com.olaaref.weather.monitor.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Support beans for the virtual-thread execution mode.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} Spring Boot runs Tomcat requests, {@code @Async} methods and
+ * {@code @Scheduled} tasks on virtual threads. This configuration adds, in that mode only, a JFR monitor reporting
+ * where carriers get pinned and a filter keeping concurrent API requests within the capacity of the connection pool.
+ */
+@EnableAsync
+@EnableScheduling
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "weather.virtual-threads.pinning-monitor", name = "enabled", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinningMonitor());
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "weather.virtual-threads.pinning-monitor", name = "enabled", matchIfMissing = true)
+    public PinnedVirtualThreadsEndpoint pinnedVirtualThreadsEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new PinnedVirtualThreadsEndpoint(monitor);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "weather.virtual-threads.concurrency-limit", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(VirtualThreadProperties properties,
+                                                                               ObjectProvider<DataSource> dataSource,
+                                                                               ObjectMapper objectMapper) throws JsonProcessingException {
+        VirtualThreadProperties.ConcurrencyLimit concurrencyLimit = properties.getConcurrencyLimit();
+        int permits = concurrencyLimit.getPermits() > 0
+                ? concurrencyLimit.getPermits()
+                : getMaximumPoolSize(dataSource.getIfAvailable());
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(permits, concurrencyLimit.getAcquireTimeout(), objectMapper));
+        registration.addUrlPatterns("/v1/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static int getMaximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read the maximum connection pool size", e);
+        }
+        throw new IllegalStateException("weather.virtual-threads.concurrency-limit.permits must be set "
+                + "when the data source is not a HikariDataSource");
+    }
+}
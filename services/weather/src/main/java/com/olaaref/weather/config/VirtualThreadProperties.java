@@ -0,0 +1,71 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the virtual-thread execution mode, which itself is switched on with
+ * {@code spring.threads.virtual.enabled}.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.virtual-threads")
+public class VirtualThreadProperties {
+
+    private PinningMonitor pinningMonitor = new PinningMonitor();
+
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    @Getter
+    @Setter
+    public static class PinningMonitor {
+
+        /**
+         * Whether to record {@code jdk.VirtualThreadPinned} JFR events while running on virtual threads.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Minimum time a virtual thread must stay pinned to its carrier for the event to be recorded.
+         */
+        @NotNull
+        private Duration threshold = Duration.ofMillis(20);
+
+        /**
+         * Package prefixes of the libraries whose frames identify the pinning site, e.g. the IP2Location library
+         * and the MySQL driver. When no frame matches, the first frame outside the JDK is used.
+         */
+        @NotNull
+        private List<String> packages = List.of("com.ip2location", "com.mysql");
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+
+        /**
+         * Whether to limit concurrent API requests while running on virtual threads.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of concurrent API requests; {@code 0} uses the maximum size of the Hikari connection pool.
+         */
+        @Min(0)
+        private int permits = 0;
+
+        /**
+         * How long a request waits for a permit before it is rejected with {@code 503 Service Unavailable}.
+         */
+        @NotNull
+        private Duration acquireTimeout = Duration.ofMillis(500);
+    }
+}
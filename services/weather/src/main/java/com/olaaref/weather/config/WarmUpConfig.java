@@ -0,0 +1,34 @@
+package com.olaaref.weather.config;
+
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import com.olaaref.weather.service.GeolocationService;
+import com.olaaref.weather.warmup.WarmUpRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WarmUpProperties.class)
+@ConditionalOnProperty(prefix = "weather.warm-up", name = "enabled", matchIfMissing = true)
+public class WarmUpConfig {
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties,
+                                     LocationRepository locationRepository,
+                                     RealtimeWeatherRepository realtimeWeatherRepository,
+                                     GeolocationService geolocationService,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationEventPublisher eventPublisher,
+                                     Environment environment) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new WarmUpRunner(properties, locationRepository, realtimeWeatherRepository, geolocationService,
+                readOnlyTransaction, eventPublisher, environment);
+    }
+}
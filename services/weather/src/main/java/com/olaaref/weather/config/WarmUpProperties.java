@@ -0,0 +1,89 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Warm-up run at startup before the instance reports ready.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Time after which the remaining warm-up is skipped and the instance reports ready anyway.
+     */
+    @NotNull
+    private Duration budget = Duration.ofSeconds(60);
+
+    @Valid
+    private Entities entities = new Entities();
+
+    @Valid
+    private Geolocation geolocation = new Geolocation();
+
+    @Valid
+    private Endpoints endpoints = new Endpoints();
+
+    /**
+     * Preloading of locations and their realtime weather into the second-level cache.
+     */
+    @Getter
+    @Setter
+    public static class Entities {
+
+        /**
+         * Maximum number of locations loaded; the {@code location} cache region holds 50000 entries.
+         */
+        @Min(0)
+        private int maxLocations = 50_000;
+
+        @Min(1)
+        private int pageSize = 1_000;
+    }
+
+    /**
+     * Lookups of addresses spread over the IPv4 space, bringing the IP2Location file into the page cache.
+     */
+    @Getter
+    @Setter
+    public static class Geolocation {
+
+        @Min(0)
+        private int samples = 10_000;
+    }
+
+    /**
+     * Synthetic requests to the main read endpoints, so that their code is compiled before real traffic arrives.
+     */
+    @Getter
+    @Setter
+    public static class Endpoints {
+
+        /**
+         * Number of rounds, each requesting a location, its weather and the weather of an IP address.
+         */
+        @Min(0)
+        private int iterations = 2_000;
+
+        /**
+         * Number of distinct preloaded location codes cycled through.
+         */
+        @Min(1)
+        private int locationCodes = 200;
+
+        @NotNull
+        private Duration requestTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,92 @@
+package com.olaaref.weather.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@code GET /v1/weather/stream} server-sent events endpoint and the {@code /v1/weather/ws}
+ * WebSocket gateway.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "weather.stream")
+public class WeatherStreamProperties {
+
+    /**
+     * Maximum number of concurrent subscriptions on this node; further subscriptions are rejected with
+     * {@code 503 Service Unavailable}. Every subscription holds a connection, so {@code server.tomcat.max-connections}
+     * must leave room for it on top of regular requests.
+     */
+    @Min(1)
+    private int maxSubscribers = 50_000;
+
+    /**
+     * Maximum number of location codes a single subscription may list.
+     */
+    @Min(1)
+    private int maxCodesPerSubscriber = 50;
+
+    /**
+     * Number of events buffered per subscriber. A subscriber whose buffer is full is considered too slow and is
+     * disconnected.
+     */
+    @Min(1)
+    private int queueCapacity = 32;
+
+    /**
+     * Interval between heartbeat comments, which keep idle connections open through proxies and detect closed ones.
+     */
+    @NotNull
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Time after which a subscription is completed and the client has to reconnect.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private WebSocket websocket = new WebSocket();
+
+    @Getter
+    @Setter
+    public static class WebSocket {
+
+        /**
+         * Size in degrees of the latitude/longitude grid cells indexing bounding box subscriptions.
+         */
+        @Positive
+        private double gridCellDegrees = 1.0;
+
+        /**
+         * Bounding boxes covering more grid cells than this are not indexed by cell but checked on every update.
+         */
+        @Min(1)
+        private int maxCellsPerBox = 1024;
+
+        /**
+         * Maximum number of locations returned in the initial snapshot of a bounding box subscription.
+         */
+        @Min(1)
+        private int maxSnapshotLocations = 5_000;
+
+        /**
+         * Time a single send may take before the session is closed as too slow.
+         */
+        @NotNull
+        private Duration sendTimeLimit = Duration.ofSeconds(5);
+
+        /**
+         * Amount of unsent data buffered per session before it is closed as too slow.
+         */
+        @Min(1)
+        private int bufferSizeLimit = 256 * 1024;
+    }
+}
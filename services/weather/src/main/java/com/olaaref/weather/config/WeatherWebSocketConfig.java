@@ -0,0 +1,23 @@
+package com.olaaref.weather.config;
+
+import com.olaaref.weather.websocket.WeatherWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration(proxyBeanMethods = false)
+@EnableWebSocket
+public class WeatherWebSocketConfig implements WebSocketConfigurer {
+
+    private final WeatherWebSocketHandler weatherWebSocketHandler;
+
+    public WeatherWebSocketConfig(WeatherWebSocketHandler weatherWebSocketHandler) {
+        this.weatherWebSocketHandler = weatherWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(weatherWebSocketHandler, "/v1/weather/ws");
+    }
+}
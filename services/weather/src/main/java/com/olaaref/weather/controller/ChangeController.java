@@ -0,0 +1,42 @@
+package com.olaaref.weather.controller;
+
+import com.olaaref.weather.commonlib.dto.ChangesDto;
+import com.olaaref.weather.config.ChangeFeedProperties;
+import com.olaaref.weather.service.ChangeLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/changes")
+public class ChangeController {
+
+    private final ChangeLogService changeLogService;
+    private final ChangeFeedProperties changeFeedProperties;
+
+    @Autowired
+    public ChangeController(ChangeLogService changeLogService, ChangeFeedProperties changeFeedProperties) {
+        this.changeLogService = changeLogService;
+        this.changeFeedProperties = changeFeedProperties;
+    }
+
+    /**
+     * Get the locations and weather changed since a sequence
+     *
+     * @param since The {@code next} sequence of the previous page, or 0 to read from the start of the log
+     * @param limit The maximum number of change log entries to read
+     * @return The changed rows, the trashed location codes and the sequence to continue from
+     */
+    @GetMapping
+    public ResponseEntity<ChangesDto> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                 @RequestParam(required = false) Integer limit) {
+        int pageLimit = limit == null ? changeFeedProperties.getDefaultLimit() : limit;
+        if (since < 0 || pageLimit < 1 || pageLimit > changeFeedProperties.getMaxLimit()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(changeLogService.getChanges(since, pageLimit));
+    }
+}
@@ -0,0 +1,67 @@
+package com.olaaref.weather.controller;
+
+import com.olaaref.weather.export.ExportFormat;
+import com.olaaref.weather.export.WeatherExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/v1/export")
+public class ExportController {
+
+    private final WeatherExportService weatherExportService;
+
+    @Autowired
+    public ExportController(WeatherExportService weatherExportService) {
+        this.weatherExportService = weatherExportService;
+    }
+
+    /**
+     * Export every location with its realtime weather
+     *
+     * @param format The export format, ndjson or csv
+     * @param gzip   Whether to gzip the response body
+     * @return The export, streamed row by row
+     */
+    @GetMapping("/weather")
+    public ResponseEntity<StreamingResponseBody> exportWeather(@RequestParam(defaultValue = "ndjson") String format,
+                                                               @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+                weatherExportService.export(exportFormat, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                weatherExportService.export(exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("weather." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
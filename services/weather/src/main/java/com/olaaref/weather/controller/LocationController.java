@@ -1,14 +1,20 @@
 package com.olaaref.weather.controller;
 
+import com.olaaref.weather.bulk.ImportFormat;
+import com.olaaref.weather.bulk.LocationImportService;
 import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.LocationImportResultDto;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.exception.LocationNotFoundException;
 import com.olaaref.weather.service.LocationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +25,12 @@ import java.util.stream.Collectors;
 public class LocationController {
 
     private final LocationService locationService;
+    private final LocationImportService locationImportService;
 
     @Autowired
-    public LocationController(LocationService locationService) {
+    public LocationController(LocationService locationService, LocationImportService locationImportService) {
         this.locationService = locationService;
+        this.locationImportService = locationImportService;
     }
 
     @PostMapping
@@ -33,6 +41,14 @@ public class LocationController {
         return ResponseEntity.created(locationUri).body(savedLocation.toLocationDto());
     }
 
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<LocationImportResultDto> importLocations(HttpServletRequest request) throws IOException {
+        ImportFormat format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(ImportFormat.CSV.getContentType()))
+                ? ImportFormat.CSV
+                : ImportFormat.NDJSON;
+        return ResponseEntity.ok(locationImportService.importLocations(format, request.getInputStream()));
+    }
+
     @GetMapping
     public ResponseEntity<List<LocationDto>> getAllLocations() {
         List<Location> allLocations = locationService.getAllLocations();
@@ -53,7 +69,7 @@ public class LocationController {
         if(location.isPresent()) {
             return ResponseEntity.ok(location.get().toLocationDto());
         }
-        throw new LocationNotFoundException("Location with code " + code + " not found");
+        throw LocationNotFoundException.ofLocationCode(code);
     }
 
     @PutMapping
@@ -4,37 +4,49 @@ import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
 import com.olaaref.weather.commonlib.dto.request.RealtimeWeatherRequestDto;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.commonlib.model.RealtimeWeather;
+import com.olaaref.weather.config.WeatherStreamProperties;
 import com.olaaref.weather.exception.GeolocationException;
 import com.olaaref.weather.exception.LocationNotFoundException;
-import com.olaaref.weather.service.GeolocationService;
+import com.olaaref.weather.service.CoalescingLookupService;
 import com.olaaref.weather.service.RealtimeWeatherService;
+import com.olaaref.weather.stream.RealtimeWeatherBroadcaster;
 import com.olaaref.weather.util.Utils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Log4j2
 @RestController
 @RequestMapping("/v1/weather")
 public class RealtimeWeatherController {
     private final RealtimeWeatherService realtimeWeatherService;
-    private final GeolocationService geolocationService;
-    private final ModelMapper modelMapper;
+    private final CoalescingLookupService coalescingLookupService;
+    private final RealtimeWeatherBroadcaster realtimeWeatherBroadcaster;
+    private final WeatherStreamProperties weatherStreamProperties;
 
     @Autowired
-    public RealtimeWeatherController(RealtimeWeatherService realtimeWeatherService, GeolocationService geolocationService, ModelMapper modelMapper) {
+    public RealtimeWeatherController(RealtimeWeatherService realtimeWeatherService, CoalescingLookupService coalescingLookupService,
+                                     RealtimeWeatherBroadcaster realtimeWeatherBroadcaster, WeatherStreamProperties weatherStreamProperties) {
         this.realtimeWeatherService = realtimeWeatherService;
-        this.geolocationService = geolocationService;
-        this.modelMapper = modelMapper;
+        this.coalescingLookupService = coalescingLookupService;
+        this.realtimeWeatherBroadcaster = realtimeWeatherBroadcaster;
+        this.weatherStreamProperties = weatherStreamProperties;
     }
 
     /**
@@ -44,22 +56,43 @@ public class RealtimeWeatherController {
      * @return Weather information for the client's location
      */
     @GetMapping
-    public ResponseEntity<RealtimeWeatherDto> getWeatherByIpAddress(HttpServletRequest request) {
+    public ResponseEntity<RealtimeWeatherDto> getWeatherByIpAddress(HttpServletRequest request) throws LocationNotFoundException {
         try {
             String ipAddress = Utils.getIpAddress(request);
-            Location location = geolocationService.getLocation(ipAddress);
+            Location location = coalescingLookupService.getLocation(ipAddress);
             RealtimeWeather realtimeWeather = realtimeWeatherService.getWeatherByLocation(location);
-            RealtimeWeatherDto realtimeWeatherDto = modelMapper.map(realtimeWeather, RealtimeWeatherDto.class);
+            RealtimeWeatherDto realtimeWeatherDto = realtimeWeather.toRealtimeWeatherDto();
             return ResponseEntity.ok(realtimeWeatherDto);
-        } catch (LocationNotFoundException e) {
-            log.error(e.getMessage());
-            return ResponseEntity.notFound().build();
         } catch (GeolocationException e) {
             log.error(e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Stream weather updates of the given locations as server-sent events
+     *
+     * @param codes Comma-separated location codes to subscribe to (e.g., US-NY-NY,US-CA-LA)
+     * @return An event stream pushing the updated weather of a subscribed location each time it changes
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamWeatherByLocationCodes(@RequestParam String codes) {
+        Set<String> locationCodes = Arrays.stream(codes.split(","))
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .collect(Collectors.toSet());
+        if (locationCodes.isEmpty() || locationCodes.size() > weatherStreamProperties.getMaxCodesPerSubscriber()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SseEmitter emitter = realtimeWeatherBroadcaster.subscribe(locationCodes);
+        if (emitter == null) {
+            log.warn("Rejecting weather stream subscription: subscriber limit reached");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     /**
      * Get weather information for a specific location by its code
      * 
@@ -67,15 +100,9 @@ public class RealtimeWeatherController {
      * @return Weather information for the specified location
      */
     @GetMapping("/{locationCode}")
-    public ResponseEntity<RealtimeWeatherDto> getWeatherByLocationCode(@PathVariable String locationCode) {
-        try {
-            RealtimeWeather realtimeWeather = realtimeWeatherService.getWeatherByLocationCode(locationCode);
-            RealtimeWeatherDto realtimeWeatherDto = modelMapper.map(realtimeWeather, RealtimeWeatherDto.class);
-            return ResponseEntity.ok(realtimeWeatherDto);
-        } catch (LocationNotFoundException e) {
-            log.error(e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
+    public ResponseEntity<RealtimeWeatherDto> getWeatherByLocationCode(@PathVariable String locationCode) throws LocationNotFoundException {
+        RealtimeWeatherDto realtimeWeatherDto = coalescingLookupService.getWeatherByLocationCode(locationCode);
+        return ResponseEntity.ok(realtimeWeatherDto);
     }
 
     /**
@@ -88,15 +115,10 @@ public class RealtimeWeatherController {
     @PutMapping("/{locationCode}")
     public ResponseEntity<RealtimeWeatherDto> updateWeatherByLocationCode(
             @PathVariable String locationCode,
-            @RequestBody @Valid RealtimeWeatherRequestDto weatherDto) {
-        try {
-            weatherDto.setLocationCode(locationCode);
-            RealtimeWeather updatedWeather = realtimeWeatherService.updateWeatherByLocationCode(locationCode, weatherDto);
-            RealtimeWeatherDto updatedWeatherDto = modelMapper.map(updatedWeather, RealtimeWeatherDto.class);
-            return ResponseEntity.ok(updatedWeatherDto);
-        } catch (LocationNotFoundException e) {
-            log.error(e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
+            @RequestBody @Valid RealtimeWeatherRequestDto weatherDto) throws LocationNotFoundException {
+        weatherDto.setLocationCode(locationCode);
+        RealtimeWeather updatedWeather = realtimeWeatherService.updateWeatherByLocationCode(locationCode, weatherDto);
+        RealtimeWeatherDto updatedWeatherDto = updatedWeather.toRealtimeWeatherDto();
+        return ResponseEntity.ok(updatedWeatherDto);
     }
 }
@@ -2,6 +2,7 @@ package com.olaaref.weather.exception;
 
 import com.olaaref.weather.commonlib.dto.ErrorDto;
 import com.olaaref.weather.commonlib.enums.ErrorCode;
+import com.olaaref.weather.util.LogRateLimiter;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -16,17 +17,22 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Log4j2
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final LogRateLimiter notFoundLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
     @ExceptionHandler(LocationNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ResponseBody
     public ErrorDto handleWeatherException(LocationNotFoundException ex) {
-        ex.printStackTrace();
+        if (notFoundLogLimiter.tryAcquire()) {
+            log.info("{} ({} similar messages suppressed)", ex.getMessage(), notFoundLogLimiter.drainSuppressed());
+        }
         return new ErrorDto(HttpStatus.NOT_FOUND.value(),
                 ErrorCode.LOCATION_NOT_FOUND.getCode(),
                 ErrorCode.LOCATION_NOT_FOUND.getMessage(),
@@ -1,7 +1,46 @@
 package com.olaaref.weather.exception;
 
-public class LocationNotFoundException extends Exception{
+/**
+ * Signals that a location, or the weather of a location, does not exist.
+ * <p>
+ * It is raised for every lookup of an unknown code, so it is cheap to create: no stack trace is filled in and the
+ * factory methods defer building the message until {@link #getMessage()} is called.
+ */
+public class LocationNotFoundException extends Exception {
+
+    private final String prefix;
+    private final String subject;
+    private final String suffix;
+
     public LocationNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.prefix = null;
+        this.subject = null;
+        this.suffix = null;
+    }
+
+    private LocationNotFoundException(String prefix, String subject, String suffix) {
+        super(null, null, false, false);
+        this.prefix = prefix;
+        this.subject = subject;
+        this.suffix = suffix;
+    }
+
+    public static LocationNotFoundException ofLocationCode(String code) {
+        return new LocationNotFoundException("Location with code ", code, " not found");
+    }
+
+    public static LocationNotFoundException ofWeatherByLocationCode(String code) {
+        return new LocationNotFoundException("Weather data not found for location code: ", code, "");
+    }
+
+    public static LocationNotFoundException ofWeatherByCity(String cityName, String countryCode) {
+        return new LocationNotFoundException("Weather data not found for location: ", cityName, ", " + countryCode);
+    }
+
+    @Override
+    public String getMessage() {
+        String message = super.getMessage();
+        return message != null ? message : prefix + subject + suffix;
     }
 }
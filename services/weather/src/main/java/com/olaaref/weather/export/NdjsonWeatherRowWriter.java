@@ -0,0 +1,69 @@
+package com.olaaref.weather.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * One JSON object per line, with the field names and date format of the location and realtime weather DTOs.
+ */
+class NdjsonWeatherRowWriter implements WeatherRowWriter {
+
+    private static final DateTimeFormatter LAST_UPDATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final JsonGenerator generator;
+
+    NdjsonWeatherRowWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void writeRow(ResultSet row) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeStringField("code", row.getString("CODE"));
+        generator.writeStringField("countryCode", row.getString("COUNTRY_CODE"));
+        generator.writeStringField("countryName", row.getString("COUNTRY_NAME"));
+        generator.writeStringField("regionName", row.getString("REGION_NAME"));
+        generator.writeStringField("cityName", row.getString("CITY_NAME"));
+        generator.writeNumberField("latitude", row.getDouble("LATITUDE"));
+        generator.writeNumberField("longitude", row.getDouble("LONGITUDE"));
+        generator.writeStringField("zipCode", row.getString("ZIP_CODE"));
+        generator.writeStringField("timeZone", row.getString("TIME_ZONE"));
+        generator.writeBooleanField("enabled", row.getBoolean("ENABLED"));
+        writeNullableNumber("temperature", row, "TEMPERATURE");
+        writeNullableNumber("humidity", row, "HUMIDITY");
+        writeNullableNumber("precipitation", row, "PRECIPITATION");
+        writeNullableNumber("windSpeed", row, "WIND_SPEED");
+        generator.writeStringField("status", row.getString("STATUS"));
+        Timestamp lastUpdated = row.getTimestamp("LAST_UPDATED");
+        generator.writeStringField("lastUpdated",
+                lastUpdated == null ? null : LAST_UPDATED_FORMAT.format(lastUpdated.toLocalDateTime()));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    private void writeNullableNumber(String field, ResultSet row, String column) throws IOException, SQLException {
+        double value = row.getDouble(column);
+        if (row.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.olaaref.weather.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Exports every untrashed location joined with its realtime weather.
+ * <p>
+ * Rows are read through a forward-only, read-only JDBC statement with a fetch size, which with MySQL's
+ * {@code useCursorFetch=true} fetches them from a server-side cursor in batches, and are written to the output
+ * stream as they arrive. No entity is loaded, so memory use does not depend on the number of rows.
+ */
+@Log4j2
+@Service
+public class WeatherExportService {
+
+    private static final String EXPORT_QUERY = """
+            SELECT l.CODE, l.COUNTRY_CODE, l.COUNTRY_NAME, l.REGION_NAME, l.CITY_NAME, l.LATITUDE, l.LONGITUDE,
+                   l.ZIP_CODE, l.TIME_ZONE, l.ENABLED,
+                   w.TEMPERATURE, w.HUMIDITY, w.PRECIPITATION, w.WIND_SPEED, w.STATUS, w.LAST_UPDATED
+            FROM LOCATIONS l
+            LEFT JOIN REALTIME_WEATHER w ON w.LOCATION_CODE = l.CODE
+            WHERE l.TRASHED = FALSE
+            ORDER BY l.CODE""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    @Autowired
+    public WeatherExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                @Value("${weather.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes the export to {@code outputStream}, which is flushed but not closed.
+     *
+     * @return the number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        WeatherRowWriter rowWriter = format == ExportFormat.CSV
+                ? new CsvWeatherRowWriter(outputStream)
+                : new NdjsonWeatherRowWriter(objectMapper, outputStream);
+        rowWriter.writeHeader();
+
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_QUERY,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (ResultSet row) -> {
+                try {
+                    rowWriter.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        rowWriter.flush();
+        log.debug("Exported {} weather rows as {}", rows[0], format);
+        return rows[0];
+    }
+}
@@ -0,0 +1,22 @@
+package com.olaaref.weather.export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes the rows of the weather export query in one {@link ExportFormat}, straight from the {@link ResultSet}.
+ */
+interface WeatherRowWriter {
+
+    String[] COLUMNS = {
+            "CODE", "COUNTRY_CODE", "COUNTRY_NAME", "REGION_NAME", "CITY_NAME", "LATITUDE", "LONGITUDE", "ZIP_CODE",
+            "TIME_ZONE", "ENABLED", "TEMPERATURE", "HUMIDITY", "PRECIPITATION", "WIND_SPEED", "STATUS", "LAST_UPDATED"
+    };
+
+    void writeHeader() throws IOException;
+
+    void writeRow(ResultSet row) throws IOException, SQLException;
+
+    void flush() throws IOException;
+}
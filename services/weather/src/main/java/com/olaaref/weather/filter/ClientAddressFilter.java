@@ -0,0 +1,56 @@
+package com.olaaref.weather.filter;
+
+import com.olaaref.weather.net.ClientAddressResolver;
+import com.olaaref.weather.util.Utils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Enumeration;
+
+/**
+ * Resolves the client address once per request and exposes it through {@link Utils#getIpAddress}.
+ */
+public class ClientAddressFilter extends OncePerRequestFilter {
+
+    private static final String FORWARDED = "Forwarded";
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final ClientAddressResolver resolver;
+
+    public ClientAddressFilter(ClientAddressResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(Utils.CLIENT_IP_ATTRIBUTE, resolver.resolve(request.getRemoteAddr(),
+                combinedHeader(request, FORWARDED),
+                combinedHeader(request, X_FORWARDED_FOR)));
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Joins the lines of a repeated header with commas, as RFC 9110 allows for list headers. Our proxy appends its
+     * hop to the last line, so reading only the first line would hand the walk a hop chosen by the client.
+     */
+    private static String combinedHeader(HttpServletRequest request, String name) {
+        Enumeration<String> values = request.getHeaders(name);
+        if (values == null || !values.hasMoreElements()) {
+            return null;
+        }
+        String first = values.nextElement();
+        if (!values.hasMoreElements()) {
+            return first;
+        }
+        StringBuilder combined = new StringBuilder(first);
+        while (values.hasMoreElements()) {
+            combined.append(',').append(values.nextElement());
+        }
+        return combined.toString();
+    }
+}
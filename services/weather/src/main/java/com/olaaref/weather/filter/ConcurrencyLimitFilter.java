@@ -0,0 +1,91 @@
+package com.olaaref.weather.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.ErrorDto;
+import com.olaaref.weather.commonlib.enums.ErrorCode;
+import com.olaaref.weather.util.LogRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests processed concurrently.
+ * <p>
+ * On virtual threads the container no longer bounds concurrency, so without this limit every request would queue
+ * inside the connection pool until its connection timeout. Requests that cannot get a permit within the acquire
+ * timeout are rejected with {@code 503 Service Unavailable}. Rejections happen when the node is overloaded, so their
+ * body is serialized once up front and their log statements are rate limited.
+ */
+@Log4j2
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final byte[] serviceUnavailableBody;
+    private final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
+    public ConcurrencyLimitFilter(int permits, Duration acquireTimeout, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.serviceUnavailableBody = objectMapper.writeValueAsBytes(new ErrorDto(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ErrorCode.SERVICE_UNAVAILABLE.getCode(),
+                ErrorCode.SERVICE_UNAVAILABLE.getMessage(),
+                null,
+                null));
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (rejectionLogLimiter.tryAcquire()) {
+            log.warn("Rejecting {} {}: concurrency limit reached ({} similar messages suppressed)",
+                    request.getMethod(), request.getRequestURI(), rejectionLogLimiter.drainSuppressed());
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(serviceUnavailableBody.length);
+        response.getOutputStream().write(serviceUnavailableBody);
+    }
+}
@@ -0,0 +1,78 @@
+package com.olaaref.weather.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.ErrorDto;
+import com.olaaref.weather.commonlib.enums.ErrorCode;
+import com.olaaref.weather.ratelimit.ClientRateLimiter;
+import com.olaaref.weather.util.Utils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the per-client rate limits of {@link ClientRateLimiter} and rejects requests over their limit with
+ * {@code 429 Too Many Requests} and a {@code Retry-After} header.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final ClientRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final byte[] tooManyRequestsBody;
+    private final ConcurrentMap<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(ClientRateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry)
+            throws JsonProcessingException {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.tooManyRequestsBody = objectMapper.writeValueAsBytes(new ErrorDto(HttpStatus.TOO_MANY_REQUESTS.value(),
+                ErrorCode.TOO_MANY_REQUESTS.getCode(),
+                ErrorCode.TOO_MANY_REQUESTS.getMessage(),
+                null,
+                null));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ClientRateLimiter.Route route = rateLimiter.match(URL_PATH_HELPER.getPathWithinApplication(request));
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Object clientKey = rateLimiter.clientKey(Utils.getIpAddress(request));
+        long waitNanos = route.limiter().acquire(clientKey, System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.computeIfAbsent(route.name(), name -> Counter.builder("weather.rate-limit.rejected")
+                        .description("Requests rejected by the per-client rate limit")
+                        .tag("rule", name)
+                        .register(meterRegistry))
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(tooManyRequestsBody.length);
+        response.getOutputStream().write(tooManyRequestsBody);
+    }
+}
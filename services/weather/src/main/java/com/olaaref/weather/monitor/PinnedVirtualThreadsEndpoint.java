@@ -0,0 +1,24 @@
+package com.olaaref.weather.monitor;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Exposes the {@link VirtualThreadPinningMonitor} report as the {@code pinning} actuator endpoint.
+ */
+@Endpoint(id = "pinning")
+public class PinnedVirtualThreadsEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    public PinnedVirtualThreadsEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public List<VirtualThreadPinningMonitor.PinnedSite> pinnedSites() {
+        return monitor.getReport();
+    }
+}
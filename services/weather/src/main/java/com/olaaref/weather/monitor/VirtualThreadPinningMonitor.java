@@ -0,0 +1,151 @@
+package com.olaaref.weather.monitor;
+
+import com.olaaref.weather.config.VirtualThreadProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events and aggregates them per pinning site.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block or a native frame keeps its carrier thread, so a
+ * library doing blocking I/O under a monitor, such as the IP2Location reader or the MySQL driver, silently caps
+ * throughput at the number of carriers. A site is the first stack frame in one of the configured packages, or the
+ * first frame outside the JDK when none matches. The first event of each site is logged with its stack trace.
+ */
+@Log4j2
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties.PinningMonitor properties;
+    private final Map<String, SiteStatistics> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties.PinningMonitor properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * A pinning site with the number of recorded events and their total and maximum duration.
+     */
+    public record PinnedSite(String site, long count, Duration totalDuration, Duration maxDuration) {
+    }
+
+    /**
+     * @return the recorded pinning sites, the longest total pinned duration first
+     */
+    public List<PinnedSite> getReport() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().toPinnedSite(entry.getKey()))
+                .sorted(Comparator.comparing(PinnedSite::totalDuration).reversed())
+                .toList();
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(EVENT_NAME).withThreshold(properties.getThreshold()).withStackTrace();
+        stream.onEvent(EVENT_NAME, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Recording virtual thread pinning longer than {}", properties.getThreshold());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+        getReport().forEach(site -> log.info("Virtual threads pinned at {}: {} times, {} in total, {} at most",
+                site.site(), site.count(), site.totalDuration(), site.maxDuration()));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = stackTrace != null ? findSite(stackTrace.getFrames()) : "unknown";
+        SiteStatistics statistics = sites.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread pinned for {} at {}{}", event.getDuration(), key, format(stackTrace));
+            return new SiteStatistics();
+        });
+        statistics.add(event.getDuration());
+    }
+
+    private String findSite(List<RecordedFrame> frames) {
+        RecordedFrame firstApplicationFrame = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String typeName = frame.getMethod().getType().getName();
+            for (String packageName : properties.getPackages()) {
+                if (typeName.startsWith(packageName)) {
+                    return describe(frame);
+                }
+            }
+            if (firstApplicationFrame == null && !isJdkType(typeName)) {
+                firstApplicationFrame = frame;
+            }
+        }
+        return firstApplicationFrame != null ? describe(firstApplicationFrame) : "unknown";
+    }
+
+    private static boolean isJdkType(String typeName) {
+        return typeName.startsWith("java.") || typeName.startsWith("javax.")
+                || typeName.startsWith("jdk.") || typeName.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            builder.append(System.lineSeparator()).append("\tat ").append(describe(frame));
+        }
+        return builder.toString();
+    }
+
+    private static final class SiteStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private volatile long maxNanos;
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            if (nanos > maxNanos) {
+                synchronized (this) {
+                    maxNanos = Math.max(maxNanos, nanos);
+                }
+            }
+        }
+
+        PinnedSite toPinnedSite(String site) {
+            return new PinnedSite(site, count.sum(), Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(maxNanos));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.olaaref.weather.net;
+
+import java.util.Arrays;
+
+/**
+ * Binary trie of address prefixes of one address family, stored in flat arrays: node {@code n} has its children
+ * at {@code zero[n]} and {@code one[n]}, {@code 0} meaning none since the root is node {@code 0}. A lookup walks at
+ * most one node per address bit and stops at the first prefix that ends on its path.
+ * <p>
+ * Instances are filled once and then only read, so they are safe to share between threads once published.
+ */
+final class CidrTrie {
+
+    private final int addressBits;
+    private int[] zero = new int[16];
+    private int[] one = new int[16];
+    private boolean[] terminal = new boolean[16];
+    private int nodes = 1;
+
+    CidrTrie(int addressBits) {
+        this.addressBits = addressBits;
+    }
+
+    /**
+     * Adds a prefix; addresses use the same layout as {@link #contains}.
+     */
+    void add(long hi, long lo, int prefixLength) {
+        if (prefixLength < 0 || prefixLength > addressBits) {
+            throw new IllegalArgumentException("Invalid prefix length " + prefixLength);
+        }
+        int node = 0;
+        for (int bit = 0; bit < prefixLength && !terminal[node]; bit++) {
+            boolean isZero = bit(hi, lo, bit) == 0;
+            int child = isZero ? zero[node] : one[node];
+            if (child == 0) {
+                // Read the arrays only after newNode, which may have replaced them
+                child = newNode();
+                if (isZero) {
+                    zero[node] = child;
+                } else {
+                    one[node] = child;
+                }
+            }
+            node = child;
+        }
+        terminal[node] = true;
+    }
+
+    /**
+     * @param hi bits 0 to 63 of the address, most significant first; IPv4 addresses use the top 32 bits
+     * @param lo bits 64 to 127 of the address
+     */
+    boolean contains(long hi, long lo) {
+        int node = 0;
+        for (int bit = 0; bit < addressBits; bit++) {
+            if (terminal[node]) {
+                return true;
+            }
+            node = bit(hi, lo, bit) == 0 ? zero[node] : one[node];
+            if (node == 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    private int newNode() {
+        if (nodes == terminal.length) {
+            zero = Arrays.copyOf(zero, nodes * 2);
+            one = Arrays.copyOf(one, nodes * 2);
+            terminal = Arrays.copyOf(terminal, nodes * 2);
+        }
+        return nodes++;
+    }
+
+    private static int bit(long hi, long lo, int bit) {
+        return (int) (bit < 64 ? hi >>> (63 - bit) : lo >>> (127 - bit)) & 1;
+    }
+}
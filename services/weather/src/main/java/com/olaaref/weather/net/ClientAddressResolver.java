@@ -0,0 +1,197 @@
+package com.olaaref.weather.net;
+
+import java.util.Collection;
+
+/**
+ * Finds the address of the client behind a chain of proxies from the {@code Forwarded} (RFC 7239) or
+ * {@code X-Forwarded-For} header.
+ * <p>
+ * Hops are walked from the right, the one closest to us, and skipped while they are trusted proxies; the first
+ * untrusted hop is the client. The headers are only honoured when the peer itself is a trusted proxy, since anyone
+ * else can put anything in them. Hops are located by index and parsed in place into one small scratch array, so
+ * besides that array the only allocation is the returned address.
+ */
+public class ClientAddressResolver {
+
+    private static final String FOR_PARAMETER = "for=";
+
+    private final CidrTrie trustedIpv4 = new CidrTrie(32);
+    private final CidrTrie trustedIpv6 = new CidrTrie(128);
+    private final boolean forwardedHeaderEnabled;
+
+    /**
+     * @param trustedProxies addresses or CIDR blocks of the proxies in front of the service,
+     *                       e.g. {@code 10.0.0.0/8} or {@code fd00::/8}
+     */
+    public ClientAddressResolver(Collection<String> trustedProxies, boolean forwardedHeaderEnabled) {
+        this.forwardedHeaderEnabled = forwardedHeaderEnabled;
+        long[] scratch = new long[IpAddresses.SCRATCH_LENGTH];
+        for (String cidr : trustedProxies) {
+            String block = cidr.trim();
+            int slash = block.indexOf('/');
+            int addressEnd = slash < 0 ? block.length() : slash;
+            int family = IpAddresses.parse(block, 0, addressEnd, scratch);
+            if (family == IpAddresses.INVALID) {
+                throw new IllegalArgumentException("Invalid trusted proxy address: " + cidr);
+            }
+            int maxBits = family == IpAddresses.IPV4 ? 32 : 128;
+            int prefixLength = maxBits;
+            if (slash >= 0) {
+                try {
+                    prefixLength = Integer.parseInt(block, slash + 1, block.length(), 10);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid trusted proxy prefix length: " + cidr, e);
+                }
+                if (prefixLength < 0 || prefixLength > maxBits) {
+                    throw new IllegalArgumentException("Invalid trusted proxy prefix length: " + cidr);
+                }
+            }
+            if (family == IpAddresses.IPV4) {
+                trustedIpv4.add(scratch[1] << 32, 0, prefixLength);
+            } else {
+                trustedIpv6.add(scratch[0], scratch[1], prefixLength);
+            }
+        }
+    }
+
+    /**
+     * @param remoteAddr    address of the peer that connected to us
+     * @param forwarded     value of the {@code Forwarded} header, may be {@code null}
+     * @param xForwardedFor value of the {@code X-Forwarded-For} header, may be {@code null}
+     * @return the client address, {@code remoteAddr} when no trustworthy hop information is available
+     */
+    public String resolve(String remoteAddr, String forwarded, String xForwardedFor) {
+        long[] scratch = new long[IpAddresses.SCRATCH_LENGTH];
+        if (remoteAddr == null || !isTrusted(remoteAddr, 0, remoteAddr.length(), scratch)) {
+            return remoteAddr;
+        }
+        boolean rfc7239 = forwardedHeaderEnabled && forwarded != null && !forwarded.isBlank();
+        String header = rfc7239 ? forwarded : xForwardedFor;
+        if (header == null) {
+            return remoteAddr;
+        }
+
+        // Bounds of the last hop that was a trusted proxy, the answer when every hop is trusted
+        int trustedStart = -1;
+        int trustedEnd = -1;
+        int end = header.length();
+        while (end >= 0) {
+            int comma = header.lastIndexOf(',', end - 1);
+            long bounds = rfc7239
+                    ? forwardedForBounds(header, comma + 1, end)
+                    : addressBounds(header, comma + 1, end);
+            int start = (int) (bounds >>> 32);
+            int stop = (int) bounds;
+            int family = bounds < 0 ? IpAddresses.INVALID : IpAddresses.parse(header, start, stop, scratch);
+            if (family == IpAddresses.INVALID) {
+                // An unknown or obfuscated hop hides everything before it
+                break;
+            }
+            if (!isTrusted(family, scratch)) {
+                return header.substring(start, stop);
+            }
+            trustedStart = start;
+            trustedEnd = stop;
+            if (comma < 0) {
+                break;
+            }
+            end = comma;
+        }
+        return trustedStart < 0 ? remoteAddr : header.substring(trustedStart, trustedEnd);
+    }
+
+    public boolean isTrusted(String address) {
+        return address != null && isTrusted(address, 0, address.length(),
+                new long[IpAddresses.SCRATCH_LENGTH]);
+    }
+
+    private boolean isTrusted(CharSequence s, int start, int end, long[] scratch) {
+        long bounds = addressBounds(s, start, end);
+        if (bounds < 0) {
+            return false;
+        }
+        int family = IpAddresses.parse(s, (int) (bounds >>> 32), (int) bounds, scratch);
+        return family != IpAddresses.INVALID && isTrusted(family, scratch);
+    }
+
+    /**
+     * Expects an address just parsed by {@link IpAddresses#parse} and the family it returned; the value alone does
+     * not tell the families apart, e.g. {@code ::1} and {@code 0.0.0.1}.
+     */
+    private boolean isTrusted(int family, long[] address) {
+        return family == IpAddresses.IPV4
+                ? trustedIpv4.contains(address[1] << 32, 0)
+                : trustedIpv6.contains(address[0], address[1]);
+    }
+
+    /**
+     * Finds the value of the {@code for} parameter in one element of a {@code Forwarded} header,
+     * e.g. {@code for="[2001:db8::17]:4711";proto=https}.
+     */
+    private static long forwardedForBounds(String header, int start, int end) {
+        int pair = start;
+        while (pair < end) {
+            int pairEnd = header.indexOf(';', pair);
+            if (pairEnd < 0 || pairEnd > end) {
+                pairEnd = end;
+            }
+            while (pair < pairEnd && isWhitespace(header.charAt(pair))) {
+                pair++;
+            }
+            if (header.regionMatches(true, pair, FOR_PARAMETER, 0, FOR_PARAMETER.length())) {
+                return addressBounds(header, pair + FOR_PARAMETER.length(), pairEnd);
+            }
+            pair = pairEnd + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Strips surrounding whitespace, quotes, IPv6 brackets and a port from a node name.
+     *
+     * @return the start index in the high and the end index in the low 32 bits, or {@code -1} when nothing is left
+     */
+    private static long addressBounds(CharSequence s, int start, int end) {
+        while (start < end && isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start >= 2 && s.charAt(start) == '"' && s.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        if (start < end && s.charAt(start) == '[') {
+            int close = start + 1;
+            while (close < end && s.charAt(close) != ']') {
+                close++;
+            }
+            if (close == end) {
+                return -1;
+            }
+            start++;
+            end = close;
+        } else {
+            // A single colon can only separate an IPv4 address from its port
+            int colon = -1;
+            for (int i = start; i < end; i++) {
+                if (s.charAt(i) == ':') {
+                    if (colon >= 0) {
+                        colon = -1;
+                        break;
+                    }
+                    colon = i;
+                }
+            }
+            if (colon >= 0) {
+                end = colon;
+            }
+        }
+        return start < end ? (long) start << 32 | end : -1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
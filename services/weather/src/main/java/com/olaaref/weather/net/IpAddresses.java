@@ -0,0 +1,189 @@
+package com.olaaref.weather.net;
+
+/**
+ * Parses IP address literals from a region of a string into 128-bit values held in two {@code long}s, without
+ * allocating and without ever resolving a host name.
+ * <p>
+ * IPv4 addresses are returned in the low 32 bits of the low word; IPv4-mapped IPv6 addresses
+ * ({@code ::ffff:a.b.c.d}) are reported as IPv4.
+ */
+public final class IpAddresses {
+
+    public static final int INVALID = 0;
+    public static final int IPV4 = 4;
+    public static final int IPV6 = 6;
+
+    /**
+     * Size of the scratch array expected by {@link #parse}; words 0 and 1 receive the address.
+     */
+    public static final int SCRATCH_LENGTH = 4;
+
+    private IpAddresses() {
+    }
+
+    /**
+     * @param scratch array of {@link #SCRATCH_LENGTH} longs; on success {@code scratch[0]} holds the high and
+     *                {@code scratch[1]} the low 64 bits of the address
+     * @return {@link #IPV4}, {@link #IPV6} or {@link #INVALID}
+     */
+    public static int parse(CharSequence s, int start, int end, long[] scratch) {
+        if (start >= end) {
+            return INVALID;
+        }
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == ':') {
+                if (!parseIpv6(s, start, end, scratch)) {
+                    return INVALID;
+                }
+                if (scratch[0] == 0 && scratch[1] >>> 32 == 0xffffL) {
+                    scratch[1] &= 0xffffffffL;
+                    return IPV4;
+                }
+                return IPV6;
+            }
+        }
+        long ipv4 = parseIpv4(s, start, end);
+        if (ipv4 < 0) {
+            return INVALID;
+        }
+        scratch[0] = 0;
+        scratch[1] = ipv4;
+        return IPV4;
+    }
+
+    /**
+     * @return the address as an unsigned 32-bit value, or {@code -1} if the region is not a dotted-quad literal
+     */
+    static long parseIpv4(CharSequence s, int start, int end) {
+        long value = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                value = value << 8 | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (digits == 0 || dots != 3) {
+            return -1;
+        }
+        return value << 8 | octet;
+    }
+
+    private static boolean parseIpv6(CharSequence s, int start, int end, long[] scratch) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == '%') {
+                end = i;
+                break;
+            }
+        }
+        // Groups before "::" accumulate in scratch[0..1], groups after it in scratch[2..3]
+        scratch[0] = scratch[1] = scratch[2] = scratch[3] = 0;
+        int headGroups = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+
+        int i = start;
+        if (end - start >= 2 && s.charAt(start) == ':' && s.charAt(start + 1) == ':') {
+            compressed = true;
+            i += 2;
+        } else if (s.charAt(start) == ':') {
+            return false;
+        }
+
+        while (i < end) {
+            int groupEnd = i;
+            while (groupEnd < end && s.charAt(groupEnd) != ':' && s.charAt(groupEnd) != '.') {
+                groupEnd++;
+            }
+            if (groupEnd < end && s.charAt(groupEnd) == '.') {
+                long ipv4 = parseIpv4(s, i, end);
+                if (ipv4 < 0) {
+                    return false;
+                }
+                push(scratch, compressed, (int) (ipv4 >>> 16));
+                push(scratch, compressed, (int) (ipv4 & 0xffff));
+                if (compressed) {
+                    tailGroups += 2;
+                } else {
+                    headGroups += 2;
+                }
+                break;
+            }
+
+            int digits = groupEnd - i;
+            if (digits == 0 || digits > 4) {
+                return false;
+            }
+            int value = 0;
+            for (int j = i; j < groupEnd; j++) {
+                int digit = Character.digit(s.charAt(j), 16);
+                if (digit < 0) {
+                    return false;
+                }
+                value = value << 4 | digit;
+            }
+            push(scratch, compressed, value);
+            if (compressed) {
+                tailGroups++;
+            } else {
+                headGroups++;
+            }
+
+            if (groupEnd == end) {
+                break;
+            }
+            if (groupEnd + 1 < end && s.charAt(groupEnd + 1) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                i = groupEnd + 2;
+            } else {
+                i = groupEnd + 1;
+                if (i == end) {
+                    return false;
+                }
+            }
+        }
+
+        int groups = headGroups + tailGroups;
+        if (compressed ? groups > 7 : groups != 8) {
+            return false;
+        }
+        // Move the head groups to the top of the address, the tail groups stay at the bottom
+        int shift = 16 * (8 - headGroups);
+        long hi = scratch[0];
+        long lo = scratch[1];
+        if (shift >= 128) {
+            hi = 0;
+            lo = 0;
+        } else if (shift >= 64) {
+            hi = lo << (shift - 64);
+            lo = 0;
+        } else if (shift > 0) {
+            hi = hi << shift | lo >>> (64 - shift);
+            lo = lo << shift;
+        }
+        scratch[0] = hi | scratch[2];
+        scratch[1] = lo | scratch[3];
+        return true;
+    }
+
+    private static void push(long[] scratch, boolean tail, int group) {
+        int offset = tail ? 2 : 0;
+        scratch[offset] = scratch[offset] << 16 | scratch[offset + 1] >>> 48;
+        scratch[offset + 1] = scratch[offset + 1] << 16 | group;
+    }
+}
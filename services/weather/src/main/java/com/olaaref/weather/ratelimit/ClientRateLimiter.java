@@ -0,0 +1,132 @@
+package com.olaaref.weather.ratelimit;
+
+import com.olaaref.weather.config.RateLimitProperties;
+import com.olaaref.weather.net.IpAddresses;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Per-client rate limits of the API, one {@link GcraRateLimiter} per configured rule.
+ * <p>
+ * Clients are keyed by their IP address truncated to the configured prefix length, so that a client cannot dodge
+ * its limit by rotating through the addresses of its own IPv6 prefix. Rules whose path is a literal, or a literal
+ * followed by {@code /**}, are matched by comparing strings; only other patterns need the request path parsed.
+ */
+@Log4j2
+public class ClientRateLimiter {
+
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    public record Route(String name, PathPattern pattern, GcraRateLimiter limiter) {
+    }
+
+    /**
+     * Rate limit key of an IP address masked to the prefix length of its family.
+     */
+    public record ClientKey(int family, long high, long low) {
+    }
+
+    /**
+     * @param literal path the rule matches, or under which it matches everything when {@code subtree} is set;
+     *                {@code null} when the pattern has wildcards or variables elsewhere
+     */
+    private record Rule(Route route, String literal, boolean subtree) {
+
+        private static Rule of(Route route, String path) {
+            boolean subtree = path.endsWith(SUBTREE_SUFFIX);
+            String literal = subtree ? path.substring(0, path.length() - SUBTREE_SUFFIX.length()) : path;
+            for (int i = 0; i < literal.length(); i++) {
+                char c = literal.charAt(i);
+                if (c == '*' || c == '?' || c == '{') {
+                    return new Rule(route, null, false);
+                }
+            }
+            return new Rule(route, literal, subtree);
+        }
+
+        private boolean matchesLiteral(String path) {
+            if (!path.startsWith(literal)) {
+                return false;
+            }
+            return path.length() == literal.length() || subtree && path.charAt(literal.length()) == '/';
+        }
+    }
+
+    private final List<Rule> rules;
+    private final long ipv4Mask;
+    private final long ipv6HighMask;
+    private final long ipv6LowMask;
+
+    public ClientRateLimiter(RateLimitProperties properties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = properties.getRules().stream()
+                .map(rule -> Rule.of(new Route(rule.getName(), parser.parse(rule.getPath()),
+                        new GcraRateLimiter(rule.getRequestsPerSecond(), rule.getBurst())), rule.getPath()))
+                .toList();
+        this.ipv4Mask = mask(properties.getIpv4PrefixLength()) >>> 32;
+        this.ipv6HighMask = mask(Math.min(properties.getIpv6PrefixLength(), 64));
+        this.ipv6LowMask = mask(Math.max(properties.getIpv6PrefixLength() - 64, 0));
+    }
+
+    /**
+     * @return the first route whose pattern matches the path within the application, or {@code null}
+     */
+    public Route match(String path) {
+        PathContainer pathContainer = null;
+        for (Rule rule : rules) {
+            if (rule.literal() != null) {
+                if (rule.matchesLiteral(path)) {
+                    return rule.route();
+                }
+                continue;
+            }
+            if (pathContainer == null) {
+                pathContainer = PathContainer.parsePath(path);
+            }
+            if (rule.route().pattern().matches(pathContainer)) {
+                return rule.route();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps an IP address to its rate limit key: a {@link ClientKey} of the address masked to the configured prefix
+     * length. Anything that is not an IP literal is used as is, and is never resolved through DNS.
+     */
+    public Object clientKey(String ipAddress) {
+        long[] address = new long[IpAddresses.SCRATCH_LENGTH];
+        int family = IpAddresses.parse(ipAddress, 0, ipAddress.length(), address);
+        if (family == IpAddresses.INVALID) {
+            return ipAddress;
+        }
+        if (family == IpAddresses.IPV4) {
+            return new ClientKey(family, 0, address[1] & ipv4Mask);
+        }
+        return new ClientKey(family, address[0] & ipv6HighMask, address[1] & ipv6LowMask);
+    }
+
+    @Scheduled(fixedDelayString = "${weather.rate-limit.sweep-interval:60s}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        for (Rule rule : rules) {
+            Route route = rule.route();
+            int removed = route.limiter().sweep(now);
+            if (removed > 0) {
+                log.debug("Swept {} idle rate limit buckets of {}, {} remaining", removed, route.name(), route.limiter().size());
+            }
+        }
+    }
+
+    /**
+     * @return a 64-bit word with its {@code prefixLength} leading bits set
+     */
+    private static long mask(int prefixLength) {
+        return prefixLength == 0 ? 0 : -1L << (64 - prefixLength);
+    }
+}
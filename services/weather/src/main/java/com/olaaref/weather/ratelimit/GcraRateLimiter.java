@@ -0,0 +1,73 @@
+package com.olaaref.weather.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket limiter implemented as the generic cell rate algorithm (GCRA).
+ * <p>
+ * Each key needs a single {@code long}, its theoretical arrival time: the instant at which its bucket would be full
+ * again. A request is admitted by advancing that instant by one emission interval with a compare-and-set, so there
+ * are no locks and no refill bookkeeping; the {@link ConcurrentHashMap} holding the keys is striped internally.
+ * Buckets that are full again carry no information and are removed by {@link #sweep(long)}. Keys are compared with
+ * {@link Object#equals}, so any value type can identify a client.
+ */
+public class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentMap<Object, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerSecond sustained rate allowed for each key
+     * @param burst            number of requests a key may send at once after being idle
+     */
+    public GcraRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+    }
+
+    /**
+     * Tries to admit one request of the given key.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return {@code 0} if the request is admitted, otherwise the nanoseconds to wait before the next one would be
+     */
+    public long acquire(Object key, long nowNanos) {
+        AtomicLong arrival = arrivals.get(key);
+        if (arrival == null) {
+            arrival = arrivals.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long theoreticalArrival = arrival.get();
+            long next = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos;
+            long excess = next - nowNanos - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (arrival.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Removes the keys whose bucket is full again. A key updated concurrently with its removal starts over with a
+     * full bucket, which errs on the side of admitting.
+     *
+     * @return the number of keys removed
+     */
+    public int sweep(long nowNanos) {
+        int before = arrivals.size();
+        arrivals.values().removeIf(arrival -> arrival.get() - nowNanos <= 0);
+        return before - arrivals.size();
+    }
+
+    public int size() {
+        return arrivals.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.olaaref.weather.repository;
+
+import com.olaaref.weather.commonlib.model.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.seq > :since ORDER BY c.seq")
+    List<ChangeLogEntry> findChangesSince(long since, Limit limit);
+
+    @Query(value = "SELECT LOCALTIMESTAMP(6)", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+}
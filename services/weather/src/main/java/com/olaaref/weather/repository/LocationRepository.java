@@ -1,9 +1,13 @@
 package com.olaaref.weather.repository;
 
 import com.olaaref.weather.commonlib.model.Location;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,8 +17,22 @@ import java.util.Optional;
 public interface LocationRepository extends JpaRepository<Location, String> {
     @Query("SELECT l FROM Location l WHERE l.trashed = false")
     List<Location> findUntrashed();
+    /**
+     * Keyset page of the untrashed locations, in code order, with codes after the given one.
+     */
+    @Query("SELECT l FROM Location l WHERE l.trashed = false AND l.code > :after ORDER BY l.code")
+    List<Location> findUntrashedAfter(String after, Limit limit);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Location> findByCodeAndTrashed(String code, boolean trashed);
-    @Modifying
+    @Query("SELECT l FROM Location l WHERE l.trashed = false " +
+            "AND l.latitude BETWEEN :minLatitude AND :maxLatitude AND l.longitude BETWEEN :minLongitude AND :maxLongitude")
+    List<Location> findUntrashedWithin(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude, Limit limit);
+    /**
+     * Bulk update that bypasses the persistence context: Hibernate evicts the {@code location} cache region and
+     * invalidates the cached queries over {@code LOCATIONS} on execution, and the persistence context is cleared so a
+     * later read in the same transaction does not see the untrashed instance.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Location l SET l.trashed = true WHERE l.code = :code")
     void trashLocation(String code);
 }
@@ -2,10 +2,13 @@ package com.olaaref.weather.repository;
 
 import com.olaaref.weather.commonlib.model.RealtimeWeather;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RealtimeWeatherRepository extends JpaRepository<RealtimeWeather, String> {
+    // An inner join, unlike the outer join of the derived query, lets the lookup start from IDX_LOCATIONS_COUNTRY_CITY
+    @Query("SELECT rw FROM RealtimeWeather rw JOIN rw.location l WHERE l.cityName = :cityName AND l.countryCode = :countryCode")
     RealtimeWeather findByLocationCityNameAndLocationCountryCode(String cityName, String countryCode);
     RealtimeWeather findByLocationCodeAndLocationTrashedFalse(String locationCode);
 }
@@ -0,0 +1,119 @@
+package com.olaaref.weather.service;
+
+import com.olaaref.weather.commonlib.dto.ChangesDto;
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
+import com.olaaref.weather.commonlib.model.ChangeLogEntry;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
+import com.olaaref.weather.config.ChangeFeedProperties;
+import com.olaaref.weather.repository.ChangeLogRepository;
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records writes to locations and realtime weather in the change log and serves the change feed.
+ */
+@Service
+public class ChangeLogService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final LocationRepository locationRepository;
+    private final RealtimeWeatherRepository realtimeWeatherRepository;
+    private final ChangeFeedProperties changeFeedProperties;
+
+    @Autowired
+    public ChangeLogService(ChangeLogRepository changeLogRepository, LocationRepository locationRepository,
+                            RealtimeWeatherRepository realtimeWeatherRepository, ChangeFeedProperties changeFeedProperties) {
+        this.changeLogRepository = changeLogRepository;
+        this.locationRepository = locationRepository;
+        this.realtimeWeatherRepository = realtimeWeatherRepository;
+        this.changeFeedProperties = changeFeedProperties;
+    }
+
+    /**
+     * Appends a change to the log, in the transaction of the write it records.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, String entityCode, ChangeOperation operation) {
+        changeLogRepository.save(new ChangeLogEntry(entityType, entityCode, operation));
+    }
+
+    /**
+     * Returns the current state of the rows changed after {@code since}, reading at most {@code limit} change log
+     * entries. A row changed several times in the page is returned once. The page ends before the first sequence gap
+     * that may still be filled, so {@code next} never moves past a write that has not committed yet.
+     */
+    @Transactional(readOnly = true)
+    public ChangesDto getChanges(long since, int limit) {
+        List<ChangeLogEntry> entries = findContiguousChanges(since, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        long next = entries.isEmpty() ? since : entries.getLast().getSeq();
+
+        Set<String> locationCodes = new LinkedHashSet<>();
+        Set<String> weatherCodes = new LinkedHashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            if (entry.getEntityType() == ChangeEntityType.LOCATION) {
+                locationCodes.add(entry.getEntityCode());
+            } else {
+                weatherCodes.add(entry.getEntityCode());
+            }
+        }
+
+        List<LocationDto> locations = new ArrayList<>();
+        Set<String> trashedLocations = new LinkedHashSet<>(locationCodes);
+        for (Location location : locationRepository.findAllById(locationCodes)) {
+            if (!location.isTrashed()) {
+                locations.add(location.toLocationDto());
+                trashedLocations.remove(location.getCode());
+            }
+        }
+
+        List<RealtimeWeatherDto> realtimeWeather = realtimeWeatherRepository.findAllById(weatherCodes).stream()
+                .map(RealtimeWeather::toRealtimeWeatherDto)
+                .toList();
+
+        return new ChangesDto(since, next, hasMore, locations, realtimeWeather, List.copyOf(trashedLocations));
+    }
+
+    /**
+     * Reads at most {@code limit} entries after {@code since}, up to the first missing sequence whose following
+     * entry is younger than the gap timeout by the database clock. Such a gap may be a write still in progress;
+     * an older one is taken for a write that rolled back. Entries are stamped when inserted rather than when they
+     * commit, so a write transaction lasting longer than the gap timeout is skipped as well.
+     */
+    private List<ChangeLogEntry> findContiguousChanges(long since, int limit) {
+        List<ChangeLogEntry> entries = changeLogRepository.findChangesSince(since, Limit.of(limit));
+        LocalDateTime settledBefore = null;
+        long expected = since + 1;
+        for (int i = 0; i < entries.size(); i++) {
+            ChangeLogEntry entry = entries.get(i);
+            if (entry.getSeq() != expected) {
+                if (settledBefore == null) {
+                    settledBefore = changeLogRepository.currentTimestamp().minus(changeFeedProperties.getGapTimeout());
+                }
+                if (!entry.getChangedAt().isBefore(settledBefore)) {
+                    return entries.subList(0, i);
+                }
+            }
+            expected = entry.getSeq() + 1;
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,60 @@
+package com.olaaref.weather.service;
+
+import com.olaaref.weather.cache.SingleFlight;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.config.SingleFlightProperties;
+import com.olaaref.weather.datasource.ReadWriteRoutingDataSource;
+import com.olaaref.weather.exception.GeolocationException;
+import com.olaaref.weather.exception.LocationNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sits in front of {@link RealtimeWeatherService} and {@link GeolocationService} so that concurrent requests for
+ * the same location code or IP address share one query to MySQL or the IP2Location file.
+ * <p>
+ * Deliberately not transactional: waiting callers must not hold a connection, and the shared values are DTOs or
+ * detached objects built by the loading request, never entities attached to its persistence context.
+ * <p>
+ * Weather lookups of a caller pinned to the primary by {@link ReadWriteRoutingDataSource#pinToPrimary()} are not
+ * coalesced, since the load in flight may be reading the replica and miss the caller's own recent write.
+ */
+@Service
+public class CoalescingLookupService implements MeterBinder {
+
+    private final RealtimeWeatherService realtimeWeatherService;
+    private final GeolocationService geolocationService;
+    private final SingleFlight<String, RealtimeWeatherDto> weatherByLocationCode;
+    private final SingleFlight<String, Location> locationByIpAddress;
+
+    @Autowired
+    public CoalescingLookupService(RealtimeWeatherService realtimeWeatherService, GeolocationService geolocationService,
+                                   SingleFlightProperties properties) {
+        this.realtimeWeatherService = realtimeWeatherService;
+        this.geolocationService = geolocationService;
+        this.weatherByLocationCode = new SingleFlight<>("weather-by-location-code", properties.getTimeout());
+        this.locationByIpAddress = new SingleFlight<>("location-by-ip-address", properties.getTimeout());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        weatherByLocationCode.bindTo(registry);
+        locationByIpAddress.bindTo(registry);
+    }
+
+    public RealtimeWeatherDto getWeatherByLocationCode(String locationCode) throws LocationNotFoundException {
+        if (ReadWriteRoutingDataSource.isPinnedToPrimary()) {
+            return realtimeWeatherService.getWeatherByLocationCode(locationCode).toRealtimeWeatherDto();
+        }
+        return weatherByLocationCode.execute(locationCode, LocationNotFoundException.class,
+                () -> realtimeWeatherService.getWeatherByLocationCode(locationCode).toRealtimeWeatherDto());
+    }
+
+    public Location getLocation(String ipAddress) throws GeolocationException {
+        return locationByIpAddress.execute(ipAddress, GeolocationException.class,
+                () -> geolocationService.getLocation(ipAddress));
+    }
+}
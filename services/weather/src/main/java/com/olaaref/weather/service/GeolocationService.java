@@ -2,21 +2,35 @@ package com.olaaref.weather.service;
 
 import com.ip2location.IP2Location;
 import com.ip2location.IPResult;
+import com.olaaref.weather.cache.NegativeLookupCache;
 import com.olaaref.weather.commonlib.enums.Ip2LocationStatus;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.exception.GeolocationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.Set;
 
 @Slf4j
 @Service
 public class GeolocationService {
     private static final String DB_PATH = "src/main/resources/ip2location/IP2LOCATION-LITE-DB11.BIN";
+    /**
+     * Statuses that depend only on the address, so the lookup fails the same way until the database is replaced.
+     * Others, such as {@code MISSING_FILE}, are failures of the lookup itself and are not cached.
+     */
+    private static final Set<String> UNRESOLVABLE_STATUSES = Set.of(
+            Ip2LocationStatus.EMPTY_IP_ADDRESS.getStatus(),
+            Ip2LocationStatus.INVALID_IP_ADDRESS.getStatus(),
+            Ip2LocationStatus.IPV6_NOT_SUPPORTED.getStatus());
     private IP2Location ip2Location = new IP2Location();
+    private final NegativeLookupCache negativeLookupCache;
 
-    public  GeolocationService() {
+    @Autowired
+    public  GeolocationService(NegativeLookupCache negativeLookupCache) {
+        this.negativeLookupCache = negativeLookupCache;
         try {
             ip2Location.Open(DB_PATH);
         } catch (Exception e) {
@@ -25,10 +39,16 @@ public class GeolocationService {
     }
 
     public Location getLocation(String ip) throws GeolocationException {
+        if (negativeLookupCache.isUnresolvableIpAddress(ip)) {
+            throw new GeolocationException("IP address previously unresolvable: " + ip);
+        }
         try {
             IPResult result = ip2Location.IPQuery(ip);
             if (!result.getStatus().equals(Ip2LocationStatus.OK.getStatus())) {
                 log.error("Error getting IP2Location: {}", result.getStatus());
+                if (UNRESOLVABLE_STATUSES.contains(result.getStatus())) {
+                    negativeLookupCache.markUnresolvableIpAddress(ip);
+                }
                 throw new GeolocationException("Error getting IP2Location: " + result.getStatus());
             }
 
@@ -49,4 +69,16 @@ public class GeolocationService {
         }
     }
 
+    /**
+     * Looks an address up only to bring the index and record pages it touches into memory; the result and failures
+     * are ignored and nothing is cached.
+     */
+    public void warmUp(String ip) {
+        try {
+            ip2Location.IPQuery(ip);
+        } catch (IOException e) {
+            log.debug("Error warming up IP2Location with {}: {}", ip, e.getMessage());
+        }
+    }
+
 }
@@ -1,12 +1,16 @@
 package com.olaaref.weather.service;
 
 import com.olaaref.weather.aop.logger.advice.around.LogAround;
+import com.olaaref.weather.cache.NegativeLookupCache;
 import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.exception.LocationNotFoundException;
 import com.olaaref.weather.repository.LocationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,38 +20,61 @@ import java.util.Optional;
 public class LocationService {
 
     private final LocationRepository locationRepository;
+    private final ChangeLogService changeLogService;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Autowired
-    public LocationService(LocationRepository locationRepository) {
+    public LocationService(LocationRepository locationRepository, ChangeLogService changeLogService,
+                           NegativeLookupCache negativeLookupCache) {
         this.locationRepository = locationRepository;
+        this.changeLogService = changeLogService;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
+    @Transactional
     public Location saveLocation(LocationDto locationDto) {
         Location location = locationDto.toLocationEntity();
-        return locationRepository.save(location);
+        Location savedLocation = locationRepository.save(location);
+        changeLogService.record(ChangeEntityType.LOCATION, savedLocation.getCode(), ChangeOperation.UPSERT);
+        negativeLookupCache.forgetCode(savedLocation.getCode());
+        return savedLocation;
     }
 
+    @Transactional(readOnly = true)
     public List<Location> getAllLocations() {
         return locationRepository.findUntrashed();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Location> getLocationByCode(String code) {
-        return locationRepository.findByCodeAndTrashed(code, false);
+        if (negativeLookupCache.isUnknownLocationCode(code)) {
+            return Optional.empty();
+        }
+        Optional<Location> location = locationRepository.findByCodeAndTrashed(code, false);
+        if (location.isEmpty()) {
+            negativeLookupCache.markUnknownLocationCode(code);
+        }
+        return location;
     }
 
+    @Transactional(rollbackFor = LocationNotFoundException.class)
     public Location updateLocation(LocationDto locationDto) throws LocationNotFoundException {
         Optional<Location> location = getLocationByCode(locationDto.code());
         if(location.isEmpty()) {
-            throw new LocationNotFoundException("Location with code " + locationDto.code() + " not found");
+            throw LocationNotFoundException.ofLocationCode(locationDto.code());
         }
-        return locationRepository.save(locationDto.toLocationEntity());
+        Location updatedLocation = locationRepository.save(locationDto.toLocationEntity());
+        changeLogService.record(ChangeEntityType.LOCATION, updatedLocation.getCode(), ChangeOperation.UPSERT);
+        return updatedLocation;
     }
 
+    @Transactional(rollbackFor = LocationNotFoundException.class)
     public void trashLocation(String code) throws LocationNotFoundException {
         Optional<Location> location = getLocationByCode(code);
         if(location.isEmpty()) {
-            throw new LocationNotFoundException("Location with code " + code + " not found");
+            throw LocationNotFoundException.ofLocationCode(code);
         }
         locationRepository.trashLocation(code);
+        changeLogService.record(ChangeEntityType.LOCATION, code, ChangeOperation.TRASH);
     }
 }
@@ -1,12 +1,18 @@
 package com.olaaref.weather.service;
 
+import com.olaaref.weather.cache.NegativeLookupCache;
 import com.olaaref.weather.commonlib.dto.request.RealtimeWeatherRequestDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.commonlib.model.RealtimeWeather;
 import com.olaaref.weather.exception.LocationNotFoundException;
 import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import com.olaaref.weather.stream.RealtimeWeatherUpdatedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -14,46 +20,58 @@ import java.time.LocalDateTime;
 public class RealtimeWeatherService {
 
     private final RealtimeWeatherRepository realtimeWeatherRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogService changeLogService;
+    private final NegativeLookupCache negativeLookupCache;
 
     @Autowired
-    public RealtimeWeatherService(RealtimeWeatherRepository realtimeWeatherRepository) {
+    public RealtimeWeatherService(RealtimeWeatherRepository realtimeWeatherRepository, ApplicationEventPublisher eventPublisher,
+                                  ChangeLogService changeLogService, NegativeLookupCache negativeLookupCache) {
         this.realtimeWeatherRepository = realtimeWeatherRepository;
+        this.eventPublisher = eventPublisher;
+        this.changeLogService = changeLogService;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
+    @Transactional(readOnly = true)
     public RealtimeWeather getWeatherByLocation(Location location) throws LocationNotFoundException {
         String cityName = location.getCityName();
         String countryCode = location.getCountryCode();
 
         RealtimeWeather weather = realtimeWeatherRepository.findByLocationCityNameAndLocationCountryCode(cityName, countryCode);
         if (weather == null) {
-            throw new LocationNotFoundException("Weather data not found for location: " + cityName + ", " + countryCode);
+            throw LocationNotFoundException.ofWeatherByCity(cityName, countryCode);
         }
         return weather;
     }
 
+    @Transactional(readOnly = true)
     public RealtimeWeather getWeatherByLocationCode(String locationCode) throws LocationNotFoundException {
+        if (negativeLookupCache.hasNoWeather(locationCode)) {
+            throw LocationNotFoundException.ofWeatherByLocationCode(locationCode);
+        }
         RealtimeWeather weather = realtimeWeatherRepository.findByLocationCodeAndLocationTrashedFalse(locationCode);
         if (weather == null) {
-            throw new LocationNotFoundException("Weather data not found for location code: " + locationCode);
+            negativeLookupCache.markNoWeather(locationCode);
+            throw LocationNotFoundException.ofWeatherByLocationCode(locationCode);
         }
         return weather;
     }
     
+    @Transactional(rollbackFor = LocationNotFoundException.class)
     public RealtimeWeather updateWeatherByLocationCode(String locationCode, RealtimeWeatherRequestDto weatherDto) throws LocationNotFoundException {
         RealtimeWeather weather = realtimeWeatherRepository.findByLocationCodeAndLocationTrashedFalse(locationCode);
         if (weather == null) {
-            throw new LocationNotFoundException("Weather data not found for location code: " + locationCode);
+            throw LocationNotFoundException.ofWeatherByLocationCode(locationCode);
         }
         
         // Update the weather properties
-        weather.setTemperature(weatherDto.getTemperature());
-        weather.setHumidity(weatherDto.getHumidity());
-        weather.setPrecipitation(weatherDto.getPrecipitation());
-        weather.setWindSpeed(weatherDto.getWindSpeed());
-        weather.setStatus(weatherDto.getStatus());
-        weather.setLastUpdated(LocalDateTime.now());
+        weatherDto.applyTo(weather, LocalDateTime.now());
         
-        // Save and return the updated weather
-        return realtimeWeatherRepository.save(weather);
+        // Save, notify the realtime weather streams and return the updated weather
+        RealtimeWeather updatedWeather = realtimeWeatherRepository.save(weather);
+        changeLogService.record(ChangeEntityType.REALTIME_WEATHER, locationCode, ChangeOperation.UPSERT);
+        eventPublisher.publishEvent(new RealtimeWeatherUpdatedEvent(updatedWeather.toRealtimeWeatherDto()));
+        return updatedWeather;
     }
 }
@@ -0,0 +1,224 @@
+package com.olaaref.weather.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.config.WeatherStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans realtime weather updates out to server-sent events subscribers.
+ * <p>
+ * Each update is serialized once into an event shared by every subscriber of its location code. Every subscriber
+ * has a bounded queue drained by a virtual thread, so a slow connection only delays itself; a subscriber whose queue
+ * overflows is disconnected. Subscribers are indexed by location code, so an update only visits its own subscribers.
+ * <p>
+ * Updates are fanned out only once the transaction that wrote them has committed, so a rolled back update never
+ * reaches a client and the fan-out does not run while the write transaction is open.
+ */
+@Log4j2
+@Component
+public class RealtimeWeatherBroadcaster implements DisposableBean {
+
+    static final String EVENT_NAME = "realtime-weather";
+
+    private final ObjectMapper objectMapper;
+    private final WeatherStreamProperties properties;
+    private final Map<String, Set<Subscriber>> subscribersByCode = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventId = new AtomicLong();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter evictions;
+
+    public RealtimeWeatherBroadcaster(ObjectMapper objectMapper, WeatherStreamProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        Gauge.builder("weather.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open realtime weather event streams")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("weather.stream.evictions")
+                .description("Realtime weather event streams closed because the client could not keep up")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription to the given location codes.
+     *
+     * @return the emitter to return from the handler, or {@code null} when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(Collection<String> codes) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(codes), properties.getQueueCapacity());
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        for (String code : subscriber.codes) {
+            // Added inside compute, as unsubscribe removes a set once it is empty: a set looked up outside it could
+            // already be detached from the index
+            subscribersByCode.compute(code, (key, codeSubscribers) -> {
+                Set<Subscriber> set = codeSubscribers != null ? codeSubscribers : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRealtimeWeatherUpdated(RealtimeWeatherUpdatedEvent event) {
+        RealtimeWeatherDto realtimeWeather = event.realtimeWeather();
+        Set<Subscriber> codeSubscribers = subscribersByCode.get(realtimeWeather.getLocation());
+        if (codeSubscribers == null || codeSubscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent;
+        try {
+            sseEvent = SseEmitter.event()
+                    .id(Long.toString(eventId.incrementAndGet()))
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(realtimeWeather), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing realtime weather of {}: {}", realtimeWeather.getLocation(), e.getMessage());
+            return;
+        }
+
+        for (Subscriber subscriber : codeSubscribers) {
+            offer(subscriber, sseEvent);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${weather.stream.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, heartbeat);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> sseEvent) {
+        if (!subscriber.offer(sseEvent)) {
+            evictions.increment();
+            log.debug("Disconnecting slow realtime weather subscriber of {}", subscriber.codes);
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.startDraining()) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent;
+        while ((sseEvent = subscriber.poll()) != null) {
+            try {
+                subscriber.emitter.send(sseEvent);
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        for (String code : subscriber.codes) {
+            subscribersByCode.computeIfPresent(code, (key, codeSubscribers) -> {
+                codeSubscribers.remove(subscriber);
+                return codeSubscribers.isEmpty() ? null : codeSubscribers;
+            });
+        }
+    }
+
+    /**
+     * A subscription with its bounded queue. At most one drain runs at a time: {@link #startDraining()} claims it,
+     * and {@link #poll()} releases it atomically with observing an empty queue.
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> codes;
+        private final int capacity;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+
+        private Subscriber(SseEmitter emitter, Set<String> codes, int capacity) {
+            this.emitter = emitter;
+            this.codes = codes;
+            this.capacity = capacity;
+        }
+
+        synchronized boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> sseEvent) {
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            return queue.add(sseEvent);
+        }
+
+        synchronized boolean startDraining() {
+            if (draining || queue.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+            Set<ResponseBodyEmitter.DataWithMediaType> sseEvent = queue.poll();
+            if (sseEvent == null) {
+                draining = false;
+            }
+            return sseEvent;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.olaaref.weather.stream;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+
+/**
+ * Published by the realtime weather service after an update has been saved.
+ */
+public record RealtimeWeatherUpdatedEvent(RealtimeWeatherDto realtimeWeather) {
+}
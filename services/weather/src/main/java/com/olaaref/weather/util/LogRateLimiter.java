@@ -0,0 +1,52 @@
+package com.olaaref.weather.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets at most a fixed number of log statements through per interval and counts the ones it suppresses, for events
+ * that clients can trigger at request rate.
+ *
+ * <pre>{@code
+ * if (limiter.tryAcquire()) {
+ *     log.info("...; {} similar messages suppressed", limiter.drainSuppressed());
+ * }
+ * }</pre>
+ */
+public class LogRateLimiter {
+
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final AtomicLong windowStart;
+    private final AtomicLong used = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(int permitsPerInterval, Duration interval) {
+        if (permitsPerInterval <= 0) {
+            throw new IllegalArgumentException("permitsPerInterval must be positive: " + permitsPerInterval);
+        }
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permitsPerInterval) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return the number of statements suppressed since the previous call
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
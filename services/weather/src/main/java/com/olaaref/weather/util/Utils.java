@@ -5,13 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class Utils {
+
+    /**
+     * Request attribute holding the client address resolved by
+     * {@link com.olaaref.weather.filter.ClientAddressFilter}.
+     */
+    public static final String CLIENT_IP_ATTRIBUTE = Utils.class.getName() + ".CLIENT_IP";
+
     private Utils(){}
 
+    /**
+     * Returns the client address resolved from the forwarding headers, or the peer address for requests that did not
+     * pass through {@link com.olaaref.weather.filter.ClientAddressFilter}.
+     */
     public static String getIpAddress(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
+        Object ip = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+        return ip != null ? ip.toString() : request.getRemoteAddr();
     }
 }
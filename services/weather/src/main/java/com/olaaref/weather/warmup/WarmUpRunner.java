@@ -0,0 +1,305 @@
+package com.olaaref.weather.warmup;
+
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.config.WarmUpProperties;
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import com.olaaref.weather.service.GeolocationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms a freshly started instance up before it receives traffic, within a time budget:
+ * <ol>
+ *     <li>{@link Step#ENTITIES}: loads locations and their realtime weather page by page into the second-level
+ *     cache, which also warms the connection pools and the database buffer pool.</li>
+ *     <li>{@link Step#GEOLOCATION}: looks up addresses spread over the IPv4 space in the IP2Location file.</li>
+ *     <li>{@link Step#ENDPOINTS}: sends synthetic requests to the location, weather by code and weather by IP
+ *     endpoints through the local web server, each from a different {@code X-Forwarded-For} address so that the
+ *     rate limit does not reject them while the loopback address is a trusted proxy.</li>
+ * </ol>
+ * Spring Boot reports the instance live before application runners run and ready only after they all returned, so
+ * while this runs the readiness probe answers {@code OUT_OF_SERVICE}. When the budget is exhausted the remaining
+ * steps are skipped; failures are logged and never prevent startup.
+ * <p>
+ * Publishes {@code weather.warm-up.*} meters: items and progress per step, whether warm-up completed and its
+ * duration.
+ */
+@Log4j2
+public class WarmUpRunner implements ApplicationRunner, MeterBinder {
+
+    public enum Step {
+        ENTITIES, GEOLOCATION, ENDPOINTS
+    }
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final long IPV4_ADDRESSES = 1L << 32;
+
+    private final WarmUpProperties properties;
+    private final LocationRepository locationRepository;
+    private final RealtimeWeatherRepository realtimeWeatherRepository;
+    private final GeolocationService geolocationService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final Map<Step, StepProgress> progress = new EnumMap<>(Step.class);
+
+    private volatile boolean completed;
+    private volatile long durationNanos;
+
+    public WarmUpRunner(WarmUpProperties properties,
+                        LocationRepository locationRepository,
+                        RealtimeWeatherRepository realtimeWeatherRepository,
+                        GeolocationService geolocationService,
+                        TransactionTemplate readOnlyTransaction,
+                        ApplicationEventPublisher eventPublisher,
+                        Environment environment) {
+        this.properties = properties;
+        this.locationRepository = locationRepository;
+        this.realtimeWeatherRepository = realtimeWeatherRepository;
+        this.geolocationService = geolocationService;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        for (Step step : Step.values()) {
+            progress.put(step, new StepProgress());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        progress.forEach((step, stepProgress) -> {
+            String name = step.name().toLowerCase();
+            FunctionCounter.builder("weather.warm-up.items", stepProgress, StepProgress::done)
+                    .description("Items warmed up")
+                    .tag("step", name)
+                    .register(registry);
+            Gauge.builder("weather.warm-up.progress", stepProgress, StepProgress::fraction)
+                    .description("Share of the planned items warmed up")
+                    .tag("step", name)
+                    .register(registry);
+        });
+        Gauge.builder("weather.warm-up.completed", this, runner -> runner.completed ? 1 : 0)
+                .description("Whether warm-up has finished, successfully or not")
+                .register(registry);
+        TimeGauge.builder("weather.warm-up.duration", this, TimeUnit.NANOSECONDS, runner -> runner.durationNanos)
+                .description("Time spent warming up")
+                .register(registry);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return the share of the planned items of the step warmed up so far, {@code 1} once it finished
+     */
+    public double getProgress(Step step) {
+        return progress.get(step).fraction();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Already the state until the runners return, published so the probe is out of service whatever came before
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        long deadline = start + properties.getBudget().toNanos();
+        log.info("Warming up within {}", properties.getBudget());
+        try {
+            List<String> locationCodes = warmUpEntities(deadline);
+            warmUpGeolocation(deadline);
+            warmUpEndpoints(locationCodes, deadline);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed, accepting traffic anyway: {}", e.getMessage());
+        } finally {
+            durationNanos = System.nanoTime() - start;
+            completed = true;
+            log.info("Warm-up finished in {} ms: {}", TimeUnit.NANOSECONDS.toMillis(durationNanos), progress);
+        }
+    }
+
+    /**
+     * @return codes of preloaded locations to request in {@link Step#ENDPOINTS}
+     */
+    private List<String> warmUpEntities(long deadline) {
+        WarmUpProperties.Entities entities = properties.getEntities();
+        StepProgress step = progress.get(Step.ENTITIES);
+        step.plan(entities.getMaxLocations());
+        int sampleSize = properties.getEndpoints().getLocationCodes();
+        List<String> sampleCodes = new ArrayList<>(sampleSize);
+
+        String after = "";
+        while (step.done() < entities.getMaxLocations()) {
+            if (isOverBudget(deadline, Step.ENTITIES)) {
+                return sampleCodes;
+            }
+            int pageSize = (int) Math.min(entities.getPageSize(), entities.getMaxLocations() - step.done());
+            String from = after;
+            List<String> codes = readOnlyTransaction.execute(status -> {
+                List<String> page = locationRepository.findUntrashedAfter(from, Limit.of(pageSize)).stream()
+                        .map(Location::getCode)
+                        .toList();
+                if (!page.isEmpty()) {
+                    realtimeWeatherRepository.findAllById(page);
+                }
+                return page;
+            });
+            if (codes == null || codes.isEmpty()) {
+                break;
+            }
+            codes.stream().limit(sampleSize - sampleCodes.size()).forEach(sampleCodes::add);
+            step.advance(codes.size());
+            if (codes.size() < pageSize) {
+                break;
+            }
+            after = codes.getLast();
+        }
+        step.finish();
+        return sampleCodes;
+    }
+
+    private void warmUpGeolocation(long deadline) {
+        int samples = properties.getGeolocation().getSamples();
+        StepProgress step = progress.get(Step.GEOLOCATION);
+        step.plan(samples);
+        for (int i = 0; i < samples; i++) {
+            if (i % 256 == 0 && isOverBudget(deadline, Step.GEOLOCATION)) {
+                return;
+            }
+            geolocationService.warmUp(sampleAddress(i, samples));
+            step.advance(1);
+        }
+        step.finish();
+    }
+
+    private void warmUpEndpoints(List<String> locationCodes, long deadline) {
+        WarmUpProperties.Endpoints endpoints = properties.getEndpoints();
+        StepProgress step = progress.get(Step.ENDPOINTS);
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || port <= 0) {
+            log.info("No local web server, skipping endpoint warm-up");
+            return;
+        }
+        step.plan(endpoints.getIterations());
+        String baseUri = "http://localhost:" + port + environment.getProperty("server.servlet.context-path", "") + "/v1";
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(endpoints.getRequestTimeout()).build()) {
+            for (int i = 0; i < endpoints.getIterations(); i++) {
+                if (isOverBudget(deadline, Step.ENDPOINTS)) {
+                    return;
+                }
+                String ipAddress = sampleAddress(i, endpoints.getIterations());
+                if (!locationCodes.isEmpty()) {
+                    String code = URLEncoder.encode(locationCodes.get(i % locationCodes.size()), StandardCharsets.UTF_8);
+                    send(client, baseUri + "/location/" + code, ipAddress, endpoints.getRequestTimeout());
+                    send(client, baseUri + "/weather/" + code, ipAddress, endpoints.getRequestTimeout());
+                }
+                send(client, baseUri + "/weather", ipAddress, endpoints.getRequestTimeout());
+                step.advance(1);
+            }
+            step.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Endpoint warm-up interrupted");
+        }
+    }
+
+    private static void send(HttpClient client, String uri, String ipAddress, Duration timeout) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(timeout)
+                .header(X_FORWARDED_FOR, ipAddress)
+                .GET()
+                .build();
+        try {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            log.debug("Warm-up request to {} failed: {}", uri, e.getMessage());
+        }
+    }
+
+    private boolean isOverBudget(long deadline, Step step) {
+        if (System.nanoTime() - deadline < 0) {
+            return false;
+        }
+        log.warn("Warm-up budget of {} exhausted during {}, skipping the rest", properties.getBudget(), step);
+        return true;
+    }
+
+    /**
+     * @return the middle address of the {@code index}-th of {@code count} equal slices of the IPv4 space
+     */
+    static String sampleAddress(int index, int count) {
+        long slice = IPV4_ADDRESSES / count;
+        long address = index * slice + slice / 2;
+        return (address >>> 24 & 0xff) + "." + (address >>> 16 & 0xff) + "." + (address >>> 8 & 0xff) + "." + (address & 0xff);
+    }
+
+    /**
+     * Written by the warm-up thread only, read by metric collection.
+     */
+    private static final class StepProgress {
+
+        private final AtomicLong planned = new AtomicLong();
+        private final AtomicLong done = new AtomicLong();
+        private volatile boolean finished;
+
+        void plan(long items) {
+            planned.set(items);
+        }
+
+        void advance(long items) {
+            done.addAndGet(items);
+        }
+
+        /**
+         * Marks the step complete even when there was less to warm up than planned.
+         */
+        void finish() {
+            finished = true;
+        }
+
+        long done() {
+            return done.get();
+        }
+
+        double fraction() {
+            long total = planned.get();
+            if (finished) {
+                return 1;
+            }
+            return total == 0 ? 0 : Math.min(1, (double) done.get() / total);
+        }
+
+        @Override
+        public String toString() {
+            return done.get() + "/" + planned.get();
+        }
+    }
+}
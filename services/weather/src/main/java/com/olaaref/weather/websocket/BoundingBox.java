@@ -0,0 +1,20 @@
+package com.olaaref.weather.websocket;
+
+/**
+ * A latitude/longitude rectangle; boxes crossing the antimeridian are not supported.
+ */
+public record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+    public BoundingBox {
+        if (minLatitude < -90 || maxLatitude > 90 || minLatitude > maxLatitude
+                || minLongitude < -180 || maxLongitude > 180 || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("Invalid bounding box [" + minLatitude + ", " + minLongitude + ", "
+                    + maxLatitude + ", " + maxLongitude + "]");
+        }
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
@@ -0,0 +1,124 @@
+package com.olaaref.weather.websocket;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Finds the subscriptions interested in an update of a location.
+ * <p>
+ * Code subscriptions are indexed by location code. Bounding box subscriptions are indexed in every cell of a
+ * fixed latitude/longitude grid they overlap, so an update only looks at the subscriptions of its own cell; boxes
+ * overlapping more than {@code maxCellsPerBox} cells are kept aside and checked on every update instead.
+ */
+final class SubscriptionIndex {
+
+    private final double cellDegrees;
+    private final int maxCellsPerBox;
+    private final Map<String, Set<WeatherSubscription>> byCode = new ConcurrentHashMap<>();
+    private final Map<Long, Set<WeatherSubscription>> byCell = new ConcurrentHashMap<>();
+    private final Set<WeatherSubscription> wideBoxes = ConcurrentHashMap.newKeySet();
+
+    SubscriptionIndex(double cellDegrees, int maxCellsPerBox) {
+        this.cellDegrees = cellDegrees;
+        this.maxCellsPerBox = maxCellsPerBox;
+    }
+
+    void addCode(WeatherSubscription subscription, String code) {
+        addTo(byCode, code, subscription);
+    }
+
+    void addBox(WeatherSubscription subscription, BoundingBox box) {
+        if (cellCount(box) > maxCellsPerBox) {
+            wideBoxes.add(subscription);
+            return;
+        }
+        forEachCell(box, cell -> addTo(byCell, cell, subscription));
+    }
+
+    void remove(WeatherSubscription subscription) {
+        subscription.getCodes().forEach(code -> removeFrom(byCode, code, subscription));
+        wideBoxes.remove(subscription);
+        for (BoundingBox box : subscription.getBoxes()) {
+            if (cellCount(box) <= maxCellsPerBox) {
+                forEachCell(box, cell -> removeFrom(byCell, cell, subscription));
+            }
+        }
+    }
+
+    /**
+     * Adds to {@code result} the subscriptions to {@code code} and those with a bounding box containing the point.
+     */
+    void collect(String code, Double latitude, Double longitude, Collection<WeatherSubscription> result) {
+        Set<WeatherSubscription> codeSubscriptions = byCode.get(code);
+        if (codeSubscriptions != null) {
+            result.addAll(codeSubscriptions);
+        }
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        Set<WeatherSubscription> cellSubscriptions = byCell.get(cellOf(latitude, longitude));
+        if (cellSubscriptions != null) {
+            for (WeatherSubscription subscription : cellSubscriptions) {
+                if (subscription.containsPoint(latitude, longitude)) {
+                    result.add(subscription);
+                }
+            }
+        }
+        for (WeatherSubscription subscription : wideBoxes) {
+            if (subscription.containsPoint(latitude, longitude)) {
+                result.add(subscription);
+            }
+        }
+    }
+
+    private long cellCount(BoundingBox box) {
+        long rows = cellIndex(box.maxLatitude()) - cellIndex(box.minLatitude()) + 1;
+        long columns = cellIndex(box.maxLongitude()) - cellIndex(box.minLongitude()) + 1;
+        return rows * columns;
+    }
+
+    private void forEachCell(BoundingBox box, LongConsumer action) {
+        for (int row = cellIndex(box.minLatitude()); row <= cellIndex(box.maxLatitude()); row++) {
+            for (int column = cellIndex(box.minLongitude()); column <= cellIndex(box.maxLongitude()); column++) {
+                action.accept(cellKey(row, column));
+            }
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Adds inside {@code compute}, like {@link #removeFrom} removes, so an add cannot land in a set the removal of the
+     * last subscription has just dropped from the index.
+     */
+    private static <K> void addTo(Map<K, Set<WeatherSubscription>> index, K key, WeatherSubscription subscription) {
+        index.compute(key, (k, subscriptions) -> {
+            Set<WeatherSubscription> set = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            set.add(subscription);
+            return set;
+        });
+    }
+
+    private static <K> void removeFrom(Map<K, Set<WeatherSubscription>> index, K key, WeatherSubscription subscription) {
+        index.compute(key, (k, subscriptions) -> {
+            if (subscriptions == null) {
+                return null;
+            }
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.olaaref.weather.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import org.springframework.web.socket.TextMessage;
+
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Compact JSON framing of the WebSocket gateway.
+ * <ul>
+ *     <li>{@code {"t":"snapshot","w":[{"c":"US-NY-NY","te":18.2,"hu":65,"pr":0,"ws":10,"st":"Rainy","u":1736937000}]}}
+ *     is sent after each subscription with the current weather of the newly subscribed locations.</li>
+ *     <li>{@code {"t":"delta","c":"US-NY-NY","te":19.0,"u":1736937060}} is sent on every update and only carries the
+ *     fields that changed: {@code te} temperature, {@code hu} humidity, {@code pr} precipitation, {@code ws} wind
+ *     speed and {@code st} status. {@code u} is the update time in epoch seconds.</li>
+ *     <li>{@code {"t":"error","m":"..."}} reports a rejected client message.</li>
+ * </ul>
+ */
+final class WeatherMessages {
+
+    private final ObjectMapper objectMapper;
+
+    WeatherMessages(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    TextMessage snapshot(Collection<RealtimeWeatherDto> realtimeWeather) {
+        ObjectNode message = objectMapper.createObjectNode().put("t", "snapshot");
+        ArrayNode entries = message.putArray("w");
+        for (RealtimeWeatherDto weather : realtimeWeather) {
+            ObjectNode entry = entries.addObject()
+                    .put("c", weather.getLocation())
+                    .put("te", weather.getTemperature())
+                    .put("hu", weather.getHumidity())
+                    .put("pr", weather.getPrecipitation())
+                    .put("ws", weather.getWindSpeed())
+                    .put("st", weather.getStatus());
+            putUpdated(entry, weather);
+        }
+        return toTextMessage(message);
+    }
+
+    /**
+     * @param previous the last broadcast weather of the location, or {@code null} to send every field
+     */
+    TextMessage delta(RealtimeWeatherDto previous, RealtimeWeatherDto current) {
+        ObjectNode message = objectMapper.createObjectNode()
+                .put("t", "delta")
+                .put("c", current.getLocation());
+        if (previous == null || previous.getTemperature() != current.getTemperature()) {
+            message.put("te", current.getTemperature());
+        }
+        if (previous == null || previous.getHumidity() != current.getHumidity()) {
+            message.put("hu", current.getHumidity());
+        }
+        if (previous == null || previous.getPrecipitation() != current.getPrecipitation()) {
+            message.put("pr", current.getPrecipitation());
+        }
+        if (previous == null || previous.getWindSpeed() != current.getWindSpeed()) {
+            message.put("ws", current.getWindSpeed());
+        }
+        if (previous == null || !Objects.equals(previous.getStatus(), current.getStatus())) {
+            message.put("st", current.getStatus());
+        }
+        putUpdated(message, current);
+        return toTextMessage(message);
+    }
+
+    TextMessage error(String reason) {
+        return toTextMessage(objectMapper.createObjectNode().put("t", "error").put("m", reason));
+    }
+
+    private static void putUpdated(ObjectNode node, RealtimeWeatherDto weather) {
+        if (weather.getLastUpdated() != null) {
+            node.put("u", weather.getLastUpdated().toEpochSecond(ZoneOffset.UTC));
+        }
+    }
+
+    private TextMessage toTextMessage(ObjectNode message) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing WebSocket message", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.olaaref.weather.websocket;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The location codes and bounding boxes a WebSocket session subscribed to, with the session to send updates on and
+ * its bounded queue of pending updates. At most one drain runs at a time: {@link #startDraining()} claims it, and
+ * {@link #poll()} releases it atomically with observing an empty queue.
+ */
+final class WeatherSubscription {
+
+    private final WebSocketSession session;
+    private final Set<String> codes = ConcurrentHashMap.newKeySet();
+    private final List<BoundingBox> boxes = new CopyOnWriteArrayList<>();
+    private final int capacity;
+    private final Queue<TextMessage> queue = new ArrayDeque<>();
+    private boolean draining;
+
+    WeatherSubscription(WebSocketSession session, int capacity) {
+        this.session = session;
+        this.capacity = capacity;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    Set<String> getCodes() {
+        return codes;
+    }
+
+    List<BoundingBox> getBoxes() {
+        return boxes;
+    }
+
+    boolean containsPoint(double latitude, double longitude) {
+        for (BoundingBox box : boxes) {
+            if (box.contains(latitude, longitude)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized boolean offer(TextMessage message) {
+        if (queue.size() >= capacity) {
+            return false;
+        }
+        return queue.add(message);
+    }
+
+    synchronized boolean startDraining() {
+        if (draining || queue.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    synchronized TextMessage poll() {
+        TextMessage message = queue.poll();
+        if (message == null) {
+            draining = false;
+        }
+        return message;
+    }
+}
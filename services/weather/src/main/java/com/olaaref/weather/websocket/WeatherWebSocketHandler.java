@@ -0,0 +1,299 @@
+package com.olaaref.weather.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
+import com.olaaref.weather.config.WeatherStreamProperties;
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import com.olaaref.weather.stream.RealtimeWeatherUpdatedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * WebSocket gateway pushing realtime weather to map clients.
+ * <p>
+ * A client subscribes with {@code {"type":"subscribe","codes":["US-NY-NY"]}} and/or
+ * {@code {"type":"subscribe","bbox":[minLatitude,minLongitude,maxLatitude,maxLongitude]}}, receives a snapshot of the
+ * current weather of the matching locations and then a delta message per update, see {@link WeatherMessages}.
+ * {@code {"type":"unsubscribe"}} drops all subscriptions of the session.
+ * <p>
+ * Each update is encoded once and queued to every interested session. Every session has a bounded queue drained by a
+ * virtual thread, so a slow connection only delays itself; a session whose queue is full is closed. Sessions are also
+ * decorated with {@link ConcurrentWebSocketSessionDecorator}, which guards the snapshot and error replies sent
+ * concurrently with the drain and closes a session exceeding the configured send time or buffer size.
+ * <p>
+ * Updates are handled once the transaction that wrote them has committed, so a rolled back update is neither sent nor
+ * used as the base of the next delta. Resolving the subscribers, which may look the coordinates of the location up,
+ * runs on a virtual thread rather than on the writer's thread. Deltas chain on the previous update of their location,
+ * so updates are dispatched one at a time in the order their base was taken and each session sends its queue in
+ * order; a session never receives a delta before the one it is based on.
+ */
+@Log4j2
+@Component
+public class WeatherWebSocketHandler extends TextWebSocketHandler implements DisposableBean {
+
+    private record Coordinates(double latitude, double longitude) {
+    }
+
+    private record Update(RealtimeWeatherDto previous, RealtimeWeatherDto current) {
+    }
+
+    private final LocationRepository locationRepository;
+    private final RealtimeWeatherRepository realtimeWeatherRepository;
+    private final WeatherStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final WeatherMessages messages;
+    private final SubscriptionIndex index;
+    private final Map<String, WeatherSubscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, RealtimeWeatherDto> lastBroadcast = new ConcurrentHashMap<>();
+    private final Map<String, Coordinates> coordinates = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Queue<Update> updates = new ArrayDeque<>();
+    private boolean dispatching;
+
+    public WeatherWebSocketHandler(LocationRepository locationRepository,
+                                   RealtimeWeatherRepository realtimeWeatherRepository,
+                                   WeatherStreamProperties properties,
+                                   ObjectMapper objectMapper) {
+        this.locationRepository = locationRepository;
+        this.realtimeWeatherRepository = realtimeWeatherRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.messages = new WeatherMessages(objectMapper);
+        WeatherStreamProperties.WebSocket websocket = properties.getWebsocket();
+        this.index = new SubscriptionIndex(websocket.getGridCellDegrees(), websocket.getMaxCellsPerBox());
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        WeatherStreamProperties.WebSocket websocket = properties.getWebsocket();
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session,
+                (int) websocket.getSendTimeLimit().toMillis(), websocket.getBufferSizeLimit(),
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        subscriptions.put(session.getId(), new WeatherSubscription(decorated, properties.getQueueCapacity()));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        WeatherSubscription subscription = subscriptions.get(session.getId());
+        if (subscription == null) {
+            return;
+        }
+
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(message.getPayload());
+        } catch (IOException e) {
+            subscription.getSession().sendMessage(messages.error("Malformed message"));
+            return;
+        }
+
+        switch (request.path("type").asText()) {
+            case "subscribe" -> subscribe(subscription, request);
+            case "unsubscribe" -> unsubscribeAll(subscription);
+            default -> subscription.getSession().sendMessage(messages.error("Unknown message type"));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WeatherSubscription subscription = subscriptions.remove(session.getId());
+        if (subscription != null) {
+            index.remove(subscription);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRealtimeWeatherUpdated(RealtimeWeatherUpdatedEvent event) {
+        RealtimeWeatherDto current = event.realtimeWeather();
+        synchronized (updates) {
+            // The base of the delta is taken together with its place in the dispatch order
+            RealtimeWeatherDto previous = lastBroadcast.put(current.getLocation(), current);
+            if (subscriptions.isEmpty()) {
+                return;
+            }
+            updates.add(new Update(previous, current));
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+        senders.execute(this::dispatch);
+    }
+
+    private void dispatch() {
+        while (true) {
+            Update update;
+            synchronized (updates) {
+                update = updates.poll();
+                if (update == null) {
+                    dispatching = false;
+                    return;
+                }
+            }
+            try {
+                broadcast(update.previous(), update.current());
+            } catch (RuntimeException e) {
+                log.warn("Error broadcasting realtime weather of {}", update.current().getLocation(), e);
+            }
+        }
+    }
+
+    private void broadcast(RealtimeWeatherDto previous, RealtimeWeatherDto current) {
+        String code = current.getLocation();
+        Coordinates point = coordinatesOf(code);
+        Set<WeatherSubscription> interested = new HashSet<>();
+        index.collect(code,
+                point != null ? point.latitude() : null,
+                point != null ? point.longitude() : null,
+                interested);
+        if (interested.isEmpty()) {
+            return;
+        }
+
+        TextMessage delta = messages.delta(previous, current);
+        for (WeatherSubscription subscription : interested) {
+            offer(subscription, delta);
+        }
+    }
+
+    private void offer(WeatherSubscription subscription, TextMessage message) {
+        if (!subscription.offer(message)) {
+            log.debug("Closing slow weather WebSocket session {}", subscription.getSession().getId());
+            close(subscription.getSession());
+            return;
+        }
+        if (subscription.startDraining()) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(WeatherSubscription subscription) {
+        TextMessage message;
+        while ((message = subscription.poll()) != null) {
+            send(subscription, message);
+        }
+    }
+
+    /**
+     * Coordinates of a location, cached once found; misses are not cached since the location may be created later.
+     */
+    private Coordinates coordinatesOf(String code) {
+        Coordinates point = coordinates.get(code);
+        if (point == null) {
+            point = locationRepository.findById(code)
+                    .map(location -> new Coordinates(location.getLatitude(), location.getLongitude()))
+                    .orElse(null);
+            if (point != null) {
+                coordinates.put(code, point);
+            }
+        }
+        return point;
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+    }
+
+    private void subscribe(WeatherSubscription subscription, JsonNode request) throws IOException {
+        List<RealtimeWeatherDto> snapshot = new ArrayList<>();
+
+        JsonNode codesNode = request.path("codes");
+        if (codesNode.isArray() && !codesNode.isEmpty()) {
+            Set<String> codes = new HashSet<>();
+            codesNode.forEach(code -> codes.add(code.asText()));
+            if (subscription.getCodes().size() + codes.size() > properties.getMaxCodesPerSubscriber()) {
+                subscription.getSession().sendMessage(messages.error("Too many location codes"));
+                return;
+            }
+            codes.removeAll(subscription.getCodes());
+            subscription.getCodes().addAll(codes);
+            codes.forEach(code -> index.addCode(subscription, code));
+            realtimeWeatherRepository.findAllById(codes).stream()
+                    .map(RealtimeWeather::toRealtimeWeatherDto)
+                    .forEach(snapshot::add);
+        }
+
+        JsonNode bboxNode = request.path("bbox");
+        if (bboxNode.isArray()) {
+            BoundingBox box;
+            try {
+                if (bboxNode.size() != 4) {
+                    throw new IllegalArgumentException("bbox must be [minLatitude, minLongitude, maxLatitude, maxLongitude]");
+                }
+                box = new BoundingBox(bboxNode.get(0).asDouble(), bboxNode.get(1).asDouble(),
+                        bboxNode.get(2).asDouble(), bboxNode.get(3).asDouble());
+            } catch (IllegalArgumentException e) {
+                subscription.getSession().sendMessage(messages.error(e.getMessage()));
+                return;
+            }
+            subscription.getBoxes().add(box);
+            index.addBox(subscription, box);
+
+            List<Location> locations = locationRepository.findUntrashedWithin(box.minLatitude(), box.minLongitude(),
+                    box.maxLatitude(), box.maxLongitude(), Limit.of(properties.getWebsocket().getMaxSnapshotLocations()));
+            List<String> codes = new ArrayList<>(locations.size());
+            for (Location location : locations) {
+                coordinates.put(location.getCode(), new Coordinates(location.getLatitude(), location.getLongitude()));
+                codes.add(location.getCode());
+            }
+            realtimeWeatherRepository.findAllById(codes).stream()
+                    .map(RealtimeWeather::toRealtimeWeatherDto)
+                    .forEach(snapshot::add);
+        }
+
+        subscription.getSession().sendMessage(messages.snapshot(snapshot));
+    }
+
+    private void unsubscribeAll(WeatherSubscription subscription) {
+        index.remove(subscription);
+        subscription.getCodes().clear();
+        subscription.getBoxes().clear();
+    }
+
+    private void send(WeatherSubscription subscription, TextMessage message) {
+        WebSocketSession session = subscription.getSession();
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Closing weather WebSocket session {}: {}", session.getId(), e.getMessage());
+            close(session);
+        }
+    }
+
+    private void close(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Error closing weather WebSocket session {}: {}", session.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+-- Schema previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE LOCATIONS
+(
+    CODE         VARCHAR(12)  NOT NULL,
+    COUNTRY_CODE VARCHAR(2)   NOT NULL,
+    COUNTRY_NAME VARCHAR(128) NOT NULL,
+    REGION_NAME  VARCHAR(128),
+    CITY_NAME    VARCHAR(128) NOT NULL,
+    LATITUDE     DOUBLE       NOT NULL,
+    LONGITUDE    DOUBLE       NOT NULL,
+    ZIP_CODE     VARCHAR(30),
+    TIME_ZONE    VARCHAR(30),
+    ENABLED      BOOLEAN      NOT NULL,
+    TRASHED      BOOLEAN      NOT NULL,
+    CONSTRAINT PK_LOCATIONS PRIMARY KEY (CODE)
+);
+
+CREATE TABLE REALTIME_WEATHER
+(
+    LOCATION_CODE VARCHAR(12) NOT NULL,
+    TEMPERATURE   DOUBLE      NOT NULL,
+    HUMIDITY      DOUBLE      NOT NULL,
+    PRECIPITATION DOUBLE      NOT NULL,
+    WIND_SPEED    DOUBLE      NOT NULL,
+    STATUS        VARCHAR(255),
+    LAST_UPDATED  DATETIME(6),
+    CONSTRAINT PK_REALTIME_WEATHER PRIMARY KEY (LOCATION_CODE),
+    CONSTRAINT FK_REALTIME_WEATHER_LOCATION FOREIGN KEY (LOCATION_CODE) REFERENCES LOCATIONS (CODE)
+);
@@ -0,0 +1,18 @@
+-- CHANGE_LOG is not part of the baselined schema: databases baselined at version 1 get it here.
+CREATE TABLE IF NOT EXISTS CHANGE_LOG
+(
+    SEQ         BIGINT      NOT NULL AUTO_INCREMENT,
+    ENTITY_TYPE VARCHAR(16) NOT NULL,
+    ENTITY_CODE VARCHAR(12) NOT NULL,
+    OPERATION   VARCHAR(16) NOT NULL,
+    CHANGED_AT  DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    CONSTRAINT PK_CHANGE_LOG PRIMARY KEY (SEQ)
+);
+
+-- Where ddl-auto already created the table, it created the enum columns as native ENUM types; the entity maps
+-- them as VARCHAR.
+ALTER TABLE CHANGE_LOG MODIFY COLUMN ENTITY_TYPE VARCHAR(16) NOT NULL;
+ALTER TABLE CHANGE_LOG MODIFY COLUMN OPERATION VARCHAR(16) NOT NULL;
+-- The change feed compares CHANGED_AT with the database clock, so the database stamps it on insert; tables created
+-- by ddl-auto lack that default.
+ALTER TABLE CHANGE_LOG MODIFY COLUMN CHANGED_AT DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
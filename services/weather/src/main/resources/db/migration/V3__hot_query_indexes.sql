@@ -0,0 +1,7 @@
+-- findUntrashed, findUntrashedWithin and the weather-edge untrashed scans: equality on TRASHED, then the
+-- bounding-box range on LATITUDE with LONGITUDE filtered from the index entries.
+CREATE INDEX IDX_LOCATIONS_TRASHED_LAT_LON ON LOCATIONS (TRASHED, LATITUDE, LONGITUDE);
+
+-- findByLocationCityNameAndLocationCountryCode: InnoDB secondary indexes carry the primary key, so the index
+-- covers the lookup of CODE used to join REALTIME_WEATHER.
+CREATE INDEX IDX_LOCATIONS_COUNTRY_CITY ON LOCATIONS (COUNTRY_CODE, CITY_NAME);
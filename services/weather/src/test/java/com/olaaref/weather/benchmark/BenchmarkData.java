@@ -0,0 +1,34 @@
+package com.olaaref.weather.benchmark;
+
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
+
+import java.time.LocalDateTime;
+
+/**
+ * Test data shared by the benchmarks, shaped like the rows of {@code R__seed_test_data.sql}.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime LAST_UPDATED = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private BenchmarkData() {
+    }
+
+    static Location location(int index) {
+        return new Location("NYC_USA_" + index, "US", "United States of America", "New York", "New York City",
+                40.7128, -74.0060, "10001", "America/New_York", true, false);
+    }
+
+    static RealtimeWeather realtimeWeather(Location location) {
+        RealtimeWeather realtimeWeather = new RealtimeWeather(location.getCode(), 22.5, 65.0, 10.0, 15.5,
+                "Partly Cloudy", LAST_UPDATED, location);
+        location.setRealtimeWeather(realtimeWeather);
+        return realtimeWeather;
+    }
+
+    static RealtimeWeatherDto realtimeWeatherDto() {
+        return new RealtimeWeatherDto("NYC_USA", 22.5, 65.0, 10.0, 15.5, "Partly Cloudy", LAST_UPDATED);
+    }
+}
@@ -0,0 +1,73 @@
+package com.olaaref.weather.benchmark;
+
+import com.olaaref.weather.cache.NegativeLookupCache;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.config.NegativeCacheProperties;
+import com.olaaref.weather.exception.GeolocationException;
+import com.olaaref.weather.service.GeolocationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GeolocationService#getLocation(String)} over a mix of three IPv4 addresses for one IPv6 address,
+ * cycled so consecutive lookups hit different parts of the IP2Location database.
+ * <p>
+ * Needs the IP2Location BIN file that {@link GeolocationService} opens, and must run from the module directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeolocationBenchmark {
+
+    private static final Path DB_PATH = Path.of("src/main/resources/ip2location/IP2LOCATION-LITE-DB11.BIN");
+
+    private static final String[] IP_ADDRESSES = {
+            "108.30.178.78",
+            "103.48.198.141",
+            "81.2.69.142",
+            "2001:4860:4860::8888",
+            "185.86.151.11",
+            "177.54.144.1",
+            "41.202.219.73",
+            "2a03:2880:f10c:83:face:b00c:0:25de",
+            "203.0.113.195",
+            "58.87.120.1",
+            "91.198.174.192",
+            "2404:6800:4003:c00::64"
+    };
+
+    private GeolocationService geolocationService;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (!Files.exists(DB_PATH)) {
+            throw new IllegalStateException("IP2Location database not found at " + DB_PATH.toAbsolutePath());
+        }
+        geolocationService = new GeolocationService(new NegativeLookupCache(new NegativeCacheProperties(), ""));
+    }
+
+    @Benchmark
+    public Location getLocation() throws GeolocationException {
+        String ipAddress = IP_ADDRESSES[index];
+        index = (index + 1) % IP_ADDRESSES.length;
+        return geolocationService.getLocation(ipAddress);
+    }
+}
@@ -0,0 +1,63 @@
+package com.olaaref.weather.benchmark;
+
+import com.olaaref.weather.filter.ClientAddressFilter;
+import com.olaaref.weather.net.ClientAddressResolver;
+import com.olaaref.weather.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the client address without a forwarding header, with a single client address, with a chain
+ * of proxies and with the standard {@code Forwarded} header, behind a trusted private-network proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpAddressBenchmark {
+
+    @Param({"NONE", "SINGLE", "PROXY_CHAIN", "FORWARDED"})
+    private String forwardedFor;
+
+    private ClientAddressFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new ClientAddressFilter(new ClientAddressResolver(
+                List.of("127.0.0.0/8", "10.0.0.0/8", "fc00::/7"), true));
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.12");
+        switch (forwardedFor) {
+            case "SINGLE" -> request.addHeader("X-Forwarded-For", "108.30.178.78");
+            case "PROXY_CHAIN" -> request.addHeader("X-Forwarded-For", "108.30.178.78, 203.0.113.7, 10.0.0.3");
+            case "FORWARDED" -> request.addHeader("Forwarded",
+                    "for=\"[2001:db8:cafe::17]:4711\";proto=https, for=10.0.0.3;by=10.0.0.12");
+            default -> { }
+        }
+    }
+
+    @Benchmark
+    public String getIpAddress() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return Utils.getIpAddress(request);
+    }
+}
@@ -0,0 +1,64 @@
+package com.olaaref.weather.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures Jackson serialization of the response bodies of the weather and location endpoints to UTF-8 bytes,
+ * the way the message converter writes them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int locationCount;
+
+    private ObjectWriter objectWriter;
+
+    private RealtimeWeatherDto realtimeWeatherDto;
+
+    private List<LocationDto> locationDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectWriter = JsonMapper.builder().findAndAddModules().build().writer();
+        realtimeWeatherDto = BenchmarkData.realtimeWeatherDto();
+        locationDtos = IntStream.range(0, locationCount)
+                .mapToObj(index -> BenchmarkData.location(index).toLocationDto())
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] realtimeWeatherDto() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(realtimeWeatherDto);
+    }
+
+    @Benchmark
+    public byte[] locationDtoList() throws JsonProcessingException {
+        return objectWriter.writeValueAsBytes(locationDtos);
+    }
+}
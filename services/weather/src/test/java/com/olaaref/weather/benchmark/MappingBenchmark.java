@@ -0,0 +1,51 @@
+package com.olaaref.weather.benchmark;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hand-written entity/DTO mappers used by the weather and location endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private Location location;
+
+    private RealtimeWeather realtimeWeather;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        location = BenchmarkData.location(0);
+        realtimeWeather = BenchmarkData.realtimeWeather(location);
+    }
+
+    @Benchmark
+    public RealtimeWeatherDto realtimeWeatherToRealtimeWeatherDto() {
+        return realtimeWeather.toRealtimeWeatherDto();
+    }
+
+    @Benchmark
+    public LocationDto locationToLocationDto() {
+        return location.toLocationDto();
+    }
+}
@@ -0,0 +1,66 @@
+package com.olaaref.weather.benchmark;
+
+import com.olaaref.weather.config.RateLimitProperties;
+import com.olaaref.weather.ratelimit.ClientRateLimiter;
+import com.olaaref.weather.ratelimit.GcraRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GcraRateLimiter#acquire} from eight threads, over a few hot clients contending on the same buckets
+ * and over many clients spread across the map, and {@link ClientRateLimiter#clientKey} over the same addresses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    @Param({"16", "100000"})
+    private int clients;
+
+    private GcraRateLimiter limiter;
+    private ClientRateLimiter clientRateLimiter;
+    private String[] addresses;
+    private Object[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new GcraRateLimiter(1_000_000, 1_000);
+        clientRateLimiter = new ClientRateLimiter(new RateLimitProperties());
+        addresses = new String[clients];
+        keys = new Object[clients];
+        for (int i = 0; i < clients; i++) {
+            addresses[i] = "10." + (i >>> 16 & 0xff) + "." + (i >>> 8 & 0xff) + "." + (i & 0xff);
+            keys[i] = clientRateLimiter.clientKey(addresses[i]);
+        }
+    }
+
+    @Benchmark
+    public long acquire() {
+        Object key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return limiter.acquire(key, System.nanoTime());
+    }
+
+    @Benchmark
+    public Object clientKey() {
+        return clientRateLimiter.clientKey(addresses[ThreadLocalRandom.current().nextInt(addresses.length)]);
+    }
+}
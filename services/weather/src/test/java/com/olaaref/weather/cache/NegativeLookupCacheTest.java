@@ -0,0 +1,112 @@
+package com.olaaref.weather.cache;
+
+import com.olaaref.weather.config.NegativeCacheProperties;
+import com.olaaref.weather.datasource.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeLookupCacheTest {
+
+    private NegativeLookupCache negativeLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        negativeLookupCache = new NegativeLookupCache(new NegativeCacheProperties(), "");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadWriteRoutingDataSource.unpin();
+    }
+
+    @DisplayName("Mark unknown code - Remembered until forgotten")
+    @Test
+    void markUnknownLocationCode_ThenForget() {
+        // Given
+        negativeLookupCache.markUnknownLocationCode("FR-IDF-PAR");
+        negativeLookupCache.markNoWeather("FR-IDF-PAR");
+
+        // When
+        boolean unknownBefore = negativeLookupCache.isUnknownLocationCode("FR-IDF-PAR");
+        negativeLookupCache.forgetCode("FR-IDF-PAR");
+
+        // Then
+        assertTrue(unknownBefore);
+        assertFalse(negativeLookupCache.isUnknownLocationCode("FR-IDF-PAR"));
+        assertFalse(negativeLookupCache.hasNoWeather("FR-IDF-PAR"));
+    }
+
+    @DisplayName("Forget codes in a transaction - Deferred until commit")
+    @Test
+    void forgetCodes_InTransaction_DeferredUntilCommit() {
+        // Given
+        negativeLookupCache.markUnknownLocationCode("FR-IDF-PAR");
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        negativeLookupCache.forgetCodes(List.of("FR-IDF-PAR"));
+        boolean unknownBeforeCommit = negativeLookupCache.isUnknownLocationCode("FR-IDF-PAR");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertTrue(unknownBeforeCommit);
+        assertFalse(negativeLookupCache.isUnknownLocationCode("FR-IDF-PAR"));
+    }
+
+    @DisplayName("Mark unknown code with a replica - Not remembered from a replica read")
+    @Test
+    void markUnknownLocationCode_ReplicaRead_NotRemembered() {
+        // Given
+        NegativeLookupCache replicated = new NegativeLookupCache(new NegativeCacheProperties(), "jdbc:mysql://replica/weather");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        replicated.markUnknownLocationCode("FR-IDF-PAR");
+        replicated.markNoWeather("FR-IDF-PAR");
+
+        // Then
+        assertFalse(replicated.isUnknownLocationCode("FR-IDF-PAR"));
+        assertFalse(replicated.hasNoWeather("FR-IDF-PAR"));
+    }
+
+    @DisplayName("Mark unknown code with a replica - Remembered from a primary read, ignored while pinned")
+    @Test
+    void markUnknownLocationCode_PrimaryRead_RememberedButIgnoredWhilePinned() {
+        // Given
+        NegativeLookupCache replicated = new NegativeLookupCache(new NegativeCacheProperties(), "jdbc:mysql://replica/weather");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+
+        // When
+        replicated.markUnknownLocationCode("FR-IDF-PAR");
+        boolean unknownWhilePinned = replicated.isUnknownLocationCode("FR-IDF-PAR");
+        ReadWriteRoutingDataSource.unpin();
+
+        // Then
+        assertFalse(unknownWhilePinned);
+        assertTrue(replicated.isUnknownLocationCode("FR-IDF-PAR"));
+    }
+
+    @DisplayName("Mark unresolvable IP address - Remembered")
+    @Test
+    void markUnresolvableIpAddress() {
+        // When
+        negativeLookupCache.markUnresolvableIpAddress("10.0.0.1");
+
+        // Then
+        assertTrue(negativeLookupCache.isUnresolvableIpAddress("10.0.0.1"));
+        assertFalse(negativeLookupCache.isUnresolvableIpAddress("10.0.0.2"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.olaaref.weather.cache;
+
+import com.olaaref.weather.exception.LocationNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("Test Execute - Concurrent Callers Share One Load")
+    void testConcurrentCallersShareOneLoad() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Loader<String, RuntimeException> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("US-NY-NY", RuntimeException.class, loader)));
+            }
+            awaitWaiters(loads);
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.loadCount());
+        assertEquals(CALLERS - 1, singleFlight.joinCount());
+        assertEquals((double) (CALLERS - 1) / CALLERS, singleFlight.coalescingRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test Execute - Exception Of The Load Is Rethrown To Every Caller")
+    void testExceptionIsShared() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Loader<String, LocationNotFoundException> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw LocationNotFoundException.ofLocationCode("XX-XX-XX");
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("XX-XX-XX", LocationNotFoundException.class, loader)));
+            }
+            awaitWaiters(loads);
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(LocationNotFoundException.class, e.getCause());
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Test Execute - Waiter Loads Itself After Timeout")
+    void testTimeoutFallsBackToOwnLoad() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("US-NY-NY", RuntimeException.class, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            // Act
+            String value = singleFlight.execute("US-NY-NY", RuntimeException.class, () -> "fast");
+            release.countDown();
+
+            // Assert
+            assertEquals("fast", value);
+            assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, singleFlight.timeoutCount());
+        assertEquals(2, singleFlight.loadCount());
+    }
+
+    @Test
+    @DisplayName("Test Execute - Sequential Calls Each Load")
+    void testSequentialCallsAreNotCached() {
+        // Arrange
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("US-NY-NY", RuntimeException.class, loads::incrementAndGet);
+        int second = singleFlight.execute("US-NY-NY", RuntimeException.class, loads::incrementAndGet);
+
+        // Assert
+        assertEquals(2, second);
+        assertEquals(0, singleFlight.joinCount());
+    }
+
+    /**
+     * Waits until the leader is loading and every other caller had time to reach the flight it waits on.
+     */
+    private static void awaitWaiters(AtomicInteger loads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(200);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
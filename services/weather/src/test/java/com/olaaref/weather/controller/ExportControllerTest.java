@@ -0,0 +1,82 @@
+package com.olaaref.weather.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DisplayName("Export weather as NDJSON - Success")
+    @Test
+    void exportWeather_Ndjson() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/v1/export/weather").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("GB-ENG-LDN", first.get("code").asText());
+        assertEquals(15.8, first.get("temperature").asDouble());
+        assertEquals("2023-06-15T12:00:00Z", first.get("lastUpdated").asText());
+    }
+
+    @DisplayName("Export weather as gzipped CSV - Success")
+    @Test
+    void exportWeather_GzippedCsv() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/v1/export/weather").param("format", "csv").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        String csv;
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("CODE,COUNTRY_CODE,"));
+        assertTrue(lines[3].startsWith("US-NY-NY,US,United States,New York,New York City,"));
+    }
+
+    @DisplayName("Export weather - Unknown Format")
+    @Test
+    void exportWeather_UnknownFormat() throws Exception {
+        mockMvc.perform(get("/v1/export/weather").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -163,6 +163,9 @@ class LocationControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value("LOC_SEARCH_001"))
+                .andExpect(jsonPath("$.timestamp").exists())
                 .andDo(print());
     }
 
@@ -0,0 +1,97 @@
+package com.olaaref.weather.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.LocationImportResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class LocationImportControllerTest {
+    private static final String IMPORT_URI = "/v1/location/import";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("Import locations from CSV - Valid, invalid and duplicate rows")
+    @Test
+    void importLocations_Csv() throws Exception {
+        // Given
+        String csv = """
+                code,countryCode,countryName,regionName,cityName,latitude,longitude,zipCode,timeZone,enabled
+                FR-IDF-PAR,FR,France,Ile-de-France,Paris,48.8566,2.3522,75001,Europe/Paris,true
+                "DE-BE-BER",DE,Germany,Berlin,"Berlin, City",52.52,13.405,,Europe/Berlin,
+                FR-IDF-PAR,FR,France,Ile-de-France,Paris,48.8566,2.3522,75001,Europe/Paris,true
+                US-NY-NY,US,United States,New York,New York City,40.7128,-74.006,10001,America/New_York,true
+                XX,XXX,,,,abc,0,,,true
+                IT-LAZ-ROM,ITA,Italy,Lazio,Rome,41.9028,12.4964,,Europe/Rome,true
+                """;
+
+        // When
+        String body = mockMvc.perform(post(IMPORT_URI).contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        LocationImportResultDto result = objectMapper.readValue(body, LocationImportResultDto.class);
+
+        // Then
+        assertEquals(6, result.received());
+        assertEquals(2, result.imported());
+        assertEquals(4, result.rejected());
+        assertFalse(result.rejectedRowsTruncated());
+        assertEquals(
+                Arrays.asList("FR-IDF-PAR", "US-NY-NY", null, "IT-LAZ-ROM"),
+                result.rejectedRows().stream().map(LocationImportResultDto.RejectedRow::code).toList());
+        assertEquals("Berlin, City", jdbcTemplate.queryForObject(
+                "SELECT CITY_NAME FROM LOCATIONS WHERE CODE = 'DE-BE-BER'", String.class));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM CHANGE_LOG WHERE ENTITY_CODE IN ('FR-IDF-PAR', 'DE-BE-BER')", Integer.class));
+    }
+
+    @DisplayName("Import locations from NDJSON - Malformed line rejected")
+    @Test
+    void importLocations_Ndjson() throws Exception {
+        // Given
+        String ndjson = """
+                {"code":"ES-MD-MAD","countryCode":"ES","countryName":"Spain","regionName":"Madrid","cityName":"Madrid","latitude":40.4168,"longitude":-3.7038,"zipCode":"28001","timeZone":"Europe/Madrid","enabled":true}
+                {"code":"broken"
+                """;
+
+        // When
+        String body = mockMvc.perform(post(IMPORT_URI).contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        LocationImportResultDto result = objectMapper.readValue(body, LocationImportResultDto.class);
+
+        // Then
+        assertEquals(2, result.received());
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertTrue(result.rejectedRows().getFirst().errors().getFirst().startsWith("Malformed JSON"));
+    }
+
+    @DisplayName("Import locations - Unsupported content type")
+    @Test
+    void importLocations_UnsupportedContentType() throws Exception {
+        mockMvc.perform(post(IMPORT_URI).contentType("application/xml").content("<locations/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
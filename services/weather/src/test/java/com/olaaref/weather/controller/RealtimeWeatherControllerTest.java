@@ -14,7 +14,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -46,9 +45,6 @@ class RealtimeWeatherControllerTest {
     @MockitoBean
     private GeolocationService geolocationService;
 
-    @MockitoBean
-    private ModelMapper modelMapper;
-
     @DisplayName("Get weather by IP address - Success")
     @Test
     void getWeatherByIpAddress_Success() throws Exception {
@@ -64,7 +60,6 @@ class RealtimeWeatherControllerTest {
 
             when(geolocationService.getLocation(ipAddress)).thenReturn(location);
             when(realtimeWeatherService.getWeatherByLocation(location)).thenReturn(realtimeWeather);
-            when(modelMapper.map(realtimeWeather, RealtimeWeatherDto.class)).thenReturn(realtimeWeatherDto);
 
             // When/Then
             // Using the base endpoint with GET mapping
@@ -142,7 +137,6 @@ class RealtimeWeatherControllerTest {
 
             when(geolocationService.getLocation(ipAddress)).thenReturn(location);
             when(realtimeWeatherService.getWeatherByLocation(location)).thenReturn(realtimeWeather);
-            when(modelMapper.map(realtimeWeather, RealtimeWeatherDto.class)).thenReturn(realtimeWeatherDto);
 
             // When/Then
             // Verify that HTTP GET method works with the base endpoint
@@ -177,10 +171,9 @@ class RealtimeWeatherControllerTest {
 
         RealtimeWeather realtimeWeather = createTestRealtimeWeather(location);
         RealtimeWeatherDto realtimeWeatherDto = createTestRealtimeWeatherDto();
-        realtimeWeatherDto.setLocation("New York City, US");
+        realtimeWeatherDto.setLocation(locationCode);
 
         when(realtimeWeatherService.getWeatherByLocationCode(locationCode)).thenReturn(realtimeWeather);
-        when(modelMapper.map(realtimeWeather, RealtimeWeatherDto.class)).thenReturn(realtimeWeatherDto);
 
         // When/Then
         mockMvc.perform(get("/v1/weather/{locationCode}", locationCode)
@@ -235,14 +228,13 @@ class RealtimeWeatherControllerTest {
         updatedWeather.setStatus("Cloudy");
 
         RealtimeWeatherDto outputWeatherDto = createTestRealtimeWeatherDto();
-        outputWeatherDto.setLocation("New York City, US");
+        outputWeatherDto.setLocation(locationCode);
         outputWeatherDto.setTemperature(28.5);
         outputWeatherDto.setHumidity(70.0);
         outputWeatherDto.setStatus("Cloudy");
 
         when(realtimeWeatherService.updateWeatherByLocationCode(eq(locationCode), any(RealtimeWeatherRequestDto.class)))
                 .thenReturn(updatedWeather);
-        when(modelMapper.map(updatedWeather, RealtimeWeatherDto.class)).thenReturn(outputWeatherDto);
 
         // When/Then
         mockMvc.perform(put("/v1/weather/{locationCode}", locationCode)
@@ -307,7 +299,7 @@ class RealtimeWeatherControllerTest {
 
     private RealtimeWeatherDto createTestRealtimeWeatherDto() {
         RealtimeWeatherDto dto = new RealtimeWeatherDto();
-        dto.setLocation("Los Angeles, US");
+        dto.setLocation("US-CA-LA");
         dto.setTemperature(25.5);
         dto.setHumidity(65.0);
         dto.setPrecipitation(0.0);
@@ -0,0 +1,87 @@
+package com.olaaref.weather.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(h2("primarydb"), h2("replicadb")));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @DisplayName("Read-only transaction - Routed to the replica")
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        // When
+        String database = readOnlyTransaction.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("REPLICADB", database);
+    }
+
+    @DisplayName("Read-write transaction - Routed to the primary")
+    @Test
+    void writeTransaction_UsesPrimary() {
+        // When
+        String database = writeTransaction.execute(status -> currentDatabase());
+
+        // Then
+        assertEquals("PRIMARYDB", database);
+    }
+
+    @DisplayName("No transaction - Routed to the primary")
+    @Test
+    void noTransaction_UsesPrimary() {
+        assertEquals("PRIMARYDB", currentDatabase());
+    }
+
+    @DisplayName("Read-only transaction pinned to the primary - Routed to the primary")
+    @Test
+    void pinnedReadOnlyTransaction_UsesPrimary() {
+        // Given
+        ReadWriteRoutingDataSource.pinToPrimary();
+
+        // When
+        String database;
+        try {
+            database = readOnlyTransaction.execute(status -> currentDatabase());
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+        }
+
+        // Then
+        assertEquals("PRIMARYDB", database);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,31 @@
+package com.olaaref.weather.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LocationNotFoundExceptionTest {
+
+    @DisplayName("Location not found - No stack trace captured")
+    @Test
+    void ofLocationCode_HasNoStackTrace() {
+        // When
+        LocationNotFoundException exception = LocationNotFoundException.ofLocationCode("XX-YY-ZZ");
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @DisplayName("Location not found - Message built on demand")
+    @Test
+    void factories_BuildMessages() {
+        assertEquals("Location with code XX-YY-ZZ not found",
+                LocationNotFoundException.ofLocationCode("XX-YY-ZZ").getMessage());
+        assertEquals("Weather data not found for location code: XX-YY-ZZ",
+                LocationNotFoundException.ofWeatherByLocationCode("XX-YY-ZZ").getMessage());
+        assertEquals("Weather data not found for location: Paris, FR",
+                LocationNotFoundException.ofWeatherByCity("Paris", "FR").getMessage());
+        assertEquals("Custom", new LocationNotFoundException("Custom").getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+package com.olaaref.weather.filter;
+
+import com.olaaref.weather.net.ClientAddressResolver;
+import com.olaaref.weather.util.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientAddressFilterTest {
+
+    private final ClientAddressFilter filter = new ClientAddressFilter(
+            new ClientAddressResolver(List.of("10.0.0.0/8"), true));
+
+    @Test
+    @DisplayName("Test Repeated X-Forwarded-For - Walks The Last Line Appended By The Proxy")
+    void testRepeatedForwardedFor() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("X-Forwarded-For", "198.51.100.66");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.3");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("203.0.113.7", request.getAttribute(Utils.CLIENT_IP_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Test Repeated Forwarded - Walks The Last Line Appended By The Proxy")
+    void testRepeatedForwarded() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        request.addHeader("Forwarded", "for=198.51.100.66");
+        request.addHeader("Forwarded", "for=203.0.113.7");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("203.0.113.7", request.getAttribute(Utils.CLIENT_IP_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Test No Forwarding Headers - Uses The Peer Address")
+    void testNoForwardingHeaders() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertEquals("10.0.0.12", request.getAttribute(Utils.CLIENT_IP_ATTRIBUTE));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/weather/US-NY-NY");
+        request.setRemoteAddr("10.0.0.12");
+        return request;
+    }
+}
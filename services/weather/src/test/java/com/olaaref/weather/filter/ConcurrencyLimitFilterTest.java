@@ -0,0 +1,89 @@
+package com.olaaref.weather.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.olaaref.weather.commonlib.enums.ErrorCode;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    @DisplayName("Test Request Within Limit - Passes Through And Releases Permit")
+    void testRequestWithinLimit() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(10), objectMapper);
+        MockFilterChain filterChain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/weather"), response, filterChain);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertNotNull(filterChain.getRequest());
+        assertEquals(2, filter.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Test Request Over Limit - Rejected With 503")
+    void testRequestOverLimit() throws Exception {
+        // Arrange
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10), objectMapper);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> inFlight = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/v1/weather"), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // Act
+            MockFilterChain filterChain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/v1/weather"), response, filterChain);
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+            assertEquals("1", response.getHeader("Retry-After"));
+            assertTrue(response.getContentAsString().contains(ErrorCode.SERVICE_UNAVAILABLE.getCode()));
+            assertNull(filterChain.getRequest());
+
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(1, filter.getAvailablePermits());
+    }
+}
@@ -0,0 +1,125 @@
+package com.olaaref.weather.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.enums.ErrorCode;
+import com.olaaref.weather.config.RateLimitProperties;
+import com.olaaref.weather.ratelimit.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private ClientRateLimiter clientRateLimiter;
+    private RateLimitFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("weather", "/v1/weather/**")));
+        clientRateLimiter = new ClientRateLimiter(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(clientRateLimiter, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Test Request Over Limit - Rejected With 429 And Retry-After")
+    void testRequestOverLimit() throws Exception {
+        // Arrange
+        filter.doFilter(request("/v1/weather/US-NY-NY", "203.0.113.7"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request("/v1/weather/US-NY-NY", "203.0.113.7"), response, filterChain);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains(ErrorCode.TOO_MANY_REQUESTS.getCode()));
+        assertNull(filterChain.getRequest());
+        assertEquals(1.0, meterRegistry.get("weather.rate-limit.rejected").tag("rule", "weather").counter().count());
+    }
+
+    @Test
+    @DisplayName("Test Other Client - Has Its Own Bucket")
+    void testOtherClient() throws Exception {
+        // Arrange
+        filter.doFilter(request("/v1/weather/US-NY-NY", "203.0.113.7"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/v1/weather/US-NY-NY", "203.0.113.8"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Test Unmatched Path - Not Limited")
+    void testUnmatchedPath() throws Exception {
+        // Arrange
+        filter.doFilter(request("/v1/location", "203.0.113.7"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/v1/location", "203.0.113.7"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Test Client Key - IPv6 Addresses Grouped By /64 Prefix")
+    void testClientKey() {
+        assertEquals(clientRateLimiter.clientKey("2001:db8:1:2::1"),
+                clientRateLimiter.clientKey("2001:db8:1:2:aaaa:bbbb:cccc:dddd"));
+        assertNotEquals(clientRateLimiter.clientKey("2001:db8:1:2::1"), clientRateLimiter.clientKey("2001:db8:1:3::1"));
+        assertEquals(clientRateLimiter.clientKey("203.0.113.7"), clientRateLimiter.clientKey("::ffff:203.0.113.7"));
+        assertNotEquals(clientRateLimiter.clientKey("203.0.113.7"), clientRateLimiter.clientKey("203.0.113.8"));
+        assertNotEquals(clientRateLimiter.clientKey("0.0.0.1"), clientRateLimiter.clientKey("::1"));
+        assertEquals("not-an-ip", clientRateLimiter.clientKey("not-an-ip"));
+    }
+
+    @Test
+    @DisplayName("Test Match - Literal Prefix And Wildcard Patterns")
+    void testMatch() {
+        // Arrange
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("export", "/v1/*/export"), rule("weather", "/v1/weather/**")));
+        ClientRateLimiter limiter = new ClientRateLimiter(properties);
+
+        // Act & Assert
+        assertEquals("weather", limiter.match("/v1/weather").name());
+        assertEquals("weather", limiter.match("/v1/weather/US-NY-NY").name());
+        assertNull(limiter.match("/v1/weatherstations"));
+        assertEquals("export", limiter.match("/v1/location/export").name());
+        assertNull(limiter.match("/v1/location"));
+    }
+
+    private static RateLimitProperties.Rule rule(String name, String path) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPath(path);
+        rule.setRequestsPerSecond(1);
+        rule.setBurst(1);
+        return rule;
+    }
+
+    private static MockHttpServletRequest request(String path, String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+}
@@ -0,0 +1,124 @@
+package com.olaaref.weather.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver(
+            List.of("10.0.0.0/8", "192.168.1.0/24", "fd00::/8", "2001:db8:1::1"), true);
+
+    @Test
+    @DisplayName("Test Resolve - Skips Trusted Proxies In X-Forwarded-For Chain")
+    void testResolveForwardedForChain() {
+        // Act
+        String ip = resolver.resolve("10.0.0.12", null, "108.30.178.78, 203.0.113.7 ,10.0.0.3, 192.168.1.40");
+
+        // Assert
+        assertEquals("203.0.113.7", ip);
+    }
+
+    @Test
+    @DisplayName("Test Resolve - Ignores Headers From Untrusted Peer")
+    void testResolveUntrustedPeer() {
+        // Act
+        String ip = resolver.resolve("203.0.113.7", "for=108.30.178.78", "108.30.178.78");
+
+        // Assert
+        assertEquals("203.0.113.7", ip);
+    }
+
+    @Test
+    @DisplayName("Test Resolve - Parses Forwarded Header With Quotes, Brackets And Ports")
+    void testResolveForwardedHeader() {
+        // Act
+        String ipv6 = resolver.resolve("10.0.0.12",
+                "for=\"[2001:db8:cafe::17]:4711\";proto=https, For=10.0.0.3;by=10.0.0.12", "198.51.100.1");
+        String ipv4 = resolver.resolve("10.0.0.12", "proto=http; for=\"198.51.100.9:8080\"", null);
+
+        // Assert
+        assertEquals("2001:db8:cafe::17", ipv6);
+        assertEquals("198.51.100.9", ipv4);
+    }
+
+    @Test
+    @DisplayName("Test Resolve - Falls Back To X-Forwarded-For When Forwarded Is Disabled")
+    void testResolveForwardedHeaderDisabled() {
+        // Arrange
+        ClientAddressResolver xForwardedForOnly = new ClientAddressResolver(List.of("10.0.0.0/8"), false);
+
+        // Act
+        String ip = xForwardedForOnly.resolve("10.0.0.12", "for=198.51.100.9", "108.30.178.78");
+
+        // Assert
+        assertEquals("108.30.178.78", ip);
+    }
+
+    @Test
+    @DisplayName("Test Resolve - Stops At Unknown Or Obfuscated Hop")
+    void testResolveUnknownHop() {
+        // Act
+        String unknown = resolver.resolve("10.0.0.12", null, "108.30.178.78, unknown, 10.0.0.3");
+        String obfuscated = resolver.resolve("10.0.0.12", "for=_hidden, for=10.0.0.3", null);
+        String empty = resolver.resolve("10.0.0.12", null, " ");
+
+        // Assert
+        assertEquals("10.0.0.3", unknown);
+        assertEquals("10.0.0.3", obfuscated);
+        assertEquals("10.0.0.12", empty);
+    }
+
+    @Test
+    @DisplayName("Test Resolve - Returns Left-Most Hop When Every Hop Is Trusted")
+    void testResolveAllTrusted() {
+        // Act
+        String ip = resolver.resolve("10.0.0.12", null, "fd12::5, 10.1.2.3");
+
+        // Assert
+        assertEquals("fd12::5", ip);
+    }
+
+    @Test
+    @DisplayName("Test Is Trusted - Matches CIDR Blocks Of Both Families")
+    void testIsTrusted() {
+        // Act & Assert
+        assertTrue(resolver.isTrusted("10.255.255.255"));
+        assertTrue(resolver.isTrusted("192.168.1.7"));
+        assertFalse(resolver.isTrusted("192.168.2.7"));
+        assertFalse(resolver.isTrusted("11.0.0.1"));
+        assertTrue(resolver.isTrusted("fd00:0:0:0:0:0:0:1"));
+        assertTrue(resolver.isTrusted("[fdff::1]"));
+        assertFalse(resolver.isTrusted("fe80::1"));
+        assertTrue(resolver.isTrusted("2001:db8:1::1"));
+        assertFalse(resolver.isTrusted("2001:db8:1::2"));
+        assertTrue(resolver.isTrusted("::ffff:10.0.0.1"));
+        assertFalse(resolver.isTrusted("not-an-ip"));
+        assertFalse(resolver.isTrusted(null));
+    }
+
+    @Test
+    @DisplayName("Test Is Trusted - Tells IPv6 Addresses With A Zero High Word From IPv4")
+    void testIsTrustedIpv6Loopback() {
+        // Arrange
+        ClientAddressResolver loopback = new ClientAddressResolver(List.of("::1/128", "127.0.0.0/8"), true);
+
+        // Act & Assert
+        assertTrue(loopback.isTrusted("::1"));
+        assertTrue(loopback.isTrusted("127.0.0.1"));
+        assertFalse(loopback.isTrusted("0.0.0.1"));
+        assertFalse(loopback.isTrusted("::2"));
+        assertEquals("203.0.113.7", loopback.resolve("::1", null, "203.0.113.7"));
+    }
+
+    @Test
+    @DisplayName("Test Constructor - Rejects Invalid Trusted Proxy")
+    void testInvalidTrustedProxy() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("10.0.0.0/33"), true));
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("proxy.local"), true));
+    }
+}
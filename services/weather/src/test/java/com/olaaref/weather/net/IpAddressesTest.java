@@ -0,0 +1,74 @@
+package com.olaaref.weather.net;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IpAddressesTest {
+
+    private final long[] scratch = new long[IpAddresses.SCRATCH_LENGTH];
+
+    @Test
+    @DisplayName("Test Parse - IPv4 Literals")
+    void testParseIpv4() {
+        // Act & Assert
+        assertEquals(IpAddresses.IPV4, parse("108.30.178.78"));
+        assertEquals(0x6c1eb24eL, scratch[1]);
+        assertEquals(IpAddresses.IPV4, parse("255.255.255.255"));
+        assertEquals(0xffffffffL, scratch[1]);
+        assertEquals(IpAddresses.INVALID, parse("256.1.1.1"));
+        assertEquals(IpAddresses.INVALID, parse("1.2.3"));
+        assertEquals(IpAddresses.INVALID, parse("1.2.3.4.5"));
+        assertEquals(IpAddresses.INVALID, parse("1..3.4"));
+        assertEquals(IpAddresses.INVALID, parse("unknown"));
+    }
+
+    @Test
+    @DisplayName("Test Parse - IPv6 Literals Match The JDK")
+    void testParseIpv6() throws Exception {
+        // Arrange
+        String[] literals = {"::", "::1", "2001:db8::", "2001:db8:cafe::17", "fe80::1:2%eth0",
+                "2001:db8:0:0:1:0:0:1", "1:2:3:4:5:6:7:8", "1::8", "::2:3:4:5:6:7:8", "64:ff9b::192.0.2.33"};
+
+        for (String literal : literals) {
+            // Act
+            int family = parse(literal);
+
+            // Assert
+            ByteBuffer expected = ByteBuffer.wrap(InetAddress.getByName(literal.replaceFirst("%.*", "")).getAddress());
+            assertEquals(IpAddresses.IPV6, family, literal);
+            assertEquals(expected.getLong(0), scratch[0], literal);
+            assertEquals(expected.getLong(8), scratch[1], literal);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Parse - IPv4-Mapped IPv6 Is Reported As IPv4")
+    void testParseIpv4Mapped() {
+        // Act & Assert
+        assertEquals(IpAddresses.IPV4, parse("::ffff:10.0.0.1"));
+        assertEquals(0x0a000001L, scratch[1]);
+    }
+
+    @Test
+    @DisplayName("Test Parse - Rejects Malformed IPv6")
+    void testParseInvalidIpv6() {
+        // Act & Assert
+        assertEquals(IpAddresses.INVALID, parse("1:2:3:4:5:6:7"));
+        assertEquals(IpAddresses.INVALID, parse("1:2:3:4:5:6:7:8:9"));
+        assertEquals(IpAddresses.INVALID, parse("1::2::3"));
+        assertEquals(IpAddresses.INVALID, parse(":1:2:3:4:5:6:7"));
+        assertEquals(IpAddresses.INVALID, parse("1:2:3:4:5:6:7:"));
+        assertEquals(IpAddresses.INVALID, parse("12345::"));
+        assertEquals(IpAddresses.INVALID, parse("g::1"));
+        assertEquals(IpAddresses.INVALID, parse("1:2:3:4:5:6:7::8"));
+    }
+
+    private int parse(String literal) {
+        return IpAddresses.parse(literal, 0, literal.length(), scratch);
+    }
+}
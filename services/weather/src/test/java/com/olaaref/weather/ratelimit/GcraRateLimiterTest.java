@@ -0,0 +1,59 @@
+package com.olaaref.weather.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraRateLimiterTest {
+
+    private static final long START = 1_000_000_000_000L;
+
+    @Test
+    @DisplayName("Test Burst - Admitted Then Rejected With Wait Time")
+    void testBurst() {
+        // Arrange
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 3);
+
+        // Act & Assert
+        assertEquals(0, limiter.acquire("client", START));
+        assertEquals(0, limiter.acquire("client", START));
+        assertEquals(0, limiter.acquire("client", START));
+        long wait = limiter.acquire("client", START);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+        assertEquals(0, limiter.acquire("other", START));
+    }
+
+    @Test
+    @DisplayName("Test Sustained Rate - One Request Per Emission Interval")
+    void testSustainedRate() {
+        // Arrange
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 1);
+        long interval = TimeUnit.MILLISECONDS.toNanos(100);
+
+        // Act & Assert
+        assertEquals(0, limiter.acquire("client", START));
+        assertTrue(limiter.acquire("client", START + interval / 2) > 0);
+        assertEquals(0, limiter.acquire("client", START + interval));
+        assertEquals(0, limiter.acquire("client", START + 2 * interval));
+    }
+
+    @Test
+    @DisplayName("Test Sweep - Removes Only Full Buckets")
+    void testSweep() {
+        // Arrange
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 2);
+        limiter.acquire("idle", START);
+        limiter.acquire("busy", START + TimeUnit.SECONDS.toNanos(1));
+        limiter.acquire("busy", START + TimeUnit.SECONDS.toNanos(1));
+
+        // Act
+        int removed = limiter.sweep(START + TimeUnit.SECONDS.toNanos(1) + TimeUnit.MILLISECONDS.toNanos(150));
+
+        // Assert
+        assertEquals(1, removed);
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.olaaref.weather.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL generated for each repository query, with the same parameters, and fails when
+ * the plan scans a whole table. H2 in MySQL mode stands in for MySQL; its plans name the index used for each table
+ * and report {@code tableScan} otherwise.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanTest.StatementCaptureConfig.class)
+class QueryPlanTest {
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private RealtimeWeatherRepository realtimeWeatherRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Cached entities and query results would skip the SQL under test
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        StatementCaptureConfig.STATEMENTS.clear();
+    }
+
+    @DisplayName("findUntrashed - Uses the TRASHED index")
+    @Test
+    void findUntrashed() {
+        assertPlanUsesIndexes(() -> locationRepository.findUntrashed());
+    }
+
+    @DisplayName("findByCodeAndTrashed - Uses the primary key")
+    @Test
+    void findByCodeAndTrashed() {
+        assertPlanUsesIndexes(() -> locationRepository.findByCodeAndTrashed("US-CA-LA", false), "US-CA-LA", false);
+    }
+
+    @DisplayName("findUntrashedWithin - Uses the TRASHED, LATITUDE, LONGITUDE index")
+    @Test
+    void findUntrashedWithin() {
+        assertPlanUsesIndexes(() -> locationRepository.findUntrashedWithin(30.0, -120.0, 45.0, -70.0, Limit.of(10)),
+                30.0, 45.0, -120.0, -70.0, 10);
+    }
+
+    @DisplayName("findByLocationCityNameAndLocationCountryCode - Uses the COUNTRY_CODE, CITY_NAME index")
+    @Test
+    void findByLocationCityNameAndLocationCountryCode() {
+        assertPlanUsesIndexes(() -> realtimeWeatherRepository.findByLocationCityNameAndLocationCountryCode("Los Angeles", "US"),
+                "Los Angeles", "US");
+    }
+
+    @DisplayName("findByLocationCodeAndLocationTrashedFalse - Uses the primary keys")
+    @Test
+    void findByLocationCodeAndLocationTrashedFalse() {
+        assertPlanUsesIndexes(() -> realtimeWeatherRepository.findByLocationCodeAndLocationTrashedFalse("US-CA-LA"),
+                "US-CA-LA");
+    }
+
+    @DisplayName("findChangesSince - Uses the SEQ primary key range")
+    @Test
+    void findChangesSince() {
+        assertPlanUsesIndexes(() -> changeLogRepository.findChangesSince(0L, Limit.of(10)), 0L, 10);
+    }
+
+    /**
+     * Runs the query, then explains the first statement it issued with the given parameters in binding order.
+     */
+    private void assertPlanUsesIndexes(Runnable query, Object... parameters) {
+        query.run();
+        assertFalse(StatementCaptureConfig.STATEMENTS.isEmpty(), "The query did not reach the database");
+
+        String sql = StatementCaptureConfig.STATEMENTS.getFirst();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+        assertNotNull(plan);
+        assertFalse(plan.contains(".tableScan"), () -> "Full table scan in plan:\n" + plan);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StatementCaptureConfig {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
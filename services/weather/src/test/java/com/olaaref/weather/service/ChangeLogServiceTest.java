@@ -0,0 +1,163 @@
+package com.olaaref.weather.service;
+
+import com.olaaref.weather.commonlib.dto.ChangesDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
+import com.olaaref.weather.commonlib.model.ChangeLogEntry;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.commonlib.model.RealtimeWeather;
+import com.olaaref.weather.config.ChangeFeedProperties;
+import com.olaaref.weather.repository.ChangeLogRepository;
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private RealtimeWeatherRepository realtimeWeatherRepository;
+
+    private ChangeLogService changeLogService;
+
+    @BeforeEach
+    void setUp() {
+        changeLogService = new ChangeLogService(changeLogRepository, locationRepository, realtimeWeatherRepository, new ChangeFeedProperties());
+    }
+
+    @Test
+    @DisplayName("Test Get Changes - Current Rows, Tombstones And Next Sequence")
+    void testGetChanges() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        List<ChangeLogEntry> entries = List.of(
+                new ChangeLogEntry(11L, ChangeEntityType.LOCATION, "US-CA-LA", ChangeOperation.UPSERT, now),
+                new ChangeLogEntry(12L, ChangeEntityType.REALTIME_WEATHER, "US-NY-NY", ChangeOperation.UPSERT, now),
+                new ChangeLogEntry(13L, ChangeEntityType.LOCATION, "US-CA-LA", ChangeOperation.UPSERT, now),
+                new ChangeLogEntry(14L, ChangeEntityType.LOCATION, "GB-ENG-LDN", ChangeOperation.TRASH, now));
+        when(changeLogRepository.findChangesSince(eq(10L), eq(Limit.of(11))))
+                .thenReturn(entries);
+
+        Location losAngeles = new Location("US-CA-LA", "US", "United States", "California", "Los Angeles",
+                34.052235, -118.243683, "90001", "America/Los_Angeles", true, false);
+        Location london = new Location("GB-ENG-LDN", "GB", "United Kingdom", "England", "London",
+                51.507351, -0.127758, "SW1A 1AA", "Europe/London", true, true);
+        when(locationRepository.findAllById(Set.of("US-CA-LA", "GB-ENG-LDN"))).thenReturn(List.of(losAngeles, london));
+
+        RealtimeWeather newYork = new RealtimeWeather("US-NY-NY", 18.2, 72.5, 2.5, 15.7, "Rainy", now, null);
+        when(realtimeWeatherRepository.findAllById(Set.of("US-NY-NY"))).thenReturn(List.of(newYork));
+
+        // Act
+        ChangesDto changes = changeLogService.getChanges(10L, 10);
+
+        // Assert
+        assertEquals(10L, changes.since());
+        assertEquals(14L, changes.next());
+        assertFalse(changes.hasMore());
+        assertEquals(1, changes.locations().size());
+        assertEquals("US-CA-LA", changes.locations().getFirst().code());
+        assertEquals(1, changes.realtimeWeather().size());
+        assertEquals("US-NY-NY", changes.realtimeWeather().getFirst().getLocation());
+        assertEquals(List.of("GB-ENG-LDN"), changes.trashedLocations());
+    }
+
+    @Test
+    @DisplayName("Test Get Changes - More Entries Than Limit")
+    void testGetChanges_HasMore() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findChangesSince(anyLong(), eq(Limit.of(2))))
+                .thenReturn(List.of(
+                        new ChangeLogEntry(1L, ChangeEntityType.REALTIME_WEATHER, "US-NY-NY", ChangeOperation.UPSERT, now),
+                        new ChangeLogEntry(2L, ChangeEntityType.REALTIME_WEATHER, "US-CA-LA", ChangeOperation.UPSERT, now)));
+        when(realtimeWeatherRepository.findAllById(Set.of("US-NY-NY"))).thenReturn(List.of());
+
+        // Act
+        ChangesDto changes = changeLogService.getChanges(0L, 1);
+
+        // Assert
+        assertTrue(changes.hasMore());
+        assertEquals(1L, changes.next());
+        verify(locationRepository, times(1)).findAllById(Set.of());
+    }
+
+    @Test
+    @DisplayName("Test Get Changes - Nothing New")
+    void testGetChanges_Empty() {
+        // Arrange
+        when(changeLogRepository.findChangesSince(anyLong(), any(Limit.class)))
+                .thenReturn(List.of());
+
+        // Act
+        ChangesDto changes = changeLogService.getChanges(42L, 100);
+
+        // Assert
+        assertEquals(42L, changes.next());
+        assertFalse(changes.hasMore());
+        assertTrue(changes.locations().isEmpty());
+        assertTrue(changes.trashedLocations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Get Changes - Stops Before A Recent Sequence Gap")
+    void testGetChanges_RecentGap() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findChangesSince(eq(10L), eq(Limit.of(11))))
+                .thenReturn(List.of(
+                        new ChangeLogEntry(11L, ChangeEntityType.REALTIME_WEATHER, "US-NY-NY", ChangeOperation.UPSERT, now),
+                        new ChangeLogEntry(13L, ChangeEntityType.REALTIME_WEATHER, "US-CA-LA", ChangeOperation.UPSERT, now)));
+        when(changeLogRepository.currentTimestamp()).thenReturn(now.plusSeconds(1));
+        when(realtimeWeatherRepository.findAllById(Set.of("US-NY-NY"))).thenReturn(List.of());
+
+        // Act
+        ChangesDto changes = changeLogService.getChanges(10L, 10);
+
+        // Assert
+        assertEquals(11L, changes.next());
+        assertFalse(changes.hasMore());
+    }
+
+    @Test
+    @DisplayName("Test Get Changes - Moves Past A Sequence Gap Older Than The Gap Timeout")
+    void testGetChanges_SettledGap() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime old = now.minusMinutes(1);
+        when(changeLogRepository.findChangesSince(eq(10L), eq(Limit.of(11))))
+                .thenReturn(List.of(
+                        new ChangeLogEntry(11L, ChangeEntityType.REALTIME_WEATHER, "US-NY-NY", ChangeOperation.UPSERT, old),
+                        new ChangeLogEntry(13L, ChangeEntityType.REALTIME_WEATHER, "US-CA-LA", ChangeOperation.UPSERT, old)));
+        when(changeLogRepository.currentTimestamp()).thenReturn(now);
+        when(realtimeWeatherRepository.findAllById(Set.of("US-NY-NY", "US-CA-LA"))).thenReturn(List.of());
+
+        // Act
+        ChangesDto changes = changeLogService.getChanges(10L, 10);
+
+        // Assert
+        assertEquals(13L, changes.next());
+        assertFalse(changes.hasMore());
+    }
+}
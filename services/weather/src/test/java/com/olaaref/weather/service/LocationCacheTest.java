@@ -0,0 +1,76 @@
+package com.olaaref.weather.service;
+
+import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.exception.LocationNotFoundException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LocationCacheTest {
+    private static final String CODE = "JP-13-TYO";
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        locationService.saveLocation(new LocationDto(CODE, "JP", "Japan", "Tokyo", "Tokyo", 35.6762, 139.6503,
+                "100-0001", "Asia/Tokyo", true, false));
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM CHANGE_LOG WHERE ENTITY_CODE = ?", CODE);
+        jdbcTemplate.update("DELETE FROM LOCATIONS WHERE CODE = ?", CODE);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("Get location by code - Served from the query and entity caches")
+    @Test
+    void getLocationByCode_SecondLookupHitsCache() {
+        // When
+        assertTrue(locationService.getLocationByCode(CODE).isPresent());
+        assertTrue(locationService.getLocationByCode(CODE).isPresent());
+
+        // Then
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("location").getHitCount());
+    }
+
+    @DisplayName("Trash location - Bulk update invalidates the cached lookup")
+    @Test
+    void trashLocation_InvalidatesCachedLookup() throws LocationNotFoundException {
+        // Given
+        assertTrue(locationService.getLocationByCode(CODE).isPresent());
+
+        // When
+        locationService.trashLocation(CODE);
+
+        // Then
+        assertTrue(locationService.getLocationByCode(CODE).isEmpty());
+        assertFalse(entityManagerFactory.getCache().contains(Location.class, CODE));
+    }
+}
@@ -1,6 +1,9 @@
 package com.olaaref.weather.service;
 
+import com.olaaref.weather.cache.NegativeLookupCache;
 import com.olaaref.weather.commonlib.dto.LocationDto;
+import com.olaaref.weather.commonlib.enums.ChangeEntityType;
+import com.olaaref.weather.commonlib.enums.ChangeOperation;
 import com.olaaref.weather.commonlib.model.Location;
 import com.olaaref.weather.exception.LocationNotFoundException;
 import com.olaaref.weather.repository.LocationRepository;
@@ -24,6 +27,12 @@ class LocationServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private LocationService locationService;
 
@@ -148,6 +157,7 @@ class LocationServiceTest {
         assertEquals("90002", result.getZipCode());
         verify(locationRepository, times(1)).findByCodeAndTrashed(locationCode, false);
         verify(locationRepository, times(1)).save(any(Location.class));
+        verify(changeLogService, times(1)).record(ChangeEntityType.LOCATION, locationCode, ChangeOperation.UPSERT);
     }
     
     @DisplayName("Update non-existing location")
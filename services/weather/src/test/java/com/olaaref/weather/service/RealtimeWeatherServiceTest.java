@@ -1,5 +1,6 @@
 package com.olaaref.weather.service;
 
+import com.olaaref.weather.cache.NegativeLookupCache;
 import com.olaaref.weather.commonlib.model.RealtimeWeather;
 import com.olaaref.weather.exception.LocationNotFoundException;
 import com.olaaref.weather.repository.RealtimeWeatherRepository;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +22,15 @@ class RealtimeWeatherServiceTest {
     @Mock
     private RealtimeWeatherRepository realtimeWeatherRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
     @InjectMocks
     private RealtimeWeatherService realtimeWeatherService;
 
@@ -0,0 +1,68 @@
+package com.olaaref.weather.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import com.olaaref.weather.config.WeatherStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealtimeWeatherBroadcasterTest {
+
+    private WeatherStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RealtimeWeatherBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WeatherStreamProperties();
+        properties.setMaxSubscribers(2);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new RealtimeWeatherBroadcaster(new ObjectMapper().registerModule(new JavaTimeModule()), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("Test Subscribe - Rejected Over Subscriber Limit")
+    void testSubscribe_OverLimit() {
+        // Act
+        SseEmitter first = broadcaster.subscribe(List.of("US-NY-NY"));
+        SseEmitter second = broadcaster.subscribe(List.of("US-NY-NY", "US-CA-LA"));
+        SseEmitter third = broadcaster.subscribe(List.of("US-CA-LA"));
+
+        // Assert
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(third);
+        assertEquals(2, broadcaster.getSubscriberCount());
+        assertEquals(2.0, meterRegistry.get("weather.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Test Update Without Subscribers - Ignored")
+    void testUpdateWithoutSubscribers() {
+        // Arrange
+        broadcaster.subscribe(List.of("US-NY-NY"));
+        RealtimeWeatherDto realtimeWeather = new RealtimeWeatherDto("US-CA-LA", 25.5, 65.0, 0.0, 10.0, "Sunny", LocalDateTime.now());
+
+        // Act
+        broadcaster.onRealtimeWeatherUpdated(new RealtimeWeatherUpdatedEvent(realtimeWeather));
+
+        // Assert
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(0.0, meterRegistry.get("weather.stream.evictions").counter().count());
+    }
+}
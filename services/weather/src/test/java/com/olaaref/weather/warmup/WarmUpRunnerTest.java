@@ -0,0 +1,138 @@
+package com.olaaref.weather.warmup;
+
+import com.olaaref.weather.commonlib.model.Location;
+import com.olaaref.weather.config.WarmUpProperties;
+import com.olaaref.weather.repository.LocationRepository;
+import com.olaaref.weather.repository.RealtimeWeatherRepository;
+import com.olaaref.weather.service.GeolocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private RealtimeWeatherRepository realtimeWeatherRepository;
+
+    @Mock
+    private GeolocationService geolocationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WarmUpProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmUpProperties();
+        properties.getEntities().setMaxLocations(3);
+        properties.getEntities().setPageSize(2);
+        properties.getGeolocation().setSamples(4);
+    }
+
+    @Test
+    @DisplayName("Test Run - Preloads Entities And Geolocation While Refusing Traffic")
+    void testRun() {
+        // Arrange
+        when(locationRepository.findUntrashedAfter("", Limit.of(2)))
+                .thenReturn(List.of(location("US-CA-LA"), location("US-NY-NY")));
+        when(locationRepository.findUntrashedAfter("US-NY-NY", Limit.of(1)))
+                .thenReturn(List.of(location("US-WA-SE")));
+        WarmUpRunner runner = createRunner();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        runner.bindTo(registry);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, ((AvailabilityChangeEvent<?>) event.getValue()).getState());
+        verify(realtimeWeatherRepository).findAllById(List.of("US-CA-LA", "US-NY-NY"));
+        verify(realtimeWeatherRepository).findAllById(List.of("US-WA-SE"));
+        verify(geolocationService, times(4)).warmUp(anyString());
+        assertTrue(runner.isCompleted());
+        assertEquals(1, runner.getProgress(WarmUpRunner.Step.ENTITIES));
+        assertEquals(1, runner.getProgress(WarmUpRunner.Step.GEOLOCATION));
+        assertEquals(0, runner.getProgress(WarmUpRunner.Step.ENDPOINTS));
+        assertEquals(3, registry.get("weather.warm-up.items").tag("step", "entities").functionCounter().count());
+        assertEquals(1, registry.get("weather.warm-up.completed").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Test Run - Exhausted Budget Skips Remaining Steps")
+    void testRunOverBudget() {
+        // Arrange
+        properties.setBudget(Duration.ZERO);
+        WarmUpRunner runner = createRunner();
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        verifyNoInteractions(locationRepository, geolocationService);
+        assertTrue(runner.isCompleted());
+        assertEquals(0, runner.getProgress(WarmUpRunner.Step.ENTITIES));
+    }
+
+    @Test
+    @DisplayName("Test Run - Failure Does Not Prevent Startup")
+    void testRunFailure() {
+        // Arrange
+        when(locationRepository.findUntrashedAfter("", Limit.of(2))).thenThrow(new IllegalStateException("Database down"));
+        WarmUpRunner runner = createRunner();
+
+        // Act & Assert
+        assertDoesNotThrow(() -> runner.run(new DefaultApplicationArguments()));
+        assertTrue(runner.isCompleted());
+    }
+
+    @Test
+    @DisplayName("Test Sample Address - Middle Of Equal IPv4 Slices")
+    void testSampleAddress() {
+        // Act & Assert
+        assertEquals("128.0.0.0", WarmUpRunner.sampleAddress(0, 1));
+        assertEquals("32.0.0.0", WarmUpRunner.sampleAddress(0, 4));
+        assertEquals("224.0.0.0", WarmUpRunner.sampleAddress(3, 4));
+    }
+
+    private WarmUpRunner createRunner() {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new WarmUpRunner(properties, locationRepository, realtimeWeatherRepository, geolocationService,
+                readOnlyTransaction, eventPublisher, new MockEnvironment());
+    }
+
+    private static Location location(String code) {
+        return Location.builder().code(code).build();
+    }
+}
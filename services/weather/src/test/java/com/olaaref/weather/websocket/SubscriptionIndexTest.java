@@ -0,0 +1,104 @@
+package com.olaaref.weather.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubscriptionIndexTest {
+
+    private SubscriptionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SubscriptionIndex(1.0, 16);
+    }
+
+    @Test
+    @DisplayName("Test Collect - Code And Bounding Box Subscriptions")
+    void testCollect_CodeAndBox() {
+        // Arrange
+        WeatherSubscription byCode = subscribeCode("US-NY-NY");
+        WeatherSubscription byBox = subscribeBox(new BoundingBox(40.0, -75.0, 41.5, -73.0));
+        WeatherSubscription elsewhere = subscribeBox(new BoundingBox(33.0, -119.0, 35.0, -117.0));
+
+        // Act
+        Set<WeatherSubscription> result = collect("US-NY-NY", 40.7128, -74.0060);
+
+        // Assert
+        assertEquals(Set.of(byCode, byBox), result);
+        assertFalse(result.contains(elsewhere));
+    }
+
+    @Test
+    @DisplayName("Test Collect - Point In Cell But Outside Box")
+    void testCollect_PointOutsideBox() {
+        // Arrange
+        subscribeBox(new BoundingBox(40.0, -74.5, 40.5, -74.2));
+
+        // Act
+        Set<WeatherSubscription> result = collect("US-NY-NY", 40.7128, -74.0060);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Collect - Wide Bounding Box")
+    void testCollect_WideBox() {
+        // Arrange
+        WeatherSubscription world = subscribeBox(new BoundingBox(-90.0, -180.0, 90.0, 180.0));
+
+        // Act
+        Set<WeatherSubscription> result = collect("JP-TK-TK", 35.6762, 139.6503);
+
+        // Assert
+        assertEquals(Set.of(world), result);
+    }
+
+    @Test
+    @DisplayName("Test Remove - No Longer Collected")
+    void testRemove() {
+        // Arrange
+        WeatherSubscription subscription = subscribeBox(new BoundingBox(40.0, -75.0, 41.5, -73.0));
+        subscription.getCodes().add("US-NY-NY");
+        index.addCode(subscription, "US-NY-NY");
+
+        // Act
+        index.remove(subscription);
+
+        // Assert
+        assertTrue(collect("US-NY-NY", 40.7128, -74.0060).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Bounding Box - Invalid Coordinates Rejected")
+    void testInvalidBoundingBox() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundingBox(41.0, -74.0, 40.0, -73.0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundingBox(40.0, 170.0, 41.0, -170.0));
+    }
+
+    private WeatherSubscription subscribeCode(String code) {
+        WeatherSubscription subscription = new WeatherSubscription(null, 1);
+        subscription.getCodes().add(code);
+        index.addCode(subscription, code);
+        return subscription;
+    }
+
+    private WeatherSubscription subscribeBox(BoundingBox box) {
+        WeatherSubscription subscription = new WeatherSubscription(null, 1);
+        subscription.getBoxes().add(box);
+        index.addBox(subscription, box);
+        return subscription;
+    }
+
+    private Set<WeatherSubscription> collect(String code, double latitude, double longitude) {
+        Set<WeatherSubscription> result = new HashSet<>();
+        index.collect(code, latitude, longitude, result);
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package com.olaaref.weather.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olaaref.weather.commonlib.dto.RealtimeWeatherDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherMessagesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WeatherMessages messages = new WeatherMessages(objectMapper);
+
+    @Test
+    @DisplayName("Test Delta - Only Changed Fields")
+    void testDelta_OnlyChangedFields() throws Exception {
+        // Arrange
+        RealtimeWeatherDto previous = createWeather(18.2, "Rainy");
+        RealtimeWeatherDto current = createWeather(19.0, "Rainy");
+
+        // Act
+        JsonNode delta = objectMapper.readTree(messages.delta(previous, current).getPayload());
+
+        // Assert
+        assertEquals("delta", delta.get("t").asText());
+        assertEquals("US-NY-NY", delta.get("c").asText());
+        assertEquals(19.0, delta.get("te").asDouble());
+        assertFalse(delta.has("hu"));
+        assertFalse(delta.has("pr"));
+        assertFalse(delta.has("ws"));
+        assertFalse(delta.has("st"));
+        assertTrue(delta.has("u"));
+    }
+
+    @Test
+    @DisplayName("Test Delta - All Fields Without Previous")
+    void testDelta_WithoutPrevious() throws Exception {
+        // Act
+        JsonNode delta = objectMapper.readTree(messages.delta(null, createWeather(18.2, "Rainy")).getPayload());
+
+        // Assert
+        assertTrue(delta.has("te"));
+        assertTrue(delta.has("hu"));
+        assertTrue(delta.has("pr"));
+        assertTrue(delta.has("ws"));
+        assertEquals("Rainy", delta.get("st").asText());
+    }
+
+    private RealtimeWeatherDto createWeather(double temperature, String status) {
+        RealtimeWeatherDto dto = new RealtimeWeatherDto();
+        dto.setLocation("US-NY-NY");
+        dto.setTemperature(temperature);
+        dto.setHumidity(65.0);
+        dto.setPrecipitation(0.0);
+        dto.setWindSpeed(10.0);
+        dto.setStatus(status);
+        dto.setLastUpdated(LocalDateTime.of(2025, 1, 15, 10, 30));
+        return dto;
+    }
+}